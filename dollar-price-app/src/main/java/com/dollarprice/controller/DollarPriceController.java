@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
@@ -21,10 +22,10 @@ public class DollarPriceController {
     private final DollarPriceRepository dollarPriceRepository;
     
     @GetMapping("/prices")
-    public ResponseEntity<List<DollarPrice>> getPrices() {
-        // Get prices from the last 7 days
-        Instant sevenDaysAgo = Instant.now().minusSeconds(7 * 24 * 60 * 60);
-        List<DollarPrice> prices = dollarPriceRepository.findPricesFromDate(sevenDaysAgo);
+    public ResponseEntity<List<DollarPrice>> getPrices(@RequestParam(required = false) Instant since) {
+        // Get prices from the last 7 days unless a start is given (e.g. for FX rate history)
+        Instant from = since != null ? since : Instant.now().minusSeconds(7 * 24 * 60 * 60);
+        List<DollarPrice> prices = dollarPriceRepository.findPricesFromDate(from);
         return ResponseEntity.ok(prices);
     }
     
@@ -67,6 +67,23 @@ class DollarPriceControllerIT {
                 .andExpect(jsonPath("$[1]").doesNotExist()); // Old price should not be included
     }
     
+    @Test
+    void getPrices_ShouldReturnPricesSinceGivenInstant() throws Exception {
+        // Given
+        DollarPrice oldPrice = new DollarPrice();
+        oldPrice.setPrice(new BigDecimal("1.32"));
+        oldPrice.setTimestamp(Instant.now().minusSeconds(10 * 24 * 60 * 60)); // 10 days ago
+        dollarPriceRepository.save(oldPrice);
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("since", Instant.now().minusSeconds(30 * 24 * 60 * 60).toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].price").value("1.32"))
+                .andExpect(jsonPath("$[1]").doesNotExist());
+    }
+    
     @Test
     void getPrices_ShouldReturnEmptyArray_WhenNoPrices() throws Exception {
         // When & Then
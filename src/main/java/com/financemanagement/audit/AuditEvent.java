@@ -0,0 +1,22 @@
+package com.financemanagement.audit;
+
+import java.time.Instant;
+
+/**
+ * One audited request, recorded after the response has been produced.
+ * Bodies are null unless they were sampled for capture.
+ */
+public record AuditEvent(
+        String requestId,
+        Instant timestamp,
+        String method,
+        String uri,
+        String query,
+        String clientIp,
+        String principal,
+        String userAgent,
+        int status,
+        long durationMillis,
+        String requestBody,
+        String responseBody) {
+}
@@ -0,0 +1,128 @@
+package com.financemanagement.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands audit events from request threads to a single background thread that writes them to the
+ * {@link AuditSink} in batches.
+ * <p>
+ * {@link #publish} never blocks: when the buffer is full the event is dropped and counted in
+ * {@code finance.audit.dropped}, so a slow sink cannot add latency to requests.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    private final AuditSink sink;
+    private final AuditProperties properties;
+    private final AuditRingBuffer<AuditEvent> buffer;
+    private final Counter droppedEvents;
+    private final Counter writtenEvents;
+    private final Counter failedEvents;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(AuditSink sink, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.sink = sink;
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer<>(properties.getBufferSize());
+        this.droppedEvents = Counter.builder("finance.audit.dropped")
+                .description("Audit events dropped because the buffer was full")
+                .register(meterRegistry);
+        this.writtenEvents = Counter.builder("finance.audit.written")
+                .description("Audit events written to the audit sink")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("finance.audit.failed")
+                .description("Audit events lost because the audit sink failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("finance.audit.batch.write")
+                .description("Time taken to write one batch of audit events")
+                .register(meterRegistry);
+        Gauge.builder("finance.audit.buffer.size", buffer, AuditRingBuffer::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public boolean publish(AuditEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        droppedEvents.increment();
+        return false;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::run, "FinanceAuditWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit writer started with bufferSize={}, batchSize={}, flushInterval={}",
+                buffer.capacity(), properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (sink instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Error closing audit sink: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            if (flush(batch) < properties.getBatchSize()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        // Write whatever was published before shutdown
+        while (flush(batch) > 0) {
+            // keep draining
+        }
+    }
+
+    /**
+     * Drain and write one batch; returns the number of events drained
+     */
+    int flush(List<AuditEvent> batch) {
+        batch.clear();
+        int drained = buffer.drainTo(batch, properties.getBatchSize());
+        if (drained == 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            sink.write(batch);
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            writtenEvents.increment(drained);
+        } catch (Exception e) {
+            failedEvents.increment(drained);
+            log.error("Failed to write {} audit events: {}", drained, e.getMessage());
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,120 @@
+package com.financemanagement.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "audit")
+@Data
+public class AuditProperties {
+
+    /**
+     * Capacity of the in-memory event buffer; rounded up to a power of two. Events are dropped when it is full
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * Maximum number of events written to the sink in one batch
+     */
+    private int batchSize = 256;
+
+    /**
+     * How long the writer waits for more events before flushing a partial batch
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * JSON-lines file the sink appends to when the segment store is disabled
+     */
+    private String file = "logs/audit/audit.jsonl";
+
+    /**
+     * fsync the audit file after every batch
+     */
+    private boolean fsync = false;
+
+    private Body body = new Body();
+
+    private Store store = new Store();
+
+    @Data
+    public static class Body {
+
+        /**
+         * Capture request bodies
+         */
+        private boolean requestEnabled = true;
+
+        /**
+         * Capture response bodies
+         */
+        private boolean responseEnabled = false;
+
+        /**
+         * Fraction of requests whose bodies are captured, between 0.0 and 1.0
+         */
+        private double sampleRate = 0.1;
+
+        /**
+         * Bytes of each body kept; the rest is streamed through without being copied
+         */
+        private int maxBytes = 4096;
+
+        /**
+         * Only bodies with one of these content types are captured
+         */
+        private List<String> contentTypes = new ArrayList<>(List.of("application/json"));
+    }
+
+    @Data
+    public static class Store {
+
+        /**
+         * Write audit events to memory-mapped segments instead of the JSON-lines file
+         */
+        private boolean enabled = true;
+
+        private String directory = "logs/audit/segments";
+
+        /**
+         * Size each segment file is mapped at; a segment is sealed when full
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * A segment is also sealed once it has been open this long
+         */
+        private Duration rotateInterval = Duration.ofHours(1);
+
+        /**
+         * Bytes between sparse index checkpoints within a segment
+         */
+        private DataSize checkpointInterval = DataSize.ofKilobytes(64);
+
+        /**
+         * Principals tracked per segment before the segment is treated as containing any principal
+         */
+        private int maxIndexedPrincipals = 1024;
+
+        /**
+         * gzip sealed segments
+         */
+        private boolean compress = true;
+
+        /**
+         * Sealed segments whose newest record is older than this are deleted
+         */
+        private Duration retention = Duration.ofDays(400);
+
+        /**
+         * Upper bound on records returned by one query
+         */
+        private int maxQueryResults = 10_000;
+    }
+}
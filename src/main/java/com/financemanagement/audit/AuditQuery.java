@@ -0,0 +1,13 @@
+package com.financemanagement.audit;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Audit records between {@code from} and {@code to} (inclusive), optionally for a single principal.
+ */
+public record AuditQuery(Instant from, Instant to, String principal, int limit) {
+
+    public record Result(List<AuditEvent> events, int segmentsScanned, int segmentsSkipped, boolean truncated) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.financemanagement.audit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Binary layout of an audit record inside a segment.
+ * <p>
+ * {@code [int length][long timestamp][string principal][remaining fields...]}, where {@code length} counts the
+ * bytes after itself and strings are {@code [int byteLength or -1 for null][UTF-8 bytes]}. Timestamp and principal
+ * come first so queries can reject a record without decoding the rest. A zero length marks the end of a segment.
+ */
+public final class AuditRecordCodec {
+
+    private AuditRecordCodec() {
+    }
+
+    /**
+     * Header of a record: enough to decide whether it matches a query
+     */
+    public record RecordHeader(int length, long timestamp, String principal, int headerBytes) {
+
+        public int remainingBytes() {
+            return length - headerBytes;
+        }
+    }
+
+    /**
+     * Encode {@code event} including its length prefix; {@code buffer} is reset and reused
+     */
+    public static byte[] encode(AuditEvent event, ByteArrayOutputStream buffer) throws IOException {
+        buffer.reset();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(0);
+        out.writeLong(event.timestamp().toEpochMilli());
+        writeString(out, event.principal());
+        writeString(out, event.requestId());
+        writeString(out, event.method());
+        writeString(out, event.uri());
+        writeString(out, event.query());
+        writeString(out, event.clientIp());
+        writeString(out, event.userAgent());
+        out.writeInt(event.status());
+        out.writeLong(event.durationMillis());
+        writeString(out, event.requestBody());
+        writeString(out, event.responseBody());
+        out.flush();
+
+        byte[] bytes = buffer.toByteArray();
+        int length = bytes.length - Integer.BYTES;
+        bytes[0] = (byte) (length >>> 24);
+        bytes[1] = (byte) (length >>> 16);
+        bytes[2] = (byte) (length >>> 8);
+        bytes[3] = (byte) length;
+        return bytes;
+    }
+
+    /**
+     * Read the next record header, or null at the end of the segment
+     */
+    public static RecordHeader readHeader(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0) {
+            return null;
+        }
+        long timestamp = in.readLong();
+        int principalLength = in.readInt();
+        String principal = readString(in, principalLength);
+        int headerBytes = Long.BYTES + Integer.BYTES + Math.max(0, principalLength);
+        return new RecordHeader(length, timestamp, principal, headerBytes);
+    }
+
+    /**
+     * Decode the rest of the record whose header was just read
+     */
+    public static AuditEvent readBody(RecordHeader header, DataInputStream in) throws IOException {
+        String requestId = readString(in);
+        String method = readString(in);
+        String uri = readString(in);
+        String query = readString(in);
+        String clientIp = readString(in);
+        String userAgent = readString(in);
+        int status = in.readInt();
+        long durationMillis = in.readLong();
+        String requestBody = readString(in);
+        String responseBody = readString(in);
+        return new AuditEvent(requestId, Instant.ofEpochMilli(header.timestamp()), method, uri, query, clientIp,
+                header.principal(), userAgent, status, durationMillis, requestBody, responseBody);
+    }
+
+    public static void skipBody(RecordHeader header, DataInputStream in) throws IOException {
+        in.skipNBytes(header.remainingBytes());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return readString(in, in.readInt());
+    }
+
+    private static String readString(DataInputStream in, int length) throws IOException {
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
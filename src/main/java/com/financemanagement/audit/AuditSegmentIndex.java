@@ -0,0 +1,76 @@
+package com.financemanagement.audit;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Sparse index of one audit segment, stored next to it as {@code <segment>.idx} once the segment is sealed.
+ * <p>
+ * Queries skip a segment when its time range or principal set cannot match. Within a segment, checkpoints let a
+ * time-bounded scan start part-way through.
+ * <p>
+ * The writer thread updates the index of the active segment while queries read it, so the mutable fields are
+ * volatile. The writer sets the timestamps before {@code recordCount} and {@code length} last, so a reader that sees
+ * a record counted also sees the time range that covers it.
+ */
+@Data
+@NoArgsConstructor
+public class AuditSegmentIndex {
+
+    private String segmentName;
+    private volatile long minTimestamp = Long.MAX_VALUE;
+    private volatile long maxTimestamp = Long.MIN_VALUE;
+    private volatile long recordCount;
+
+    /**
+     * Bytes of records in the uncompressed segment
+     */
+    private volatile long length;
+
+    private volatile boolean sealed;
+    private volatile boolean compressed;
+
+    /**
+     * Principals with records in this segment; null once there are too many to track, meaning any principal
+     */
+    private volatile Set<String> principals = ConcurrentHashMap.newKeySet();
+
+    private List<Checkpoint> checkpoints = new CopyOnWriteArrayList<>();
+
+    /**
+     * A record boundary; every record before {@code offset} is at or before {@code maxTimestampBefore}
+     */
+    public record Checkpoint(long offset, long maxTimestampBefore) {
+    }
+
+    public AuditSegmentIndex(String segmentName) {
+        this.segmentName = segmentName;
+    }
+
+    public boolean overlaps(long from, long to) {
+        return recordCount > 0 && maxTimestamp >= from && minTimestamp <= to;
+    }
+
+    public boolean mayContain(String principal) {
+        return principal == null || principals == null || principals.contains(principal);
+    }
+
+    /**
+     * Offset to start scanning from when looking for records at or after {@code from}
+     */
+    public long startOffset(long from) {
+        long offset = 0;
+        for (Checkpoint checkpoint : checkpoints) {
+            if (checkpoint.maxTimestampBefore() >= from) {
+                break;
+            }
+            offset = checkpoint.offset();
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,12 @@
+package com.financemanagement.audit;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Durable destination of audit events, written to by the single {@link AuditLogWriter} thread.
+ */
+public interface AuditSink {
+
+    void write(List<AuditEvent> batch) throws IOException;
+}
@@ -0,0 +1,142 @@
+package com.financemanagement.audit;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.function.Predicate;
+
+/**
+ * Copies the first {@code maxBytes} of a response body while writing it straight through to the client.
+ * <p>
+ * Unlike {@link org.springframework.web.util.ContentCachingResponseWrapper}, the body is never held back, so
+ * streaming and large responses are not buffered. Whether to capture is decided on the first write, once the
+ * content type is known.
+ */
+public class BodyCaptureResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxBytes;
+    private final Predicate<String> capturableContentType;
+    private ByteArrayOutputStream captured;
+    private Boolean capturing;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public BodyCaptureResponseWrapper(HttpServletResponse response, int maxBytes,
+                                      Predicate<String> capturableContentType) {
+        super(response);
+        this.maxBytes = maxBytes;
+        this.capturableContentType = capturableContentType;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Push characters buffered by {@link #getWriter()} to the client; call once the request has been handled
+     */
+    public void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * The captured prefix of the body, or null if the body was not captured
+     */
+    public String getCapturedBody() {
+        if (captured == null || captured.size() == 0) {
+            return null;
+        }
+        return captured.toString(Charset.forName(getCharacterEncoding()));
+    }
+
+    private boolean shouldCapture() {
+        if (capturing == null) {
+            capturing = capturableContentType.test(getContentType());
+            if (capturing) {
+                captured = new ByteArrayOutputStream(Math.min(maxBytes, 1024));
+            }
+        }
+        return capturing;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (shouldCapture()) {
+            int room = maxBytes - captured.size();
+            if (room > 0) {
+                captured.write(bytes, offset, Math.min(room, length));
+            }
+        }
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (shouldCapture() && captured.size() < maxBytes) {
+                captured.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.financemanagement.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends audit events as JSON lines; each batch is a single write to the file.
+ */
+@Slf4j
+public class FileAuditSink implements AuditSink, AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final boolean fsync;
+    private final ByteArrayOutputStream batchBuffer = new ByteArrayOutputStream(64 * 1024);
+    private FileChannel channel;
+
+    public FileAuditSink(ObjectMapper objectMapper, Path file, boolean fsync) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.fsync = fsync;
+    }
+
+    @Override
+    public void write(List<AuditEvent> batch) throws IOException {
+        batchBuffer.reset();
+        for (AuditEvent event : batch) {
+            objectMapper.writeValue(batchBuffer, event);
+            batchBuffer.write('\n');
+        }
+
+        FileChannel target = channel();
+        ByteBuffer bytes = ByteBuffer.wrap(batchBuffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            target.write(bytes);
+        }
+        if (fsync) {
+            target.force(false);
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            log.info("Writing audit events to {}", file.toAbsolutePath());
+        }
+        return channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.financemanagement.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only audit store made of memory-mapped segment files.
+ * <p>
+ * Records are copied into the mapped region of the active segment, so an append is a memory copy with no system
+ * call. A segment is sealed when it is full or older than {@code audit.store.rotate-interval}. Sealing writes its
+ * {@link AuditSegmentIndex}, and the segment is then gzip-compressed in the background. Queries use the indexes to
+ * skip segments outside the requested time range or without the requested principal.
+ * <p>
+ * {@link #write} must only be called from one thread; {@link #query} may run concurrently with it.
+ */
+@Slf4j
+public class MappedAuditSegmentStore implements AuditSink, AutoCloseable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String COMPRESSED_SUFFIX = ".seg.gz";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int END_MARKER_BYTES = Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final AuditProperties.Store settings;
+    private final boolean fsync;
+    private final Path directory;
+    private final long segmentSize;
+    private final long checkpointInterval;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final ExecutorService compressionExecutor;
+    private final ByteArrayOutputStream encodeBuffer = new ByteArrayOutputStream(8192);
+
+    private Segment active;
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private long activeOpenedAt;
+    private int segmentCounter;
+
+    public MappedAuditSegmentStore(ObjectMapper objectMapper, AuditProperties properties) throws IOException {
+        this.objectMapper = objectMapper;
+        this.settings = properties.getStore();
+        this.fsync = properties.isFsync();
+        this.directory = Path.of(settings.getDirectory());
+        this.segmentSize = settings.getSegmentSize().toBytes();
+        this.checkpointInterval = settings.getCheckpointInterval().toBytes();
+        this.compressionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "FinanceAuditCompressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Files.createDirectories(directory);
+        recover();
+        log.info("Audit segment store opened at {} with {} existing segments", directory.toAbsolutePath(),
+                segments.size());
+    }
+
+    @Override
+    public void write(List<AuditEvent> batch) throws IOException {
+        for (AuditEvent event : batch) {
+            byte[] record = AuditRecordCodec.encode(event, encodeBuffer);
+            if (record.length + END_MARKER_BYTES > segmentSize) {
+                log.warn("Audit record {} of {} bytes exceeds the segment size, skipping it",
+                        event.requestId(), record.length);
+                continue;
+            }
+            ensureCapacity(record.length);
+
+            long offset = activeBuffer.position();
+            activeBuffer.put(record);
+            indexRecord(active, offset, event.timestamp().toEpochMilli(), event.principal());
+        }
+
+        if (active != null) {
+            if (fsync) {
+                activeBuffer.force();
+            }
+            active.index.setLength(activeBuffer.position());
+            active.publishedLength = activeBuffer.position();
+        }
+    }
+
+    /**
+     * Scan the segments that can contain matching records, oldest first
+     */
+    public AuditQuery.Result query(AuditQuery query) throws IOException {
+        long from = query.from().toEpochMilli();
+        long to = query.to().toEpochMilli();
+        int limit = Math.min(query.limit(), settings.getMaxQueryResults());
+
+        List<AuditEvent> events = new ArrayList<>();
+        int scanned = 0;
+        int skipped = 0;
+        for (Segment segment : segments) {
+            if (events.size() >= limit) {
+                break;
+            }
+            if (!segment.index.overlaps(from, to) || !segment.index.mayContain(query.principal())) {
+                skipped++;
+                continue;
+            }
+            scanned++;
+            scan(segment, from, to, query.principal(), events, limit);
+        }
+        return new AuditQuery.Result(events, scanned, skipped, events.size() >= limit);
+    }
+
+    private void scan(Segment segment, long from, long to, String principal, List<AuditEvent> events, int limit)
+            throws IOException {
+        long start = segment.index.startOffset(from);
+        long length = segment.publishedLength;
+
+        try (DataInputStream in = openSegment(segment, start)) {
+            long position = start;
+            while (position < length && events.size() < limit) {
+                AuditRecordCodec.RecordHeader header = AuditRecordCodec.readHeader(in);
+                if (header == null) {
+                    break;
+                }
+                position += Integer.BYTES + header.length();
+                if (header.timestamp() >= from && header.timestamp() <= to
+                        && (principal == null || principal.equals(header.principal()))) {
+                    events.add(AuditRecordCodec.readBody(header, in));
+                } else {
+                    AuditRecordCodec.skipBody(header, in);
+                }
+            }
+        } catch (EOFException e) {
+            log.warn("Audit segment {} ended unexpectedly", segment.index.getSegmentName());
+        }
+    }
+
+    private DataInputStream openSegment(Segment segment, long offset) throws IOException {
+        Path file = segment.file;
+        try {
+            return open(file, offset);
+        } catch (NoSuchFileException e) {
+            // Compressed in the meantime
+            return open(segment.file, offset);
+        }
+    }
+
+    private DataInputStream open(Path file, long offset) throws IOException {
+        if (file.getFileName().toString().endsWith(COMPRESSED_SUFFIX)) {
+            InputStream in = new GZIPInputStream(Files.newInputStream(file), 64 * 1024);
+            in.skipNBytes(offset);
+            return new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(offset);
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024));
+    }
+
+    private void ensureCapacity(int recordLength) throws IOException {
+        boolean expired = active != null
+                && System.currentTimeMillis() - activeOpenedAt >= settings.getRotateInterval().toMillis();
+        if (active == null || expired || activeBuffer.remaining() < recordLength + END_MARKER_BYTES) {
+            rotate();
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (active != null) {
+            sealActive();
+        }
+
+        long now = System.currentTimeMillis();
+        String name = String.format("audit-%013d-%04d", now, segmentCounter++ % 10_000);
+        Path file = directory.resolve(name + SEGMENT_SUFFIX);
+        activeChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        activeOpenedAt = now;
+        active = new Segment(new AuditSegmentIndex(name), file);
+        segments.add(active);
+        log.debug("Opened audit segment {}", name);
+    }
+
+    private void sealActive() throws IOException {
+        Segment sealing = active;
+        if (fsync) {
+            activeBuffer.force();
+        }
+        sealing.index.setLength(activeBuffer.position());
+        sealing.publishedLength = activeBuffer.position();
+        sealing.index.setSealed(true);
+        writeIndex(sealing.index);
+        activeChannel.close();
+        active = null;
+        activeChannel = null;
+        activeBuffer = null;
+
+        if (settings.isCompress()) {
+            compressionExecutor.execute(() -> compress(sealing));
+        }
+        applyRetention();
+    }
+
+    private void compress(Segment segment) {
+        Path raw = segment.file;
+        Path compressed = directory.resolve(segment.index.getSegmentName() + COMPRESSED_SUFFIX);
+        try {
+            try (InputStream in = Files.newInputStream(raw);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed), 64 * 1024)) {
+                long remaining = segment.index.getLength();
+                byte[] chunk = new byte[64 * 1024];
+                while (remaining > 0) {
+                    int read = in.read(chunk, 0, (int) Math.min(chunk.length, remaining));
+                    if (read < 0) {
+                        break;
+                    }
+                    out.write(chunk, 0, read);
+                    remaining -= read;
+                }
+                out.write(new byte[END_MARKER_BYTES]);
+            }
+            segment.index.setCompressed(true);
+            writeIndex(segment.index);
+            segment.file = compressed;
+            Files.deleteIfExists(raw);
+            log.debug("Compressed audit segment {}", segment.index.getSegmentName());
+        } catch (IOException e) {
+            log.error("Failed to compress audit segment {}: {}", segment.index.getSegmentName(), e.getMessage());
+        }
+    }
+
+    private void applyRetention() {
+        long cutoff = System.currentTimeMillis() - settings.getRetention().toMillis();
+        for (Segment segment : segments) {
+            if (segment.index.isSealed() && segment.index.getMaxTimestamp() < cutoff) {
+                segments.remove(segment);
+                String name = segment.index.getSegmentName();
+                compressionExecutor.execute(() -> {
+                    try {
+                        Files.deleteIfExists(directory.resolve(name + SEGMENT_SUFFIX));
+                        Files.deleteIfExists(directory.resolve(name + COMPRESSED_SUFFIX));
+                        Files.deleteIfExists(directory.resolve(name + INDEX_SUFFIX));
+                        log.info("Deleted audit segment {} past retention", name);
+                    } catch (IOException e) {
+                        log.error("Failed to delete audit segment {}: {}", name, e.getMessage());
+                    }
+                });
+            }
+        }
+    }
+
+    private void indexRecord(Segment segment, long offset, long timestamp, String principal) {
+        AuditSegmentIndex index = segment.index;
+        if (offset >= segment.nextCheckpointAt && index.getRecordCount() > 0) {
+            index.getCheckpoints().add(new AuditSegmentIndex.Checkpoint(offset, index.getMaxTimestamp()));
+            segment.nextCheckpointAt = offset + checkpointInterval;
+        }
+        // Widen the range before counting the record, so queries that see the count also see its timestamp
+        index.setMinTimestamp(Math.min(index.getMinTimestamp(), timestamp));
+        index.setMaxTimestamp(Math.max(index.getMaxTimestamp(), timestamp));
+        index.setRecordCount(index.getRecordCount() + 1);
+
+        Set<String> principals = index.getPrincipals();
+        if (principals != null && principal != null && !principals.contains(principal)) {
+            if (principals.size() >= settings.getMaxIndexedPrincipals()) {
+                index.setPrincipals(null);
+            } else {
+                principals.add(principal);
+            }
+        }
+    }
+
+    private void writeIndex(AuditSegmentIndex index) throws IOException {
+        Path target = directory.resolve(index.getSegmentName() + INDEX_SUFFIX);
+        Path temp = directory.resolve(index.getSegmentName() + INDEX_SUFFIX + ".tmp");
+        objectMapper.writeValue(temp.toFile(), index);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load sealed segments from their indexes and rebuild the index of a segment left open by a crash
+     */
+    private void recover() throws IOException {
+        List<Segment> recovered = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(INDEX_SUFFIX)) {
+                    AuditSegmentIndex index = objectMapper.readValue(file.toFile(), AuditSegmentIndex.class);
+                    String suffix = index.isCompressed() ? COMPRESSED_SUFFIX : SEGMENT_SUFFIX;
+                    recovered.add(new Segment(index, directory.resolve(index.getSegmentName() + suffix)));
+                } else if (fileName.endsWith(SEGMENT_SUFFIX)) {
+                    String name = fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length());
+                    if (!Files.exists(directory.resolve(name + INDEX_SUFFIX))) {
+                        recovered.add(rebuildIndex(name, file));
+                    }
+                }
+            }
+        }
+
+        recovered.sort(Comparator.comparing(segment -> segment.index.getSegmentName()));
+        segments.addAll(recovered);
+        for (Segment segment : recovered) {
+            if (settings.isCompress() && !segment.index.isCompressed()) {
+                compressionExecutor.execute(() -> compress(segment));
+            }
+        }
+    }
+
+    private Segment rebuildIndex(String name, Path file) throws IOException {
+        Segment segment = new Segment(new AuditSegmentIndex(name), file);
+        long position = 0;
+        try (DataInputStream in = open(file, 0)) {
+            AuditRecordCodec.RecordHeader header;
+            while ((header = AuditRecordCodec.readHeader(in)) != null) {
+                AuditRecordCodec.skipBody(header, in);
+                indexRecord(segment, position, header.timestamp(), header.principal());
+                position += Integer.BYTES + header.length();
+            }
+        } catch (EOFException e) {
+            log.warn("Audit segment {} was truncated after {} bytes", name, position);
+        }
+        segment.index.setLength(position);
+        segment.index.setSealed(true);
+        segment.publishedLength = position;
+        writeIndex(segment.index);
+        log.info("Rebuilt index of audit segment {} with {} records", name, segment.index.getRecordCount());
+        return segment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (active != null) {
+            sealActive();
+        }
+        compressionExecutor.shutdown();
+        try {
+            if (!compressionExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Audit segment compression did not finish before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Segment {
+
+        private final AuditSegmentIndex index;
+        private volatile Path file;
+        private volatile long publishedLength;
+        private long nextCheckpointAt;
+
+        private Segment(AuditSegmentIndex index, Path file) {
+            this.index = index;
+            this.file = file;
+            this.publishedLength = index.getLength();
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.financemanagement.config;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableAsync
@@ -31,13 +37,17 @@ public class AsyncConfig {
     private int keepAliveSeconds;
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(FinanceTimers financeTimers, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtual(threadNamePrefix, timed(financeTimers, "taskExecutor"));
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix(threadNamePrefix);
         executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setTaskDecorator(timed(financeTimers, "taskExecutor"));
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
@@ -50,12 +60,16 @@ public class AsyncConfig {
     }
 
     @Bean(name = "reportingExecutor")
-    public Executor reportingExecutor() {
+    public Executor reportingExecutor(FinanceTimers financeTimers, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtual("FinanceReporting-", timed(financeTimers, "reportingExecutor"));
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("FinanceReporting-");
+        executor.setTaskDecorator(timed(financeTimers, "reportingExecutor"));
         executor.setKeepAliveSeconds(60);
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -68,12 +82,16 @@ public class AsyncConfig {
     }
 
     @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
+    public Executor notificationExecutor(FinanceTimers financeTimers, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtual("FinanceNotification-", timed(financeTimers, "notificationExecutor"));
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(3);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("FinanceNotification-");
+        executor.setTaskDecorator(timed(financeTimers, "notificationExecutor"));
         executor.setKeepAliveSeconds(60);
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -84,4 +102,62 @@ public class AsyncConfig {
         
         return executor;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Writes the live feed to subscribers. Each subscriber has at most one drain task queued, so the queue is sized
+     * to the subscriber limit; a rejected drain drops that subscriber instead of running on the publishing thread.
+     */
+    @Bean(name = "feedExecutor")
+    public Executor feedExecutor(FinanceTimers financeTimers, Environment environment,
+                                 @Value("${feed.max-subscribers:10000}") int maxSubscribers) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtual("FinanceFeed-", timed(financeTimers, "feedExecutor"));
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(maxSubscribers);
+        executor.setThreadNamePrefix("FinanceFeed-");
+        executor.setTaskDecorator(timed(financeTimers, "feedExecutor"));
+        executor.setKeepAliveSeconds(60);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        log.info("Feed executor configured for {} subscribers", maxSubscribers);
+
+        return executor;
+    }
+
+    /**
+     * One virtual thread per task: no pool or queue to size, and database concurrency is capped by
+     * {@link ConcurrencyLimitedDataSource} instead
+     */
+    static Executor virtual(String threadNamePrefix, TaskDecorator taskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(taskDecorator);
+        executor.setTaskTerminationTimeout(60_000);
+        log.info("{} executor configured with virtual threads", threadNamePrefix);
+        return executor;
+    }
+
+    /**
+     * Records each task's run time, from when a pool thread picks it up, into {@code finance.async.task}
+     */
+    static TaskDecorator timed(FinanceTimers financeTimers, String executorName) {
+        Timer success = financeTimers.timer(FinanceTimers.Metric.ASYNC_TASK,
+                "executor", executorName, "outcome", "success");
+        Timer error = financeTimers.timer(FinanceTimers.Metric.ASYNC_TASK,
+                "executor", executorName, "outcome", "error");
+        return task -> () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+                success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException | Error e) {
+                error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        };
+    }
+}
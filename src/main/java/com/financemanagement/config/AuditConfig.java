@@ -0,0 +1,31 @@
+package com.financemanagement.config;
+
+import com.financemanagement.audit.AuditProperties;
+import com.financemanagement.audit.AuditSink;
+import com.financemanagement.audit.FileAuditSink;
+import com.financemanagement.audit.MappedAuditSegmentStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class AuditConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "audit.store", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MappedAuditSegmentStore auditSegmentStore(ObjectMapper objectMapper, AuditProperties properties)
+            throws IOException {
+        return new MappedAuditSegmentStore(objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(AuditSink.class)
+    public AuditSink auditSink(ObjectMapper objectMapper, AuditProperties properties) {
+        return new FileAuditSink(objectMapper, Path.of(properties.getFile()), properties.isFsync());
+    }
+}
@@ -1,118 +1,130 @@
 package com.financemanagement.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financemanagement.audit.AuditEvent;
+import com.financemanagement.audit.AuditLogWriter;
+import com.financemanagement.audit.AuditProperties;
+import com.financemanagement.audit.BodyCaptureResponseWrapper;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Records one {@link AuditEvent} per request and hands it to the {@link AuditLogWriter}; nothing is written on
+ * the request thread. Bodies are only captured for a sample of requests, only for the configured content types,
+ * and only up to {@code audit.body.max-bytes}.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AuditLoggingFilter extends OncePerRequestFilter {
 
-    private final ObjectMapper objectMapper;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditProperties properties;
+    private final Timer publishedTimer;
+    private final Timer droppedTimer;
+    private final Timer failedTimer;
+
+    public AuditLoggingFilter(AuditLogWriter auditLogWriter, AuditProperties properties, FinanceTimers financeTimers) {
+        this.auditLogWriter = auditLogWriter;
+        this.properties = properties;
+        this.publishedTimer = financeTimers.timer(FinanceTimers.Metric.AUDIT_LOG, "outcome", "published");
+        this.droppedTimer = financeTimers.timer(FinanceTimers.Metric.AUDIT_LOG, "outcome", "dropped");
+        this.failedTimer = financeTimers.timer(FinanceTimers.Metric.AUDIT_LOG, "outcome", "error");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
-        String requestId = UUID.randomUUID().toString();
-        LocalDateTime startTime = LocalDateTime.now();
-        
-        // Wrap request and response for content caching
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
-        
+
+        Instant timestamp = Instant.now();
+        long startNanos = System.nanoTime();
+
+        AuditProperties.Body body = properties.getBody();
+        boolean sampled = body.getSampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < body.getSampleRate();
+
+        ContentCachingRequestWrapper cachingRequest = null;
+        if (sampled && body.isRequestEnabled() && isCapturable(request.getContentType())) {
+            cachingRequest = new ContentCachingRequestWrapper(request, body.getMaxBytes());
+        }
+        BodyCaptureResponseWrapper capturingResponse = null;
+        if (sampled && body.isResponseEnabled()) {
+            capturingResponse = new BodyCaptureResponseWrapper(response, body.getMaxBytes(), this::isCapturable);
+        }
+
         try {
-            // Log request
-            logAuditRequest(requestId, wrappedRequest, startTime);
-            
-            // Process request
-            filterChain.doFilter(wrappedRequest, wrappedResponse);
-            
-            // Log response
-            logAuditResponse(requestId, wrappedResponse, startTime);
-            
+            filterChain.doFilter(cachingRequest != null ? cachingRequest : request,
+                    capturingResponse != null ? capturingResponse : response);
         } finally {
-            // Copy response content back to original response
-            wrappedResponse.copyBodyToResponse();
+            if (capturingResponse != null) {
+                capturingResponse.flushWriter();
+            }
+            publish(request, response, timestamp, startNanos, cachingRequest, capturingResponse);
         }
     }
 
-    private void logAuditRequest(String requestId, ContentCachingRequestWrapper request, LocalDateTime startTime) {
+    private void publish(HttpServletRequest request, HttpServletResponse response, Instant timestamp, long startNanos,
+                         ContentCachingRequestWrapper cachingRequest, BodyCaptureResponseWrapper capturingResponse) {
+        long publishStart = System.nanoTime();
         try {
-            String method = request.getMethod();
-            String uri = request.getRequestURI();
-            String queryString = request.getQueryString();
-            String clientIp = getClientIpAddress(request);
-            String userAgent = request.getHeader("User-Agent");
-            
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String username = authentication != null ? authentication.getName() : "anonymous";
-            
-            String requestBody = "";
-            if (request.getContentType() != null && request.getContentType().contains("application/json")) {
-                byte[] content = request.getContentAsByteArray();
-                if (content.length > 0) {
-                    requestBody = new String(content);
-                }
-            }
-            
-            log.info("AUDIT_REQUEST | ID: {} | Time: {} | Method: {} | URI: {} | Query: {} | IP: {} | User: {} | User-Agent: {} | Body: {}",
-                    requestId,
-                    startTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                    method,
-                    uri,
-                    queryString != null ? queryString : "",
-                    clientIp,
+
+            boolean published = auditLogWriter.publish(new AuditEvent(
+                    UUID.randomUUID().toString(),
+                    timestamp,
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    request.getQueryString(),
+                    getClientIpAddress(request),
                     username,
-                    userAgent != null ? userAgent : "",
-                    requestBody);
-                    
+                    request.getHeader("User-Agent"),
+                    response.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    cachingRequest != null ? requestBody(cachingRequest) : null,
+                    capturingResponse != null ? capturingResponse.getCapturedBody() : null));
+            (published ? publishedTimer : droppedTimer).record(System.nanoTime() - publishStart, TimeUnit.NANOSECONDS);
         } catch (Exception e) {
-            log.error("Error logging audit request: {}", e.getMessage(), e);
+            failedTimer.record(System.nanoTime() - publishStart, TimeUnit.NANOSECONDS);
+            log.error("Error recording audit event: {}", e.getMessage(), e);
         }
     }
 
-    private void logAuditResponse(String requestId, ContentCachingResponseWrapper response, LocalDateTime startTime) {
-        try {
-            LocalDateTime endTime = LocalDateTime.now();
-            long duration = java.time.Duration.between(startTime, endTime).toMillis();
-            
-            int status = response.getStatus();
-            String responseBody = "";
-            
-            if (response.getContentType() != null && response.getContentType().contains("application/json")) {
-                byte[] content = response.getContentAsByteArray();
-                if (content.length > 0) {
-                    responseBody = new String(content);
-                }
+    private String requestBody(ContentCachingRequestWrapper request) {
+        byte[] content = request.getContentAsByteArray();
+        if (content.length == 0) {
+            return null;
+        }
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        return new String(content, charset);
+    }
+
+    private boolean isCapturable(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        for (String capturable : properties.getBody().getContentTypes()) {
+            if (contentType.regionMatches(true, 0, capturable, 0, capturable.length())) {
+                return true;
             }
-            
-            log.info("AUDIT_RESPONSE | ID: {} | Time: {} | Duration: {}ms | Status: {} | Body: {}",
-                    requestId,
-                    endTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                    duration,
-                    status,
-                    responseBody);
-                    
-        } catch (Exception e) {
-            log.error("Error logging audit response: {}", e.getMessage(), e);
         }
+        return false;
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
@@ -120,12 +132,12 @@ public class AuditLoggingFilter extends OncePerRequestFilter {
         if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
             return xForwardedFor.split(",")[0].trim();
         }
-        
+
         String xRealIp = request.getHeader("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
             return xRealIp;
         }
-        
+
         return request.getRemoteAddr();
     }
 
@@ -133,11 +145,11 @@ public class AuditLoggingFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
         // Skip audit logging for health checks and static resources
-        return path.startsWith("/actuator/health") || 
+        return path.startsWith("/actuator/health") ||
                path.startsWith("/actuator/info") ||
-               path.startsWith("/api-docs") || 
+               path.startsWith("/api-docs") ||
                path.startsWith("/swagger-ui") ||
                path.startsWith("/favicon.ico") ||
                path.startsWith("/error");
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.Timer;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Axon interceptors recording {@code finance.axon.command} and {@code finance.axon.event}.
+ * <p>
+ * Commands are tagged with {@code command}, {@code phase} and {@code outcome}. The dispatch interceptor stamps
+ * each command with its dispatch time. The {@code dispatch} phase is the time from dispatch until a handler starts.
+ * The {@code handle} phase is the time spent in the handler. Events are tagged with {@code event},
+ * {@code processor} and {@code outcome}. Timers are cached per payload type.
+ */
+public final class AxonMetricsInterceptors {
+
+    static final String DISPATCH_NANOS = "dispatchNanos";
+
+    private AxonMetricsInterceptors() {
+    }
+
+    public static Commands commands(FinanceTimers financeTimers) {
+        return new Commands(financeTimers);
+    }
+
+    public static Events events(FinanceTimers financeTimers, String processorName) {
+        return new Events(financeTimers, processorName);
+    }
+
+    private record OutcomeTimers(Timer success, Timer error) {
+    }
+
+    /**
+     * Register as both a dispatch and a handler interceptor on the command bus
+     */
+    public static final class Commands implements MessageDispatchInterceptor<CommandMessage<?>>,
+            MessageHandlerInterceptor<CommandMessage<?>> {
+
+        private final ClassValue<Timer> dispatchTimers;
+        private final ClassValue<OutcomeTimers> handleTimers;
+
+        private Commands(FinanceTimers financeTimers) {
+            this.dispatchTimers = new ClassValue<>() {
+                @Override
+                protected Timer computeValue(Class<?> payloadType) {
+                    return financeTimers.timer(FinanceTimers.Metric.AXON_COMMAND,
+                            "command", payloadType.getSimpleName(), "phase", "dispatch", "outcome", "success");
+                }
+            };
+            this.handleTimers = new ClassValue<>() {
+                @Override
+                protected OutcomeTimers computeValue(Class<?> payloadType) {
+                    return new OutcomeTimers(
+                            financeTimers.timer(FinanceTimers.Metric.AXON_COMMAND,
+                                    "command", payloadType.getSimpleName(), "phase", "handle", "outcome", "success"),
+                            financeTimers.timer(FinanceTimers.Metric.AXON_COMMAND,
+                                    "command", payloadType.getSimpleName(), "phase", "handle", "outcome", "error"));
+                }
+            };
+        }
+
+        @Override
+        public BiFunction<Integer, CommandMessage<?>, CommandMessage<?>> handle(
+                List<? extends CommandMessage<?>> messages) {
+            return (index, command) -> command.andMetaData(Map.of(DISPATCH_NANOS, System.nanoTime()));
+        }
+
+        @Override
+        public Object handle(UnitOfWork<? extends CommandMessage<?>> unitOfWork, InterceptorChain interceptorChain)
+                throws Exception {
+            CommandMessage<?> command = unitOfWork.getMessage();
+            long start = System.nanoTime();
+            if (command.getMetaData().get(DISPATCH_NANOS) instanceof Long dispatchNanos && dispatchNanos <= start) {
+                dispatchTimers.get(command.getPayloadType()).record(start - dispatchNanos, TimeUnit.NANOSECONDS);
+            }
+
+            OutcomeTimers timers = handleTimers.get(command.getPayloadType());
+            try {
+                Object result = interceptorChain.proceed();
+                timers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Exception e) {
+                timers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Handler interceptor for the event handlers of one processor
+     */
+    public static final class Events implements MessageHandlerInterceptor<EventMessage<?>> {
+
+        private final ClassValue<OutcomeTimers> timers;
+
+        private Events(FinanceTimers financeTimers, String processorName) {
+            this.timers = new ClassValue<>() {
+                @Override
+                protected OutcomeTimers computeValue(Class<?> payloadType) {
+                    return new OutcomeTimers(
+                            financeTimers.timer(FinanceTimers.Metric.AXON_EVENT,
+                                    "event", payloadType.getSimpleName(), "processor", processorName,
+                                    "outcome", "success"),
+                            financeTimers.timer(FinanceTimers.Metric.AXON_EVENT,
+                                    "event", payloadType.getSimpleName(), "processor", processorName,
+                                    "outcome", "error"));
+                }
+            };
+        }
+
+        @Override
+        public Object handle(UnitOfWork<? extends EventMessage<?>> unitOfWork, InterceptorChain interceptorChain)
+                throws Exception {
+            OutcomeTimers eventTimers = timers.get(unitOfWork.getMessage().getPayloadType());
+            long start = System.nanoTime();
+            try {
+                Object result = interceptorChain.proceed();
+                eventTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Exception e) {
+                eventTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections checked out at once with a fair semaphore sized to the pool.
+ * <p>
+ * With virtual threads, request concurrency is no longer bounded by a thread pool, and thousands of callers can
+ * reach the connection pool at once. Waiting here queues them in order and cheaply, instead of all of them contending
+ * in the pool's hand-off. A caller that cannot get a permit within the timeout fails like a pool timeout, with
+ * {@link SQLTransientConnectionException}. The permit is released when the connection is closed.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+    private final Timer acquiredTimer;
+    private final Timer timeoutTimer;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxPermits, Duration acquireTimeout,
+                                        FinanceTimers financeTimers) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.acquiredTimer = financeTimers.timer(FinanceTimers.Metric.DATABASE_PERMIT, "outcome", "acquired");
+        this.timeoutTimer = financeTimers.timer(FinanceTimers.Metric.DATABASE_PERMIT, "outcome", "timeout");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getInUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+        long waited = System.nanoTime() - start;
+        if (!acquired) {
+            timeoutTimer.record(waited, TimeUnit.NANOSECONDS);
+            throw new SQLTransientConnectionException("No database permit available after "
+                    + TimeUnit.NANOSECONDS.toMillis(waited) + "ms (" + maxPermits + " in use, "
+                    + permits.getQueueLength() + " waiting)");
+        }
+        acquiredTimer.record(waited, TimeUnit.NANOSECONDS);
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,166 @@
+package com.financemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide rate limiter.
+ * <p>
+ * Tokens are reserved from the shared {@link DistributedTokenStore} in batches of
+ * {@code security.rate-limit.distributed.prefetch-tokens} and handed out from a short-lived local lease, so
+ * most requests never leave the JVM. Because leased tokens are already taken from the shared bucket, replicas
+ * cannot over-admit; at worst tokens of an expired lease go unused. A denial is remembered locally until its
+ * retry-after, so a throttled client is turned away without a round trip per request.
+ * <p>
+ * The store enforces {@code distributed.timeout} itself (see {@link RedisTokenStore}). When a call times out or
+ * fails, the limiter switches to the local per-JVM limiter for {@code distributed.failure-cooldown} instead of
+ * adding latency to every request.
+ */
+@Slf4j
+public class DistributedRateLimiter implements RateLimiter {
+
+    private final DistributedTokenStore tokenStore;
+    private final RateLimiter fallback;
+    private final RateLimitProperties.Distributed settings;
+    private final Cache<String, Lease> leases;
+    private final Cache<String, Denial> denials;
+    private final Counter roundTrips;
+    private final Counter fallbacks;
+
+    private volatile long storeUnavailableUntil;
+
+    public DistributedRateLimiter(DistributedTokenStore tokenStore,
+                                  RateLimiter fallback,
+                                  RateLimitProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.tokenStore = tokenStore;
+        this.fallback = fallback;
+        this.settings = properties.getDistributed();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterWrite(settings.getLeaseTtl())
+                .build();
+        this.denials = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfter(new UntilRetryAfter())
+                .build();
+        this.roundTrips = Counter.builder("finance.rate.limit.store.calls")
+                .description("Round trips to the distributed rate limit store")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("finance.rate.limit.store.fallbacks")
+                .description("Distributed rate limit checks answered by the local limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Decision tryConsume(String key, int requestsPerMinute, int burstCapacity, int cost) {
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null && lease.tryTake(cost)) {
+            return new Decision(true, lease.remaining(), 0);
+        }
+
+        Denial denial = denials.getIfPresent(key);
+        if (denial != null && cost >= denial.cost()) {
+            return new Decision(false, denial.remaining(), Math.max(0, denial.retryAt() - System.nanoTime()));
+        }
+
+        if (System.nanoTime() < storeUnavailableUntil) {
+            fallbacks.increment();
+            return fallback.tryConsume(key, requestsPerMinute, burstCapacity, cost);
+        }
+
+        long requested = Math.max(cost, Math.min(settings.getPrefetchTokens(), burstCapacity));
+        DistributedTokenStore.Grant grant;
+        try {
+            roundTrips.increment();
+            grant = tokenStore.acquire(key, burstCapacity, requestsPerMinute, requested, cost);
+        } catch (RuntimeException e) {
+            return fallBackToLocal(key, requestsPerMinute, burstCapacity, cost, e);
+        }
+
+        if (grant.granted() < cost) {
+            long missingTokens = cost - grant.remaining();
+            long nanosToWait = TimeUnit.MINUTES.toNanos(1) * Math.max(1, missingTokens) / Math.max(1, requestsPerMinute);
+            denials.put(key, new Denial(cost, grant.remaining(), System.nanoTime() + nanosToWait));
+            return new Decision(false, grant.remaining(), nanosToWait);
+        }
+
+        // Another thread may have installed a lease for this key meanwhile; add to it rather than drop its tokens
+        Lease current = leases.asMap().merge(key, new Lease(grant.granted() - cost, grant.remaining()), Lease::absorb);
+        return new Decision(true, current.remaining(), 0);
+    }
+
+    private Decision fallBackToLocal(String key, int requestsPerMinute, int burstCapacity, int cost, Exception cause) {
+        storeUnavailableUntil = System.nanoTime() + settings.getFailureCooldown().toNanos();
+        log.warn("Distributed rate limit store unavailable, using local limits for {}: {}",
+                settings.getFailureCooldown(), cause.toString());
+        fallbacks.increment();
+        return fallback.tryConsume(key, requestsPerMinute, burstCapacity, cost);
+    }
+
+    /**
+     * Tokens reserved from the shared bucket for this JVM.
+     */
+    private static final class Lease {
+
+        private final AtomicLong tokens;
+        private volatile long sharedRemaining;
+
+        private Lease(long tokens, long sharedRemaining) {
+            this.tokens = new AtomicLong(tokens);
+            this.sharedRemaining = sharedRemaining;
+        }
+
+        private boolean tryTake(int cost) {
+            long available;
+            do {
+                available = tokens.get();
+                if (available < cost) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(available, available - cost));
+            return true;
+        }
+
+        private long remaining() {
+            return tokens.get() + sharedRemaining;
+        }
+
+        private Lease absorb(Lease fresh) {
+            tokens.addAndGet(fresh.tokens.get());
+            sharedRemaining = fresh.sharedRemaining;
+            return this;
+        }
+    }
+
+    /**
+     * A refusal from the shared bucket, replayed locally for requests of at least the same cost until it lapses
+     */
+    private record Denial(int cost, long remaining, long retryAt) {
+    }
+
+    private static final class UntilRetryAfter implements Expiry<String, Denial> {
+
+        @Override
+        public long expireAfterCreate(String key, Denial denial, long currentTime) {
+            return Math.max(0, denial.retryAt() - System.nanoTime());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Denial denial, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, denial, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Denial denial, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.financemanagement.config;
+
+/**
+ * Shared token-bucket state used by {@link DistributedRateLimiter}.
+ */
+public interface DistributedTokenStore {
+
+    /**
+     * Atomically refill the bucket and take up to {@code requested} tokens, provided at least {@code minimum}
+     * are available; otherwise take none.
+     *
+     * @param capacity         maximum number of tokens the bucket holds
+     * @param refillPerMinute  tokens added to the bucket per minute
+     */
+    Grant acquire(String key, long capacity, long refillPerMinute, long requested, long minimum);
+
+    record Grant(long granted, long remaining) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.financemanagement.config;
+
+import com.financemanagement.eventstore.ArchivingEventStorageEngine;
+import com.financemanagement.eventstore.EventArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.common.jdbc.PersistenceExceptionResolver;
+import org.axonframework.common.jpa.EntityManagerProvider;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.axonframework.eventsourcing.eventstore.jpa.JpaEventStorageEngine;
+import org.axonframework.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class EventStoreConfig {
+
+    /**
+     * Same JPA storage engine Axon would auto-configure, wrapped so archived aggregates can still be loaded.
+     */
+    @Bean
+    public EventStorageEngine eventStorageEngine(Serializer defaultSerializer,
+                                                 PersistenceExceptionResolver persistenceExceptionResolver,
+                                                 @Qualifier("eventSerializer") Serializer eventSerializer,
+                                                 org.axonframework.config.Configuration configuration,
+                                                 EntityManagerProvider entityManagerProvider,
+                                                 TransactionManager transactionManager,
+                                                 EventArchiveRepository eventArchiveRepository) {
+        EventStorageEngine jpaStorageEngine = JpaEventStorageEngine.builder()
+                .snapshotSerializer(defaultSerializer)
+                .upcasterChain(configuration.upcasterChain())
+                .persistenceExceptionResolver(persistenceExceptionResolver)
+                .eventSerializer(eventSerializer)
+                .snapshotFilter(configuration.snapshotFilter())
+                .entityManagerProvider(entityManagerProvider)
+                .transactionManager(transactionManager)
+                .build();
+
+        log.info("Event storage engine configured with cold aggregate archive support");
+        return new ArchivingEventStorageEngine(jpaStorageEngine, eventArchiveRepository,
+                eventSerializer, configuration.upcasterChain());
+    }
+}
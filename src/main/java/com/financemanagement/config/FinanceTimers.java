@@ -0,0 +1,72 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The application's {@code finance.*} timers.
+ * <p>
+ * Every timer of one name carries the same tag keys, as Prometheus requires, and callers resolve the tagged
+ * {@link Timer} once per call site and keep it: looking a meter up in the registry on every call costs more than
+ * recording into it. Percentile histograms are published for server-side aggregation; client-side percentiles keep
+ * a rotating set of histograms per timer and are off unless {@code instrumentation.client-percentiles} is set.
+ */
+public class FinanceTimers {
+
+    public enum Metric {
+        TRANSACTION_CREATION("finance.transaction.creation", "Time taken to create a transaction", true),
+        TRANSACTION_QUERY("finance.transaction.query", "Time taken to query transactions", true),
+        REPORT_GENERATION("finance.report.generation", "Time taken to generate financial reports", true),
+        SERVICE("finance.service", "Service method execution time", true),
+        CACHE_HIT("finance.cache.hit", "Cache lookup time by hit or miss", false),
+        DATABASE_QUERY("finance.database.query", "Database query execution time", true),
+        ASYNC_TASK("finance.async.task", "Async task execution time", true),
+        ENCRYPTION("finance.encryption", "Data encryption/decryption time", false),
+        VALIDATION("finance.validation", "Input validation time", false),
+        RATE_LIMIT("finance.rate.limit", "Rate limiting check time", false),
+        AUDIT_LOG("finance.audit.log", "Audit logging time", false),
+        REDIS_OPERATION("finance.redis.operation", "Redis operation time", true),
+        AXON_COMMAND("finance.axon.command", "Axon command processing time", true),
+        AXON_EVENT("finance.axon.event", "Axon event processing time", true),
+        DATABASE_PERMIT("finance.database.permit", "Time waiting for a database concurrency permit", true),
+        VIRTUAL_THREAD_PINNED("finance.virtual.pinned", "Time virtual threads spent pinned to their carrier", false);
+
+        private final String meterName;
+        private final String description;
+        private final boolean histogram;
+
+        Metric(String meterName, String description, boolean histogram) {
+            this.meterName = meterName;
+            this.description = description;
+            this.histogram = histogram;
+        }
+
+        public String getMeterName() {
+            return meterName;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final boolean clientPercentiles;
+
+    public FinanceTimers(MeterRegistry registry, boolean clientPercentiles) {
+        this.registry = registry;
+        this.clientPercentiles = clientPercentiles;
+    }
+
+    /**
+     * Register or look up a timer; resolve it once per call site rather than per call
+     *
+     * @param tags alternating tag keys and values
+     */
+    public Timer timer(Metric metric, String... tags) {
+        Timer.Builder builder = Timer.builder(metric.meterName)
+                .description(metric.description)
+                .tags(tags)
+                .publishPercentileHistogram(metric.histogram);
+        if (clientPercentiles) {
+            builder.publishPercentiles(0.5, 0.95, 0.99);
+        }
+        return builder.register(registry);
+    }
+}
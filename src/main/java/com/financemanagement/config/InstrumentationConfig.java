@@ -0,0 +1,72 @@
+package com.financemanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.config.EventProcessingConfigurer;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Records the {@link FinanceTimers} automatically: service, repository, encryption and validation calls through
+ * {@link MethodMetricsInterceptor}, cache operations through {@link InstrumentedCacheManager}, and Axon command
+ * dispatch, command handling and event handling through {@link AxonMetricsInterceptors}. Filters and executors
+ * record their own timers. Set {@code instrumentation.enabled=false} to remove all of it.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "instrumentation", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class InstrumentationConfig {
+
+    /**
+     * Outermost advisor, so a timed call includes caching, transactions and async hand-off
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor methodMetricsAdvisor(ObjectProvider<FinanceTimers> financeTimers) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(MethodMetricsInterceptor::isInstrumented),
+                new MethodMetricsInterceptor(financeTimers::getObject));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    static BeanPostProcessor cacheManagerInstrumentation(ObjectProvider<FinanceTimers> financeTimers) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof InstrumentedCacheManager)) {
+                    log.info("Instrumenting cache manager {}", beanName);
+                    return new InstrumentedCacheManager(cacheManager, financeTimers.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Autowired
+    public void registerCommandInterceptors(CommandBus commandBus, FinanceTimers financeTimers) {
+        AxonMetricsInterceptors.Commands interceptor = AxonMetricsInterceptors.commands(financeTimers);
+        commandBus.registerDispatchInterceptor(interceptor);
+        commandBus.registerHandlerInterceptor(interceptor);
+    }
+
+    @Autowired
+    public void registerEventInterceptors(EventProcessingConfigurer eventProcessingConfigurer,
+                                          FinanceTimers financeTimers) {
+        eventProcessingConfigurer.registerDefaultHandlerInterceptor(
+                (configuration, processorName) -> AxonMetricsInterceptors.events(financeTimers, processorName));
+    }
+}
@@ -0,0 +1,214 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every cache operation into {@code finance.redis.operation} (tags {@code cache}, {@code operation},
+ * {@code outcome}) and every lookup into {@code finance.cache.hit} (tags {@code cache}, {@code outcome} of
+ * {@code hit} or {@code miss}). The wrapped caches and their timers are created once per cache name.
+ */
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final FinanceTimers financeTimers;
+    private final ConcurrentHashMap<String, InstrumentedCache> caches = new ConcurrentHashMap<>();
+
+    public InstrumentedCacheManager(CacheManager delegate, FinanceTimers financeTimers) {
+        this.delegate = delegate;
+        this.financeTimers = financeTimers;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        InstrumentedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target != null ? caches.computeIfAbsent(name, key -> new InstrumentedCache(target)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private final class InstrumentedCache implements Cache {
+
+        private final Cache target;
+        private final Timer get;
+        private final Timer getError;
+        private final Timer put;
+        private final Timer evict;
+        private final Timer writeError;
+        private final Timer hit;
+        private final Timer miss;
+
+        private InstrumentedCache(Cache target) {
+            this.target = target;
+            String name = target.getName();
+            this.get = operationTimer(name, "get", "success");
+            this.getError = operationTimer(name, "get", "error");
+            this.put = operationTimer(name, "put", "success");
+            this.evict = operationTimer(name, "evict", "success");
+            this.writeError = operationTimer(name, "write", "error");
+            this.hit = financeTimers.timer(FinanceTimers.Metric.CACHE_HIT, "cache", name, "outcome", "hit");
+            this.miss = financeTimers.timer(FinanceTimers.Metric.CACHE_HIT, "cache", name, "outcome", "miss");
+        }
+
+        private Timer operationTimer(String cache, String operation, String outcome) {
+            return financeTimers.timer(FinanceTimers.Metric.REDIS_OPERATION,
+                    "cache", cache, "operation", operation, "outcome", outcome);
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            long start = System.nanoTime();
+            try {
+                ValueWrapper value = target.get(key);
+                recordLookup(start, value != null);
+                return value;
+            } catch (RuntimeException e) {
+                getError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            long start = System.nanoTime();
+            try {
+                T value = target.get(key, type);
+                recordLookup(start, value != null);
+                return value;
+            } catch (RuntimeException e) {
+                getError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            long start = System.nanoTime();
+            try {
+                // The loader runs inside the call, so this is the time of a lookup plus a load on a miss
+                T value = target.get(key, valueLoader);
+                get.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return value;
+            } catch (RuntimeException e) {
+                getError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public CompletableFuture<?> retrieve(Object key) {
+            return target.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return target.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            long start = System.nanoTime();
+            try {
+                target.put(key, value);
+                put.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                writeError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            long start = System.nanoTime();
+            try {
+                ValueWrapper existing = target.putIfAbsent(key, value);
+                put.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return existing;
+            } catch (RuntimeException e) {
+                writeError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public void evict(Object key) {
+            long start = System.nanoTime();
+            try {
+                target.evict(key);
+                evict.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                writeError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            long start = System.nanoTime();
+            try {
+                boolean evicted = target.evictIfPresent(key);
+                evict.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return evicted;
+            } catch (RuntimeException e) {
+                writeError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public void clear() {
+            long start = System.nanoTime();
+            try {
+                target.clear();
+                evict.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                writeError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean invalidate() {
+            long start = System.nanoTime();
+            try {
+                boolean invalidated = target.invalidate();
+                evict.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return invalidated;
+            } catch (RuntimeException e) {
+                writeError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        private void recordLookup(long start, boolean found) {
+            long elapsed = System.nanoTime() - start;
+            get.record(elapsed, TimeUnit.NANOSECONDS);
+            (found ? hit : miss).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.financemanagement.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,58 +12,90 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests carrying a bearer JWT.
+ * <p>
+ * Each token is parsed and verified once; afterwards its SHA-256 digest maps to the verified subject until the
+ * token's {@code exp}, so repeat requests skip HMAC verification. User details come from {@link UserDetailsCache}.
+ * The token's tenant claim, if any, is exposed as the {@link #TENANT_ATTRIBUTE} request attribute.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserDetailsService userDetailsService;
+    public static final String TENANT_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".tenant";
 
-    @Value("${security.jwt.secret}")
-    private String jwtSecret;
+    private final UserDetailsCache userDetailsCache;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final String tenantClaim;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     @Value("${security.jwt.expiration}")
     private long jwtExpiration;
 
+    public JwtAuthenticationFilter(UserDetailsCache userDetailsCache,
+                                   @Value("${security.jwt.secret}") String jwtSecret,
+                                   @Value("${security.jwt.verified-token-cache-size:50000}") long verifiedTokenCacheSize,
+                                   @Value("${security.rate-limit.tenant-claim:tenant_id}") String tenantClaim) {
+        this.userDetailsCache = userDetailsCache;
+        this.tenantClaim = tenantClaim;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
+
         try {
             String jwt = getJwtFromRequest(request);
-            
-            if (jwt != null && validateToken(jwt)) {
-                String username = getUsernameFromToken(jwt);
-                
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    
+
+            if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                VerifiedToken token = verify(jwt);
+
+                if (token != null && token.username() != null) {
+                    UserDetails userDetails = userDetailsCache.loadUserByUsername(token.username());
+
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
+                    authentication.setDetails(authenticationDetailsSource.buildDetails(request));
+
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    if (token.tenant() != null) {
+                        request.setAttribute(TENANT_ATTRIBUTE, token.tenant());
+                    }
                 }
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
-        
+
         filterChain.doFilter(request, response);
     }
 
@@ -71,47 +107,77 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private boolean validateToken(String token) {
+    /**
+     * Verify the token, or return the cached result of an earlier verification; null if the token is invalid
+     */
+    private VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.get(tenantClaim, String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        // Tokens without exp are verified on every request rather than cached forever
+        if (expiration != null) {
+            verifiedTokens.put(digest, verified);
         }
+        return verified;
     }
 
-    private String getUsernameFromToken(String token) {
+    private static String digest(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            return claims.getSubject();
-        } catch (Exception e) {
-            log.error("Error extracting username from token: {}", e.getMessage());
-            return null;
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
     public String generateToken(String username) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
-        
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        
+
         return Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
-} 
\ No newline at end of file
+
+    private record VerifiedToken(String username, String tenant, long expiresAtMillis) {
+    }
+
+    /**
+     * Drops a cached verification when its token expires
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            long millisLeft = token.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millisLeft));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.financemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financemanagement.service.LiveFeedBroker;
+import com.financemanagement.service.LiveFeedRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * With {@code feed.relay=redis}, live feed events reach subscribers on every node instead of only the node whose
+ * event handler saw them
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "feed", name = "relay", havingValue = "redis")
+public class LiveFeedRelayConfig {
+
+    @Bean
+    public LiveFeedRelay liveFeedRelay(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${feed.relay-channel:finance:feed}") String channel) {
+        return new LiveFeedRelay(redisTemplate, objectMapper, meterRegistry, channel);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer liveFeedListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                   LiveFeedRelay liveFeedRelay,
+                                                                   LiveFeedBroker liveFeedBroker) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(liveFeedRelay.listener(liveFeedBroker),
+                new ChannelTopic(liveFeedRelay.getChannel()));
+        return container;
+    }
+}
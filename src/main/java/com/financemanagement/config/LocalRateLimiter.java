@@ -0,0 +1,22 @@
+package com.financemanagement.config;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+/**
+ * Per-JVM rate limiter backed by the in-memory {@link RateLimitBucketStore}.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final RateLimitBucketStore bucketStore;
+
+    public LocalRateLimiter(RateLimitBucketStore bucketStore) {
+        this.bucketStore = bucketStore;
+    }
+
+    @Override
+    public Decision tryConsume(String key, int requestsPerMinute, int burstCapacity, int cost) {
+        ConsumptionProbe probe = bucketStore.resolve(key, requestsPerMinute, burstCapacity)
+                .tryConsumeAndReturnRemaining(cost);
+        return new Decision(probe.isConsumed(), probe.getRemainingTokens(), probe.getNanosToWaitForRefill());
+    }
+}
@@ -0,0 +1,188 @@
+package com.financemanagement.config;
+
+import com.financemanagement.security.EncryptionService;
+import com.financemanagement.security.FieldValidationEngine;
+import com.financemanagement.security.InputValidationService;
+import com.financemanagement.service.PerformanceOptimizedTransactionService;
+import com.financemanagement.service.TransactionService;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Times service, repository, encryption and validation calls into the {@link FinanceTimers}, tagged with
+ * {@code method} ({@code Type.method}) and {@code outcome} ({@code success} or {@code error}).
+ * <p>
+ * A plain AOP Alliance interceptor rather than an {@code @Aspect}: no join point or signature objects are created
+ * per call. The timers of a method are resolved on its first call and cached per target class and method, so a
+ * call costs two {@code nanoTime} reads, two lookups and one {@link Timer#record}. Methods returning a
+ * {@link CompletionStage} are timed until the stage completes, and methods returning a {@link Mono} or {@link Flux}
+ * until it terminates or is cancelled.
+ */
+public class MethodMetricsInterceptor implements MethodInterceptor {
+
+    private static final Pattern REPORT_METHOD = Pattern.compile(".*(Summary|Report|Statistics|Breakdown|Total).*");
+    private static final Pattern QUERY_METHOD = Pattern.compile("^(get|find|search|count|exists|is).*");
+
+    private final Supplier<FinanceTimers> financeTimers;
+
+    private final ClassValue<TargetTimers> targets = new ClassValue<>() {
+        @Override
+        protected TargetTimers computeValue(Class<?> type) {
+            return new TargetTimers(type);
+        }
+    };
+
+    /**
+     * @param financeTimers resolved on the first call, so advisor creation does not initialize the meter registry
+     */
+    public MethodMetricsInterceptor(Supplier<FinanceTimers> financeTimers) {
+        this.financeTimers = financeTimers;
+    }
+
+    /**
+     * Beans to instrument: application services, Spring Data repositories, encryption and validation
+     */
+    public static boolean isInstrumented(Class<?> type) {
+        if (isApplicationRepository(type)) {
+            return true;
+        }
+        return type.getName().startsWith("com.financemanagement.")
+                && (AnnotatedElementUtils.hasAnnotation(type, Service.class)
+                || FieldValidationEngine.class.isAssignableFrom(type));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        MethodTimers timers = target != null ? targets.get(target.getClass()).get(invocation.getMethod()) : null;
+        if (timers == null) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            timers.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            return mono.doFinally(signal -> timers.record(signal, start));
+        }
+        if (result instanceof Flux<?> flux) {
+            return flux.doFinally(signal -> timers.record(signal, start));
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) ->
+                    (error == null ? timers.success : timers.error).record(System.nanoTime() - start,
+                            TimeUnit.NANOSECONDS));
+        } else {
+            timers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    private static boolean isApplicationRepository(Class<?> type) {
+        return Repository.class.isAssignableFrom(type) && repositoryInterface(type) != null;
+    }
+
+    private static Class<?> repositoryInterface(Class<?> type) {
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (Repository.class.isAssignableFrom(candidate)
+                    && candidate.getName().startsWith("com.financemanagement.")) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private FinanceTimers.Metric classify(Class<?> type, Method method) {
+        if (Repository.class.isAssignableFrom(type)) {
+            return FinanceTimers.Metric.DATABASE_QUERY;
+        }
+        if (EncryptionService.class.isAssignableFrom(type)) {
+            return FinanceTimers.Metric.ENCRYPTION;
+        }
+        if (InputValidationService.class.isAssignableFrom(type) || FieldValidationEngine.class.isAssignableFrom(type)) {
+            return FinanceTimers.Metric.VALIDATION;
+        }
+
+        String name = method.getName();
+        if (REPORT_METHOD.matcher(name).matches()) {
+            return FinanceTimers.Metric.REPORT_GENERATION;
+        }
+        if (TransactionService.class.isAssignableFrom(type)
+                || PerformanceOptimizedTransactionService.class.isAssignableFrom(type)) {
+            if (name.startsWith("create")) {
+                return FinanceTimers.Metric.TRANSACTION_CREATION;
+            }
+            if (QUERY_METHOD.matcher(name).matches()) {
+                return FinanceTimers.Metric.TRANSACTION_QUERY;
+            }
+        }
+        return FinanceTimers.Metric.SERVICE;
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+
+        void record(SignalType signal, long start) {
+            (signal == SignalType.ON_ERROR ? error : success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Timers of the methods of one target class, created on first call
+     */
+    private final class TargetTimers {
+
+        private final Class<?> type;
+        private final String typeName;
+        private final ConcurrentHashMap<Method, MethodTimers> byMethod = new ConcurrentHashMap<>();
+
+        private TargetTimers(Class<?> type) {
+            this.type = type;
+            Class<?> repository = repositoryInterface(type);
+            this.typeName = repository != null
+                    ? repository.getSimpleName()
+                    : ClassUtils.getUserClass(type).getSimpleName();
+        }
+
+        private MethodTimers get(Method method) {
+            MethodTimers timers = byMethod.get(method);
+            if (timers == null && isTimed(method)) {
+                timers = byMethod.computeIfAbsent(method, this::create);
+            }
+            return timers;
+        }
+
+        private boolean isTimed(Method method) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+
+        private MethodTimers create(Method method) {
+            FinanceTimers.Metric metric = classify(type, method);
+            String methodTag = typeName + "." + method.getName();
+            FinanceTimers timers = financeTimers.get();
+            return new MethodTimers(
+                    timers.timer(metric, "method", methodTag, "outcome", "success"),
+                    timers.timer(metric, "method", methodTag, "outcome", "error"));
+        }
+    }
+}
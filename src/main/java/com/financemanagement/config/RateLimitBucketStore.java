@@ -0,0 +1,63 @@
+package com.financemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded store of rate-limit buckets.
+ * <p>
+ * Entries are evicted once idle for {@code security.rate-limit.idle-timeout} or when the store exceeds
+ * {@code security.rate-limit.max-buckets}, so scanning traffic from many addresses cannot grow it without limit.
+ * Lookups of existing buckets and token consumption are both lock-free.
+ */
+@Component
+@Slf4j
+public class RateLimitBucketStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    public RateLimitBucketStore(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+
+        Gauge.builder("finance.rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("Number of rate limit buckets currently tracked")
+                .register(meterRegistry);
+
+        log.info("Rate limit bucket store configured with maxBuckets={}, idleTimeout={}",
+                properties.getMaxBuckets(), properties.getIdleTimeout());
+    }
+
+    public Bucket resolve(String key, int requestsPerMinute, int burstCapacity) {
+        return buckets.get(key, k -> createBucket(requestsPerMinute, burstCapacity));
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Run pending evictions now instead of on the next access
+     */
+    public void cleanUp() {
+        buckets.cleanUp();
+    }
+
+    private Bucket createBucket(int requestsPerMinute, int burstCapacity) {
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(requestsPerMinute, Refill.intervally(requestsPerMinute, Duration.ofMinutes(1))))
+                .addLimit(Bandwidth.classic(burstCapacity, Refill.intervally(burstCapacity, Duration.ofMinutes(1))))
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties,
+                                   RateLimitBucketStore bucketStore,
+                                   ObjectProvider<RedisTokenStore> redisTokenStore,
+                                   MeterRegistry meterRegistry) {
+        validateRouteCosts(properties);
+        RateLimiter localRateLimiter = new LocalRateLimiter(bucketStore);
+        if (properties.getMode() != RateLimitProperties.Mode.DISTRIBUTED) {
+            log.info("Rate limiting configured in LOCAL mode");
+            return localRateLimiter;
+        }
+
+        RateLimitProperties.Distributed distributed = properties.getDistributed();
+        log.info("Rate limiting configured in DISTRIBUTED mode with prefetchTokens={}, leaseTtl={}, timeout={}",
+                distributed.getPrefetchTokens(), distributed.getLeaseTtl(), distributed.getTimeout());
+
+        return new DistributedRateLimiter(
+                redisTokenStore.getObject(),
+                localRateLimiter,
+                properties,
+                meterRegistry);
+    }
+
+    /**
+     * Every route cost must fit the smallest bucket it can be charged to: a request costing more than the bucket
+     * holds would be rejected forever, however long the client waits
+     */
+    static void validateRouteCosts(RateLimitProperties properties) {
+        int smallestCapacity = Math.min(properties.getBurstCapacity(), properties.getPrincipalBurstCapacity());
+        properties.getRouteCosts().forEach((route, cost) -> {
+            if (cost == null || cost < 1 || cost > smallestCapacity) {
+                throw new IllegalStateException("security.rate-limit.route-costs." + route + " is " + cost
+                        + " but must be between 1 and the smallest bucket capacity, " + smallestCapacity);
+            }
+        });
+    }
+
+    /**
+     * Not a RedisConnectionFactory bean, which would make Boot's own Redis connection back off; the store closes
+     * its connection when the context shuts down
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.rate-limit", name = "mode", havingValue = "distributed")
+    public RedisTokenStore redisTokenStore(RedisProperties redisProperties, RateLimitProperties properties) {
+        RateLimitProperties.Distributed distributed = properties.getDistributed();
+        return RedisTokenStore.connect(redisProperties, distributed.getTimeout(), distributed.getKeyPrefix());
+    }
+}
@@ -0,0 +1,115 @@
+package com.financemanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    /**
+     * Limits for anonymous clients, keyed by client IP
+     */
+    private int requestsPerMinute = 100;
+    private int burstCapacity = 200;
+
+    /**
+     * Limits for authenticated clients, keyed by principal or tenant
+     */
+    private int principalRequestsPerMinute = 300;
+    private int principalBurstCapacity = 600;
+
+    /**
+     * Per-principal requests-per-minute overrides, keyed by principal name
+     */
+    private Map<String, Integer> principalOverrides = new LinkedHashMap<>();
+
+    /**
+     * What authenticated requests are keyed by: PRINCIPAL or TENANT
+     */
+    private KeyStrategy keyStrategy = KeyStrategy.PRINCIPAL;
+
+    /**
+     * JWT claim holding the tenant identifier when keying by tenant
+     */
+    private String tenantClaim = "tenant_id";
+
+    /**
+     * Only honour X-Forwarded-For / X-Real-IP when running behind a trusted proxy
+     */
+    private boolean trustForwardedHeaders = false;
+
+    /**
+     * Proxies in front of the application that each append the address they received from to X-Forwarded-For;
+     * the client address is taken this many entries from the right, since everything further left is client input
+     */
+    private int trustedProxyCount = 1;
+
+    /**
+     * Upper bound on tracked buckets; least recently used buckets are evicted first
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Buckets not touched for this long are evicted
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Token cost per request for matching routes (Ant-style patterns, first match wins); default cost is 1. A cost
+     * above a bucket capacity could never be paid, so such a configuration is rejected at startup
+     */
+    private Map<String, Integer> routeCosts = new LinkedHashMap<>();
+
+    /**
+     * LOCAL enforces limits per JVM; DISTRIBUTED shares buckets across replicas through Redis
+     */
+    private Mode mode = Mode.LOCAL;
+
+    private Distributed distributed = new Distributed();
+
+    public enum KeyStrategy {
+        PRINCIPAL,
+        TENANT
+    }
+
+    public enum Mode {
+        LOCAL,
+        DISTRIBUTED
+    }
+
+    @Data
+    public static class Distributed {
+
+        /**
+         * Prefix of the Redis keys holding bucket state
+         */
+        private String keyPrefix = "rate-limit:";
+
+        /**
+         * Tokens reserved from Redis per round trip and then handed out locally
+         */
+        private int prefetchTokens = 10;
+
+        /**
+         * How long locally prefetched tokens stay usable; unused tokens are dropped afterwards
+         */
+        private Duration leaseTtl = Duration.ofSeconds(1);
+
+        /**
+         * Redis calls slower than this fall back to local-only limiting
+         */
+        private Duration timeout = Duration.ofMillis(50);
+
+        /**
+         * How long to stay on local-only limiting after a slow or failed Redis call
+         */
+        private Duration failureCooldown = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,15 @@
+package com.financemanagement.config;
+
+/**
+ * Token-bucket rate limiter used by {@link RateLimitingFilter}.
+ */
+public interface RateLimiter {
+
+    /**
+     * Try to take {@code cost} tokens from the bucket identified by {@code key}
+     */
+    Decision tryConsume(String key, int requestsPerMinute, int burstCapacity, int cost);
+
+    record Decision(boolean allowed, long remainingTokens, long nanosToWaitForRefill) {
+    }
+}
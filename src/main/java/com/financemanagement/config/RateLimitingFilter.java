@@ -1,79 +1,146 @@
 package com.financemanagement.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    @Value("${security.rate-limit.requests-per-minute:100}")
-    private int requestsPerMinute;
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<KeyType, Counter> rejectionCounters = new EnumMap<>(KeyType.class);
+    private final Timer allowedTimer;
+    private final Timer limitedTimer;
 
-    @Value("${security.rate-limit.burst-capacity:200}")
-    private int burstCapacity;
-
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    public RateLimitingFilter(RateLimitProperties properties, RateLimiter rateLimiter, MeterRegistry meterRegistry,
+                              FinanceTimers financeTimers) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.allowedTimer = financeTimers.timer(FinanceTimers.Metric.RATE_LIMIT, "outcome", "allowed");
+        this.limitedTimer = financeTimers.timer(FinanceTimers.Metric.RATE_LIMIT, "outcome", "limited");
+        for (KeyType keyType : KeyType.values()) {
+            rejectionCounters.put(keyType, Counter.builder("finance.rate.limit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("key", keyType.tag)
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
-        String clientIp = getClientIpAddress(request);
-        String userAgent = request.getHeader("User-Agent");
-        
-        // Create bucket for client if not exists
-        Bucket bucket = buckets.computeIfAbsent(clientIp, this::createBucket);
-        
-        // Check if request is allowed
-        if (bucket.tryConsume(1)) {
+
+        long start = System.nanoTime();
+        RateLimitKey key = resolveKey(request);
+        int cost = resolveCost(request.getRequestURI());
+
+        RateLimiter.Decision decision = rateLimiter.tryConsume(
+                key.value(), key.requestsPerMinute(), key.burstCapacity(), cost);
+        (decision.allowed() ? allowedTimer : limitedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (decision.allowed()) {
             // Add rate limit headers
-            response.addHeader("X-Rate-Limit-Remaining", String.valueOf(bucket.getAvailableTokens()));
+            response.addHeader("X-Rate-Limit-Remaining", String.valueOf(decision.remainingTokens()));
             response.addHeader("X-Rate-Limit-Reset", String.valueOf(System.currentTimeMillis() + 60000));
-            
-            log.debug("Rate limit check passed for IP: {}, User-Agent: {}", clientIp, userAgent);
+
             filterChain.doFilter(request, response);
         } else {
-            log.warn("Rate limit exceeded for IP: {}, User-Agent: {}", clientIp, userAgent);
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.nanosToWaitForRefill()));
+            rejectionCounters.get(key.type()).increment();
+            log.warn("Rate limit exceeded for {} on {} (cost {})", key.value(), request.getRequestURI(), cost);
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
             response.setContentType("application/json");
             response.getWriter().write("{\"error\":\"Rate limit exceeded\",\"message\":\"Too many requests\"}");
         }
     }
 
-    private Bucket createBucket(String clientIp) {
-        return Bucket.builder()
-                .addLimit(Bandwidth.classic(requestsPerMinute, Refill.intervally(requestsPerMinute, Duration.ofMinutes(1))))
-                .addLimit(Bandwidth.classic(burstCapacity, Refill.intervally(burstCapacity, Duration.ofMinutes(1))))
-                .build();
+    private RateLimitKey resolveKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return new RateLimitKey(KeyType.IP, "ip:" + getClientIpAddress(request),
+                    properties.getRequestsPerMinute(), properties.getBurstCapacity());
+        }
+
+        if (properties.getKeyStrategy() == RateLimitProperties.KeyStrategy.TENANT) {
+            String tenant = getTenant(request, authentication);
+            if (tenant != null) {
+                return new RateLimitKey(KeyType.TENANT, "tenant:" + tenant,
+                        properties.getPrincipalRequestsPerMinute(), properties.getPrincipalBurstCapacity());
+            }
+        }
+
+        String principal = authentication.getName();
+        int requestsPerMinute = properties.getPrincipalOverrides()
+                .getOrDefault(principal, properties.getPrincipalRequestsPerMinute());
+        return new RateLimitKey(KeyType.PRINCIPAL, "principal:" + principal,
+                requestsPerMinute, Math.max(requestsPerMinute, properties.getPrincipalBurstCapacity()));
+    }
+
+    /**
+     * Tenant set by {@link JwtAuthenticationFilter}, or the claim of a resource-server JWT authentication
+     */
+    private String getTenant(HttpServletRequest request, Authentication authentication) {
+        if (request.getAttribute(JwtAuthenticationFilter.TENANT_ATTRIBUTE) instanceof String tenant) {
+            return tenant;
+        }
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            return jwtAuthentication.getToken().getClaimAsString(properties.getTenantClaim());
+        }
+        return null;
+    }
+
+    private int resolveCost(String path) {
+        for (Map.Entry<String, Integer> routeCost : properties.getRouteCosts().entrySet()) {
+            if (pathMatcher.match(routeCost.getKey(), path)) {
+                return routeCost.getValue();
+            }
+        }
+        return 1;
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
+        if (!properties.isTrustForwardedHeaders()) {
+            return request.getRemoteAddr();
         }
-        
+
+        String xForwardedFor = String.join(",", Collections.list(request.getHeaders("X-Forwarded-For")));
+        if (!xForwardedFor.isEmpty()) {
+            // Only the entries our own proxies appended can be trusted; the client chooses the ones further left
+            String[] hops = xForwardedFor.split(",");
+            int clientHop = hops.length - properties.getTrustedProxyCount();
+            String clientIp = clientHop >= 0 ? hops[clientHop].trim() : "";
+            return clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp) ? request.getRemoteAddr() : clientIp;
+        }
+
         String xRealIp = request.getHeader("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
             return xRealIp;
         }
-        
+
         return request.getRemoteAddr();
     }
 
@@ -81,9 +148,24 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
         // Skip rate limiting for health checks and public endpoints
-        return path.startsWith("/actuator/health") || 
-               path.startsWith("/api-docs") || 
+        return path.startsWith("/actuator/health") ||
+               path.startsWith("/api-docs") ||
                path.startsWith("/swagger-ui") ||
                path.startsWith("/oauth2");
     }
-} 
\ No newline at end of file
+
+    private enum KeyType {
+        IP("ip"),
+        PRINCIPAL("principal"),
+        TENANT("tenant");
+
+        private final String tag;
+
+        KeyType(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record RateLimitKey(KeyType type, String value, int requestsPerMinute, int burstCapacity) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.financemanagement.config;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
@@ -23,6 +24,9 @@ import java.util.Map;
 @Slf4j
 public class RedisCacheConfig {
 
+    public static final Duration TRANSACTIONS_TTL = Duration.ofMinutes(5);
+    public static final Duration ACCOUNTS_TTL = Duration.ofMinutes(10);
+
     @Value("${spring.cache.redis.time-to-live:3600}")
     private long defaultTtl;
 
@@ -36,8 +40,8 @@ public class RedisCacheConfig {
         template.setHashKeySerializer(new StringRedisSerializer());
         
         // Use JSON serializer for values
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer());
+        template.setHashValueSerializer(valueSerializer());
         
         template.afterPropertiesSet();
         
@@ -51,15 +55,15 @@ public class RedisCacheConfig {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofSeconds(defaultTtl))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer()))
                 .disableCachingNullValues();
 
         // Custom cache configurations for different data types
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         
         // Short TTL for frequently changing data
-        cacheConfigurations.put("transactions", defaultConfig.entryTtl(Duration.ofMinutes(5)));
-        cacheConfigurations.put("accounts", defaultConfig.entryTtl(Duration.ofMinutes(10)));
+        cacheConfigurations.put("transactions", defaultConfig.entryTtl(TRANSACTIONS_TTL));
+        cacheConfigurations.put("accounts", defaultConfig.entryTtl(ACCOUNTS_TTL));
         
         // Medium TTL for moderately changing data
         cacheConfigurations.put("statistics", defaultConfig.entryTtl(Duration.ofMinutes(30)));
@@ -86,7 +90,16 @@ public class RedisCacheConfig {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofSeconds(defaultTtl))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer()))
                 .disableCachingNullValues();
     }
-} 
\ No newline at end of file
+
+    /**
+     * JSON value serializer for the template and every cache; registers the Java time module so cached DTOs with
+     * dates round-trip
+     */
+    public static GenericJackson2JsonRedisSerializer valueSerializer() {
+        return new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.financemanagement.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Token buckets kept in Redis hashes and updated by a single Lua script, so concurrent replicas never race.
+ * The script uses the Redis server clock, which keeps refill consistent regardless of replica clock skew.
+ * <p>
+ * {@link #connect} opens a dedicated connection whose command timeout is the rate limiter's latency budget, so a
+ * slow Redis fails the call on the request thread.
+ */
+public class RedisTokenStore implements DistributedTokenStore, DisposableBean {
+
+    private static final String ACQUIRE_SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2]) / 60000
+            local requested = tonumber(ARGV[3])
+            local minimum = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+            local granted = 0
+            if tokens >= minimum then
+                granted = math.min(requested, math.floor(tokens))
+                tokens = tokens - granted
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+            return {granted, math.floor(tokens)}
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<List> acquireScript;
+    private final String keyPrefix;
+    private final LettuceConnectionFactory ownedConnection;
+
+    public RedisTokenStore(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this(redisTemplate, keyPrefix, null);
+    }
+
+    private RedisTokenStore(StringRedisTemplate redisTemplate, String keyPrefix,
+                            LettuceConnectionFactory ownedConnection) {
+        this.redisTemplate = redisTemplate;
+        this.acquireScript = new DefaultRedisScript<>(ACQUIRE_SCRIPT, List.class);
+        this.keyPrefix = keyPrefix;
+        this.ownedConnection = ownedConnection;
+    }
+
+    /**
+     * A store on its own connection to the standalone server in {@code spring.data.redis}, with commands failing
+     * after {@code commandTimeout}
+     */
+    public static RedisTokenStore connect(RedisProperties redis, Duration commandTimeout, String keyPrefix) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(redis.getHost(), redis.getPort());
+        server.setDatabase(redis.getDatabase());
+        server.setUsername(redis.getUsername());
+        if (redis.getPassword() != null) {
+            server.setPassword(redis.getPassword());
+        }
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout);
+        if (redis.getSsl().isEnabled()) {
+            client.useSsl();
+        }
+        LettuceConnectionFactory connection = new LettuceConnectionFactory(server, client.build());
+        connection.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connection);
+        redisTemplate.afterPropertiesSet();
+        return new RedisTokenStore(redisTemplate, keyPrefix, connection);
+    }
+
+    @Override
+    public void destroy() {
+        if (ownedConnection != null) {
+            ownedConnection.destroy();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Grant acquire(String key, long capacity, long refillPerMinute, long requested, long minimum) {
+        List<Long> result = redisTemplate.execute(acquireScript, List.of(keyPrefix + key),
+                String.valueOf(capacity), String.valueOf(refillPerMinute),
+                String.valueOf(requested), String.valueOf(minimum));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new Grant(result.get(0), result.get(1));
+    }
+}
@@ -0,0 +1,236 @@
+package com.financemanagement.config;
+
+import com.financemanagement.web.CoalesceRequests;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Lets identical concurrent GETs to {@link CoalesceRequests} routes share one execution. The first request runs the
+ * handler and buffers its response. Identical requests that arrive while it runs, or within
+ * {@code coalescing.reuse-window} after, get a copy of its headers and body. Requests are identical when they have
+ * the same path, query string, {@code Accept} header and caller, per the route's scope.
+ * <p>
+ * Only 200 responses are shared. A request whose leader fails, or that waits longer than
+ * {@code coalescing.wait-timeout}, runs the handler itself. Requests with {@code If-None-Match} bypass coalescing,
+ * since they are answered by a cheap version lookup. Runs after the security filter chain, so every request is
+ * still authenticated, authorized and rate limited on its own.
+ */
+@Component
+@Slf4j
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final Duration waitTimeout;
+    private final AsyncCache<String, BufferedResponse> responses;
+    private final Counter led;
+    private final Counter joined;
+    private final Counter reused;
+    private volatile Map<PathPattern, CoalesceRequests.Scope> routes = Map.of();
+
+    public RequestCoalescingFilter(@Value("${coalescing.enabled:true}") boolean enabled,
+                                   @Value("${coalescing.reuse-window:PT0.5S}") Duration reuseWindow,
+                                   @Value("${coalescing.wait-timeout:PT5S}") Duration waitTimeout,
+                                   @Value("${coalescing.max-entries:10000}") long maxEntries,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.waitTimeout = waitTimeout;
+        // Expiry of an async entry starts when its future completes; failed and null results are dropped at once
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(reuseWindow)
+                .maximumSize(maxEntries)
+                .buildAsync();
+        this.led = counter(meterRegistry, "leader");
+        this.joined = counter(meterRegistry, "joined");
+        this.reused = counter(meterRegistry, "reused");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("finance.http.coalesced")
+                .description("GETs on coalesced routes, by whether they ran the handler or shared a response")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        if (!event.getApplicationContext().containsBean("requestMappingHandlerMapping")) {
+            return;
+        }
+        RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Map<PathPattern, CoalesceRequests.Scope> discovered = new LinkedHashMap<>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            CoalesceRequests coalesce = handlerMethod.getMethodAnnotation(CoalesceRequests.class);
+            if (coalesce != null && info.getPathPatternsCondition() != null) {
+                info.getPathPatternsCondition().getPatterns()
+                        .forEach(pattern -> discovered.put(pattern, coalesce.scope()));
+            }
+        });
+        routes(discovered);
+        log.info("Coalescing identical GETs on {}", discovered.keySet());
+    }
+
+    void routes(Map<PathPattern, CoalesceRequests.Scope> routes) {
+        this.routes = Map.copyOf(routes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routes.isEmpty() || !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CoalesceRequests.Scope scope = scopeOf(request);
+        if (scope == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = key(request, scope);
+        CompletableFuture<BufferedResponse> own = new CompletableFuture<>();
+        CompletableFuture<BufferedResponse> shared = responses.asMap().putIfAbsent(key, own);
+        if (shared == null) {
+            led.increment();
+            lead(request, response, filterChain, own);
+            return;
+        }
+
+        Counter role = shared.isDone() ? reused : joined;
+        BufferedResponse buffered = await(shared);
+        if (buffered != null) {
+            role.increment();
+            buffered.writeTo(response);
+        } else {
+            led.increment();
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void lead(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                      CompletableFuture<BufferedResponse> own) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        BufferedResponse buffered = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                buffered = BufferedResponse.of(wrapper);
+            }
+        } finally {
+            // Null sends waiting requests to the handler themselves, and drops the entry
+            own.complete(buffered);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private BufferedResponse await(CompletableFuture<BufferedResponse> shared) {
+        try {
+            return shared.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private CoalesceRequests.Scope scopeOf(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (Map.Entry<PathPattern, CoalesceRequests.Scope> route : routes.entrySet()) {
+            if (route.getKey().matches(path)) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String key(HttpServletRequest request, CoalesceRequests.Scope scope) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        key.append('|').append(accept != null ? accept : "");
+        return key.append('|').append(caller(scope)).toString();
+    }
+
+    private static String caller(CoalesceRequests.Scope scope) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "anonymous";
+        }
+        if (scope == CoalesceRequests.Scope.PRINCIPAL) {
+            return "principal:" + authentication.getName();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(",", "authorities:", ""));
+    }
+
+    /**
+     * A shareable 200 response. Set-Cookie is never shared, and headers a follower already has, such as those the
+     * security chain set, are left alone.
+     */
+    private record BufferedResponse(String contentType, Map<String, List<String>> headers, byte[] body) {
+
+        static BufferedResponse of(ContentCachingResponseWrapper wrapper) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : wrapper.getHeaderNames()) {
+                if (!HttpHeaders.SET_COOKIE.equalsIgnoreCase(name)) {
+                    headers.put(name, List.copyOf(wrapper.getHeaders(name)));
+                }
+            }
+            return new BufferedResponse(wrapper.getContentType(), headers, wrapper.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(HttpServletResponse.SC_OK);
+            headers.forEach((name, values) -> {
+                if (!response.containsHeader(name)) {
+                    values.forEach(value -> response.addHeader(name, value));
+                }
+            });
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.financemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache in front of the {@link UserDetailsService}.
+ * <p>
+ * Anything that changes a user's password, roles or enabled state must call {@link #evict(String)} or publish a
+ * {@link UserDetailsChangedEvent}; otherwise the change takes effect after {@code security.user-details-cache.ttl}.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(UserDetailsService userDetailsService,
+                            @Value("${security.user-details-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-details-cache.ttl:PT5M}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        log.info("User details cache configured with maxSize={}, ttl={}", maxSize, ttl);
+    }
+
+    public UserDetails loadUserByUsername(String username) {
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onUserDetailsChanged(UserDetailsChangedEvent event) {
+        if (event.username() == null) {
+            log.debug("Evicting all cached user details");
+            evictAll();
+        } else {
+            log.debug("Evicting cached user details of {}", event.username());
+            evict(event.username());
+        }
+    }
+
+    /**
+     * Published when a user's credentials, authorities or status change; a null username evicts every user
+     */
+    public record UserDetailsChangedEvent(String username) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Support for {@code spring.threads.virtual.enabled=true} (Java 21+): with it, Tomcat and the {@link AsyncConfig}
+ * executors run each request and task on its own virtual thread. Because nothing bounds concurrency any more, the
+ * {@code dataSource} is wrapped in a {@link ConcurrencyLimitedDataSource}, and pinned carrier threads are reported by
+ * {@link VirtualThreadPinningMonitor}.
+ */
+@Configuration
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            FinanceTimers financeTimers, MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(financeTimers, meterRegistry, threshold);
+    }
+
+    /**
+     * Only with virtual threads on a JVM that has them, where no request thread pool bounds concurrency; set
+     * {@code database.concurrency-limit.enabled=false} to opt out
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "database.concurrency-limit", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    static BeanPostProcessor databaseConcurrencyLimit(
+            ObjectProvider<FinanceTimers> financeTimers, ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${database.concurrency-limit.permits:20}") int permits,
+            @Value("${database.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.info("Limiting {} to {} concurrent connections", beanName, permits);
+                    ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(
+                            dataSource, permits, acquireTimeout, financeTimers.getObject());
+                    Gauge.builder("finance.database.permits.in-use", limited, ConcurrencyLimitedDataSource::getInUse)
+                            .register(meterRegistry.getObject());
+                    Gauge.builder("finance.database.permits.waiting", limited,
+                                    ConcurrencyLimitedDataSource::getQueueLength)
+                            .register(meterRegistry.getObject());
+                    return limited;
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the JDK's {@code jdk.VirtualThreadPinned} events and records them into {@code finance.virtual.pinned},
+ * tagged with the first application frame on the pinned stack. Each site is logged once with its stack, so a
+ * {@code synchronized} block or native call that blocks a carrier thread shows up without attaching a profiler.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+    private static final String APPLICATION_PACKAGE = "com.financemanagement.";
+
+    private final FinanceTimers financeTimers;
+    private final Counter submitFailed;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(FinanceTimers financeTimers, MeterRegistry meterRegistry, Duration threshold) {
+        this.financeTimers = financeTimers;
+        this.submitFailed = Counter.builder("finance.virtual.submit.failed")
+                .description("Virtual thread starts or unparks the scheduler rejected")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(threshold).withStackTrace();
+        stream.enable(SUBMIT_FAILED).withStackTrace();
+        stream.onEvent(PINNED, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED, event -> {
+            submitFailed.increment();
+            log.warn("Virtual thread submit failed: {}", event.getString("exceptionMessage"));
+        });
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started with threshold {}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+        financeTimers.timer(FinanceTimers.Metric.VIRTUAL_THREAD_PINNED, "site", site).record(event.getDuration());
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {}ms at {}:\n{}",
+                    event.getDuration().toMillis(), site, format(event.getStackTrace()));
+        }
+    }
+
+    /**
+     * First application frame, falling back to the top frame when the pin happened entirely in library code
+     */
+    static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return name(frame);
+            }
+        }
+        return name(stackTrace.getFrames().get(0));
+    }
+
+    private static String name(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<no stack trace>";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            sb.append("\tat ").append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber()).append('\n');
+        }
+        return sb.toString();
+    }
+}
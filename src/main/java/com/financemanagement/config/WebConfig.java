@@ -0,0 +1,79 @@
+package com.financemanagement.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.FieldSelection;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.service.AccountService;
+import com.financemanagement.service.ExchangeRateService;
+import com.financemanagement.service.TransactionService;
+import com.financemanagement.web.ConditionalGetInterceptor;
+import com.financemanagement.web.FieldSelectionArgumentResolver;
+import com.financemanagement.web.ProtobufDtoHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AccountService accountService;
+    private final TransactionService transactionService;
+    private final ExchangeRateService exchangeRateService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(accountService, transactionService,
+                        exchangeRateService, meterRegistry))
+                .addPathPatterns("/api/v1/accounts/**", "/api/v1/transactions/**");
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new FieldSelectionArgumentResolver());
+    }
+
+    /**
+     * Binary representations for service-to-service clients, chosen by {@code Accept}. Appended after JSON so
+     * wildcard {@code Accept} headers still get JSON. CBOR shares the application ObjectMapper's configuration,
+     * including date formats and field selection.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(new ProtobufDtoHttpMessageConverter());
+    }
+
+    /**
+     * Puts the DTOs behind the field selection filter on the application's ObjectMapper only, so the Redis cache
+     * serializer keeps writing whole DTOs. Serializes everything unless a response asks otherwise. Static so the
+     * ObjectMapper does not wait on the services this configuration holds.
+     */
+    @Bean
+    public static Jackson2ObjectMapperBuilderCustomizer fieldSelectionCustomizer() {
+        return builder -> builder
+                .mixIn(TransactionDTO.class, FieldSelectionMixin.class)
+                .mixIn(AccountDTO.class, FieldSelectionMixin.class)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @JsonFilter(FieldSelection.FILTER_ID)
+    private interface FieldSelectionMixin {
+    }
+}
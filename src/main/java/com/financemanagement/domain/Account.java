@@ -12,6 +12,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "accounts")
+@EntityListeners(AccountNumberIndexListener.class)
 @Aggregate
 @Data
 @NoArgsConstructor
@@ -42,8 +43,20 @@ public class Account {
     @Enumerated(EnumType.STRING)
     private Currency currency;
 
+    /**
+     * Stored encrypted; look accounts up through {@link #accountNumberHash} or {@link #accountNumberLast4}
+     */
     private String accountNumber;
 
+    /**
+     * Blind index (keyed HMAC) of the normalized account number
+     */
+    @Column(name = "account_number_hash", length = 44)
+    private String accountNumberHash;
+
+    @Column(name = "account_number_last4", length = 4)
+    private String accountNumberLast4;
+
     private String institution;
 
     @Enumerated(EnumType.STRING)
@@ -112,6 +125,10 @@ public class Account {
         return type == AccountType.CREDIT_CARD;
     }
 
+    public String getMaskedAccountNumber() {
+        return accountNumberLast4 != null ? "****" + accountNumberLast4 : null;
+    }
+
     public BigDecimal getAbsoluteBalance() {
         return currentBalance.abs();
     }
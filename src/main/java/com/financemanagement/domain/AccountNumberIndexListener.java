@@ -0,0 +1,39 @@
+package com.financemanagement.domain;
+
+import com.financemanagement.security.EncryptionService;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the blind index and last-4 columns of an account in step with its account number, and encrypts a newly
+ * assigned plain account number before it is written. Instantiated by Hibernate through the Spring bean container.
+ */
+@RequiredArgsConstructor
+public class AccountNumberIndexListener {
+
+    private final EncryptionService encryptionService;
+
+    @PrePersist
+    @PreUpdate
+    public void indexAccountNumber(Account account) {
+        String accountNumber = account.getAccountNumber();
+        if (accountNumber == null || accountNumber.isBlank()) {
+            account.setAccountNumber(null);
+            account.setAccountNumberHash(null);
+            account.setAccountNumberLast4(null);
+            return;
+        }
+        // An encrypted number is indexed from its plain text too; the index columns may be missing or stale, e.g. on
+        // rows written before the blind index existed or a ciphertext copied from another account
+        boolean encrypted = encryptionService.isEncrypted(accountNumber);
+        String normalized = encryptionService.normalizeAccountNumber(
+                encrypted ? encryptionService.decryptAccountNumber(accountNumber) : accountNumber);
+        account.setAccountNumberHash(encryptionService.blindIndex(normalized));
+        account.setAccountNumberLast4(normalized != null && normalized.length() >= 4
+                ? normalized.substring(normalized.length() - 4) : normalized);
+        if (!encrypted) {
+            account.setAccountNumber(encryptionService.encrypt(normalized));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.financemanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change to an account or transaction, appended by database triggers. {@link #sequence} is assigned after
+ * commit by {@link com.financemanagement.service.SyncService}; rows without one are not visible to sync yet.
+ */
+@Entity
+@Table(name = "sync_changes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncChange {
+
+    public static final String ACCOUNT = "ACCOUNT";
+    public static final String TRANSACTION = "TRANSACTION";
+    public static final String DELETE = "DELETE";
+
+    @Id
+    private Long id;
+
+    @Column(name = "entity_type")
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private String entityId;
+
+    @Column(name = "account_id")
+    private String accountId;
+
+    private String operation;
+
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+
+    private Long sequence;
+
+    public boolean isDelete() {
+        return DELETE.equals(operation);
+    }
+}
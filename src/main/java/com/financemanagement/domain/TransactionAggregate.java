@@ -66,6 +66,7 @@ public class TransactionAggregate {
         // Publish event
         AggregateLifecycle.apply(TransactionUpdatedEvent.builder()
                 .transactionId(command.getTransactionId())
+                .accountId(accountId)
                 .description(command.getDescription())
                 .amount(command.getAmount())
                 .category(command.getCategory())
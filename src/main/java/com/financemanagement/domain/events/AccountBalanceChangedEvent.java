@@ -0,0 +1,22 @@
+package com.financemanagement.domain.events;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Live feed notification of a plain JPA update; not an Axon event, so it is never stored
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceChangedEvent {
+
+    private String accountId;
+    private BigDecimal previousBalance;
+    private BigDecimal currentBalance;
+    private String currency;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.financemanagement.domain.events;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Live feed notification of a plain JPA update; not an Axon event, so it is never stored
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionStatusChangedEvent {
+
+    private String transactionId;
+    private String accountId;
+    private String status;
+    private LocalDateTime updatedAt;
+}
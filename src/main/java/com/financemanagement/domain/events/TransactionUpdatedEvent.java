@@ -15,6 +15,10 @@ import java.time.LocalDateTime;
 public class TransactionUpdatedEvent {
 
     private String transactionId;
+    /**
+     * Absent from events recorded before it was added
+     */
+    private String accountId;
     private String description;
     private BigDecimal amount;
     private String category;
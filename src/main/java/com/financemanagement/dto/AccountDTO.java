@@ -7,6 +7,7 @@ import lombok.*;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -15,6 +16,13 @@ import java.time.LocalDateTime;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AccountDTO {
 
+    /**
+     * JSON names of the computed fields, left out of the compact view and only mapped when requested
+     */
+    public static final Set<String> DERIVED_FIELDS = Set.of(
+            "accountTypeDisplay", "currencyDisplay", "statusDisplay", "absoluteBalance",
+            "active", "mainAccount", "specialCheckAccount", "creditCard");
+
     private String id;
 
     @NotBlank(message = "Account name is required")
@@ -35,6 +43,8 @@ public class AccountDTO {
 
     private String accountNumber;
 
+    private String maskedAccountNumber;
+
     private String institution;
 
     private String status;
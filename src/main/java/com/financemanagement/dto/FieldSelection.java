@@ -0,0 +1,84 @@
+package com.financemanagement.dto;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The representation a client asked for: {@code fields=id,amount,...} keeps only the named JSON properties, and
+ * {@code view=compact} drops the computed fields. {@code fields} wins when both are given. Unknown names and views
+ * are ignored.
+ */
+public final class FieldSelection {
+
+    public static final String FILTER_ID = "fieldSelection";
+
+    public static final FieldSelection ALL = new FieldSelection(null, false);
+
+    private static final Set<String> ALL_DERIVED_FIELDS = Stream
+            .concat(TransactionDTO.DERIVED_FIELDS.stream(), AccountDTO.DERIVED_FIELDS.stream())
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final Set<String> fields;
+    private final boolean compact;
+
+    private FieldSelection(Set<String> fields, boolean compact) {
+        this.fields = fields;
+        this.compact = compact;
+    }
+
+    public static FieldSelection of(String fields, String view) {
+        Set<String> names = null;
+        if (fields != null && !fields.isBlank()) {
+            names = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+        boolean compact = "compact".equalsIgnoreCase(view);
+        return names == null && !compact ? ALL : new FieldSelection(names, compact);
+    }
+
+    public boolean isAll() {
+        return fields == null && !compact;
+    }
+
+    /**
+     * Whether any of these properties will be serialized, so mappers can skip computing the rest
+     */
+    public boolean includesAny(Set<String> names) {
+        if (fields != null) {
+            return !Collections.disjoint(fields, names);
+        }
+        return !compact;
+    }
+
+    /**
+     * Whether the property with this JSON name is serialized, for writers that do not go through Jackson
+     */
+    public boolean includes(String name) {
+        if (fields != null) {
+            return fields.contains(name);
+        }
+        return !compact || !ALL_DERIVED_FIELDS.contains(name);
+    }
+
+    public SimpleBeanPropertyFilter toPropertyFilter() {
+        if (fields != null) {
+            return SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        }
+        return compact
+                ? SimpleBeanPropertyFilter.serializeAllExcept(ALL_DERIVED_FIELDS)
+                : SimpleBeanPropertyFilter.serializeAll();
+    }
+
+    @Override
+    public String toString() {
+        return fields != null ? "fields=" + fields : compact ? "view=compact" : "all";
+    }
+}
@@ -0,0 +1,46 @@
+package com.financemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncResponse {
+
+    /**
+     * Pass as {@code since} on the next call
+     */
+    private long watermark;
+
+    /**
+     * More changes are waiting; call again with {@link #watermark} straight away
+     */
+    private boolean hasMore;
+
+    /**
+     * The watermark is unknown or older than the retained changes: reload everything, then sync from
+     * {@link #watermark}
+     */
+    private boolean resyncRequired;
+
+    private List<AccountDTO> accounts;
+
+    private List<TransactionDTO> transactions;
+
+    private List<Tombstone> deleted;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Tombstone {
+        private String type;
+        private String id;
+        private String accountId;
+    }
+}
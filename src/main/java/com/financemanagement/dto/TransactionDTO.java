@@ -8,6 +8,7 @@ import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -16,6 +17,12 @@ import java.time.LocalDateTime;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class TransactionDTO {
 
+    /**
+     * JSON names of the computed fields, left out of the compact view and only mapped when requested
+     */
+    public static final Set<String> DERIVED_FIELDS = Set.of(
+            "transactionTypeDisplay", "categoryDisplay", "statusDisplay", "absoluteAmount", "income", "expense", "recurring");
+
     private String id;
 
     @NotBlank(message = "Description is required")
@@ -0,0 +1,98 @@
+package com.financemanagement.eventstore;
+
+import org.axonframework.eventhandling.DomainEventData;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Packs the raw (still serialized) event entries of one aggregate into a single gzip blob and back.
+ * Payloads are kept in their serialized form so archived events go through the regular upcaster
+ * chain when they are read again.
+ */
+public final class ArchivedEventCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private ArchivedEventCodec() {
+    }
+
+    public static byte[] encode(List<? extends DomainEventData<byte[]>> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            for (DomainEventData<byte[]> entry : entries) {
+                out.writeUTF(entry.getType());
+                out.writeLong(entry.getSequenceNumber());
+                out.writeUTF(entry.getEventIdentifier());
+                out.writeLong(entry.getTimestamp().toEpochMilli());
+                out.writeUTF(entry.getPayload().getType().getName());
+                writeNullableUTF(out, entry.getPayload().getType().getRevision());
+                writeBytes(out, entry.getPayload().getData());
+                writeBytes(out, entry.getMetaData().getData());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode archived events", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<GenericDomainEventEntry<byte[]>> decode(String aggregateIdentifier, byte[] archived) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(archived)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported archive format version: " + version);
+            }
+            int count = in.readInt();
+            List<GenericDomainEventEntry<byte[]>> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String type = in.readUTF();
+                long sequenceNumber = in.readLong();
+                String eventIdentifier = in.readUTF();
+                long timestamp = in.readLong();
+                String payloadType = in.readUTF();
+                String payloadRevision = readNullableUTF(in);
+                byte[] payload = readBytes(in);
+                byte[] metaData = readBytes(in);
+                entries.add(new GenericDomainEventEntry<>(type, aggregateIdentifier, sequenceNumber, eventIdentifier,
+                        Instant.ofEpochMilli(timestamp), payloadType, payloadRevision, payload, metaData));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode archived events for aggregate " + aggregateIdentifier, e);
+        }
+    }
+
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.financemanagement.eventstore;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A compressed run of events moved out of the hot event table for a single aggregate.
+ */
+@Entity
+@Table(name = "domain_events_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedEventSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_identifier", nullable = false)
+    private String aggregateIdentifier;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "first_sequence_number", nullable = false)
+    private long firstSequenceNumber;
+
+    @Column(name = "last_sequence_number", nullable = false)
+    private long lastSequenceNumber;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    @Column(name = "events", nullable = false, columnDefinition = "bytea")
+    private byte[] events;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (archivedAt == null) {
+            archivedAt = LocalDateTime.now();
+        }
+    }
+}
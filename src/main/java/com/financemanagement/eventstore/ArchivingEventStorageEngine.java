@@ -0,0 +1,121 @@
+package com.financemanagement.eventstore;
+
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.EventStreamUtils;
+import org.axonframework.eventsourcing.eventstore.DomainEventStream;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Event storage engine that serves aggregates whose oldest events were moved to
+ * {@code domain_events_archive} by the {@link com.financemanagement.service.EventArchivalService}.
+ * <p>
+ * Writes and tracking reads go straight to the hot store. Aggregate reads only touch the archive when the
+ * hot stream does not start at the requested sequence number, so aggregates that were never archived pay
+ * nothing extra.
+ */
+@Slf4j
+public class ArchivingEventStorageEngine implements EventStorageEngine {
+
+    private final EventStorageEngine delegate;
+    private final EventArchiveRepository archiveRepository;
+    private final Serializer eventSerializer;
+    private final EventUpcaster upcasterChain;
+
+    public ArchivingEventStorageEngine(EventStorageEngine delegate,
+                                       EventArchiveRepository archiveRepository,
+                                       Serializer eventSerializer,
+                                       EventUpcaster upcasterChain) {
+        this.delegate = delegate;
+        this.archiveRepository = archiveRepository;
+        this.eventSerializer = eventSerializer;
+        this.upcasterChain = upcasterChain;
+    }
+
+    @Override
+    public void appendEvents(List<? extends EventMessage<?>> events) {
+        delegate.appendEvents(events);
+    }
+
+    @Override
+    public void storeSnapshot(DomainEventMessage<?> snapshot) {
+        delegate.storeSnapshot(snapshot);
+    }
+
+    @Override
+    public Stream<? extends TrackedEventMessage<?>> readEvents(TrackingToken trackingToken, boolean mayBlock) {
+        return delegate.readEvents(trackingToken, mayBlock);
+    }
+
+    @Override
+    public DomainEventStream readEvents(String aggregateIdentifier, long firstSequenceNumber) {
+        DomainEventStream hot = delegate.readEvents(aggregateIdentifier, firstSequenceNumber);
+        if (hot.hasNext() && hot.peek().getSequenceNumber() <= firstSequenceNumber) {
+            return hot;
+        }
+
+        long hotStart = hot.hasNext() ? hot.peek().getSequenceNumber() : Long.MAX_VALUE;
+        List<GenericDomainEventEntry<byte[]>> archived = archiveRepository
+                .findByAggregateIdentifierOrderByFirstSequenceNumberAsc(aggregateIdentifier)
+                .stream()
+                .filter(segment -> segment.getLastSequenceNumber() >= firstSequenceNumber
+                        && segment.getFirstSequenceNumber() < hotStart)
+                .flatMap(segment -> ArchivedEventCodec.decode(aggregateIdentifier, segment.getEvents()).stream())
+                .filter(entry -> entry.getSequenceNumber() >= firstSequenceNumber
+                        && entry.getSequenceNumber() < hotStart)
+                .toList();
+
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        log.info("Rehydrating {} archived events for aggregate {}", archived.size(), aggregateIdentifier);
+        DomainEventStream cold = EventStreamUtils.upcastAndDeserializeDomainEvents(
+                archived.stream(), eventSerializer, upcasterChain);
+        return DomainEventStream.concat(cold, hot);
+    }
+
+    @Override
+    public Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier) {
+        return delegate.readSnapshot(aggregateIdentifier);
+    }
+
+    @Override
+    public Optional<Long> lastSequenceNumberFor(String aggregateIdentifier) {
+        Optional<Long> hot = delegate.lastSequenceNumberFor(aggregateIdentifier);
+        return hot.isPresent() ? hot : archiveRepository.findLastSequenceNumber(aggregateIdentifier);
+    }
+
+    @Override
+    public TrackingToken createTailToken() {
+        return delegate.createTailToken();
+    }
+
+    @Override
+    public TrackingToken createHeadToken() {
+        return delegate.createHeadToken();
+    }
+
+    @Override
+    public TrackingToken createTokenAt(Instant dateTime) {
+        return delegate.createTokenAt(dateTime);
+    }
+
+    /**
+     * The wrapped hot-table engine, used by the archival job so its own reads bypass the archive.
+     */
+    public EventStorageEngine getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,20 @@
+package com.financemanagement.eventstore;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventArchiveRepository extends JpaRepository<ArchivedEventSegment, Long> {
+
+    List<ArchivedEventSegment> findByAggregateIdentifierOrderByFirstSequenceNumberAsc(String aggregateIdentifier);
+
+    boolean existsByAggregateIdentifier(String aggregateIdentifier);
+
+    @Query("SELECT MAX(s.lastSequenceNumber) FROM ArchivedEventSegment s WHERE s.aggregateIdentifier = :aggregateIdentifier")
+    Optional<Long> findLastSequenceNumber(@Param("aggregateIdentifier") String aggregateIdentifier);
+}
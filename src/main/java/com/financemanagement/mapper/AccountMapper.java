@@ -5,9 +5,10 @@ import com.financemanagement.domain.AccountStatus;
 import com.financemanagement.domain.AccountType;
 import com.financemanagement.domain.Currency;
 import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.FieldSelection;
 import org.mapstruct.*;
 
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", uses = AccountNumberMapper.class, unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface AccountMapper {
 
     @Mapping(target = "accountType", source = "type")
@@ -19,8 +20,30 @@ public interface AccountMapper {
     @Mapping(target = "isMainAccount", expression = "java(account.isMainAccount())")
     @Mapping(target = "isSpecialCheckAccount", expression = "java(account.isSpecialCheckAccount())")
     @Mapping(target = "isCreditCard", expression = "java(account.isCreditCard())")
+    @Mapping(target = "accountNumber", qualifiedByName = "plainAccountNumber")
+    @Mapping(target = "maskedAccountNumber", expression = "java(account.getMaskedAccountNumber())")
     AccountDTO toDTO(Account account);
 
+    @Mapping(target = "accountType", source = "type")
+    @Mapping(target = "accountTypeDisplay", ignore = true)
+    @Mapping(target = "currencyDisplay", ignore = true)
+    @Mapping(target = "statusDisplay", ignore = true)
+    @Mapping(target = "absoluteBalance", ignore = true)
+    @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "isMainAccount", ignore = true)
+    @Mapping(target = "isSpecialCheckAccount", ignore = true)
+    @Mapping(target = "isCreditCard", ignore = true)
+    @Mapping(target = "accountNumber", qualifiedByName = "plainAccountNumber")
+    @Mapping(target = "maskedAccountNumber", expression = "java(account.getMaskedAccountNumber())")
+    AccountDTO toCompactDTO(Account account);
+
+    /**
+     * Computes the derived fields only if the selection will serialize any of them
+     */
+    default AccountDTO toDTO(Account account, FieldSelection fields) {
+        return fields.includesAny(AccountDTO.DERIVED_FIELDS) ? toDTO(account) : toCompactDTO(account);
+    }
+
     @Mapping(target = "type", expression = "java(AccountType.valueOf(dto.getAccountType()))")
     @Mapping(target = "currency", expression = "java(Currency.valueOf(dto.getCurrency()))")
     @Mapping(target = "status", expression = "java(dto.getStatus() != null ? AccountStatus.valueOf(dto.getStatus()) : AccountStatus.ACTIVE)")
@@ -28,6 +51,8 @@ public interface AccountMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "accountNumberHash", ignore = true)
+    @Mapping(target = "accountNumberLast4", ignore = true)
     Account toEntity(AccountDTO dto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -38,5 +63,7 @@ public interface AccountMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "accountNumberHash", ignore = true)
+    @Mapping(target = "accountNumberLast4", ignore = true)
     void updateEntityFromDTO(AccountDTO dto, @MappingTarget Account account);
 } 
\ No newline at end of file
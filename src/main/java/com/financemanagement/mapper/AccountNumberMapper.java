@@ -0,0 +1,22 @@
+package com.financemanagement.mapper;
+
+import com.financemanagement.security.EncryptionService;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.Named;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the stored account number back into the plain number for {@link AccountMapper}; rows that still hold a plain
+ * number pass through unchanged
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountNumberMapper {
+
+    private final EncryptionService encryptionService;
+
+    @Named("plainAccountNumber")
+    public String toPlainAccountNumber(String accountNumber) {
+        return accountNumber != null ? encryptionService.decryptAccountNumber(accountNumber) : null;
+    }
+}
@@ -4,6 +4,7 @@ import com.financemanagement.domain.Transaction;
 import com.financemanagement.domain.TransactionCategory;
 import com.financemanagement.domain.TransactionStatus;
 import com.financemanagement.domain.TransactionType;
+import com.financemanagement.dto.FieldSelection;
 import com.financemanagement.dto.TransactionDTO;
 import org.mapstruct.*;
 
@@ -20,6 +21,23 @@ public interface TransactionMapper {
     @Mapping(target = "isRecurring", expression = "java(transaction.isRecurring())")
     TransactionDTO toDTO(Transaction transaction);
 
+    @Mapping(target = "transactionType", source = "type")
+    @Mapping(target = "transactionTypeDisplay", ignore = true)
+    @Mapping(target = "categoryDisplay", ignore = true)
+    @Mapping(target = "statusDisplay", ignore = true)
+    @Mapping(target = "absoluteAmount", ignore = true)
+    @Mapping(target = "isIncome", ignore = true)
+    @Mapping(target = "isExpense", ignore = true)
+    @Mapping(target = "isRecurring", ignore = true)
+    TransactionDTO toCompactDTO(Transaction transaction);
+
+    /**
+     * Computes the derived fields only if the selection will serialize any of them
+     */
+    default TransactionDTO toDTO(Transaction transaction, FieldSelection fields) {
+        return fields.includesAny(TransactionDTO.DERIVED_FIELDS) ? toDTO(transaction) : toCompactDTO(transaction);
+    }
+
     @Mapping(target = "type", expression = "java(TransactionType.valueOf(dto.getTransactionType()))")
     @Mapping(target = "category", expression = "java(TransactionCategory.valueOf(dto.getCategory()))")
     @Mapping(target = "status", expression = "java(dto.getStatus() != null ? TransactionStatus.valueOf(dto.getStatus()) : TransactionStatus.PENDING)")
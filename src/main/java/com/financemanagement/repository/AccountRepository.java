@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,23 +49,24 @@ public interface AccountRepository extends JpaRepository<Account, String> {
     
     List<Account> findByInstitutionAndStatus(String institution, AccountStatus status);
     
+    // Account number queries, served from the blind index and last-4 columns
+    Optional<Account> findByAccountNumberHash(String accountNumberHash);
+
+    boolean existsByAccountNumberHash(String accountNumberHash);
+
+    boolean existsByAccountNumberHashAndIdNot(String accountNumberHash, String id);
+
+    List<Account> findByAccountNumberLast4(String accountNumberLast4);
+
     // Search functionality
     @Query("SELECT a FROM Account a WHERE " +
            "(LOWER(a.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "(a.accountNumber IS NOT NULL AND LOWER(a.accountNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) OR " +
+           "a.accountNumberHash = :accountNumberHash OR " +
+           "a.accountNumberLast4 = :searchTerm OR " +
            "(a.institution IS NOT NULL AND LOWER(a.institution) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) OR " +
            "(a.notes IS NOT NULL AND LOWER(a.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    List<Account> searchAccounts(@Param("searchTerm") String searchTerm);
-    
-    // Balance summary queries
-    @Query("SELECT SUM(a.currentBalance) FROM Account a WHERE a.status = :status")
-    BigDecimal sumBalanceByStatus(@Param("status") AccountStatus status);
-    
-    @Query("SELECT a.type, SUM(a.currentBalance) FROM Account a WHERE a.status = :status GROUP BY a.type")
-    List<Object[]> sumBalanceByTypeAndStatus(@Param("status") AccountStatus status);
-    
-    @Query("SELECT a.currency, SUM(a.currentBalance) FROM Account a WHERE a.status = :status GROUP BY a.currency")
-    List<Object[]> sumBalanceByCurrencyAndStatus(@Param("status") AccountStatus status);
+    List<Account> searchAccounts(@Param("searchTerm") String searchTerm,
+                                 @Param("accountNumberHash") String accountNumberHash);
     
     // Account count queries
     @Query("SELECT COUNT(a) FROM Account a WHERE a.status = :status")
@@ -91,4 +93,26 @@ public interface AccountRepository extends JpaRepository<Account, String> {
     
     @Query("SELECT a FROM Account a WHERE a.currentBalance > :threshold AND a.status = 'ACTIVE'")
     List<Account> findAccountsWithHighBalance(@Param("threshold") BigDecimal threshold);
-} 
\ No newline at end of file
+
+    // Versions for conditional GETs
+    @Query("SELECT a.version FROM Account a WHERE a.id = :accountId")
+    Optional<Long> findVersionById(@Param("accountId") String accountId);
+
+    /**
+     * The stored modification time, which the update trigger sets on flush and the loaded entity does not see
+     */
+    @Query("SELECT a.updatedAt FROM Account a WHERE a.id = :accountId")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("accountId") String accountId);
+
+    /**
+     * Trigger-maintained count of changes to the account's transactions; 0 before the first one, empty if there is
+     * no such account
+     */
+    @Query(value = "SELECT COALESCE(c.change_count, 0) FROM accounts a " +
+            "LEFT JOIN account_change_counters c ON c.account_id = a.id " +
+            "WHERE a.id = CAST(:accountId AS uuid)", nativeQuery = true)
+    Optional<Long> findChangeCountById(@Param("accountId") String accountId);
+
+    @Query("SELECT COUNT(a), COALESCE(SUM(a.version), 0), MAX(a.updatedAt) FROM Account a")
+    List<Object[]> summarizeVersions();
+}
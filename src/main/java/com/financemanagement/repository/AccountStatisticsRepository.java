@@ -0,0 +1,58 @@
+package com.financemanagement.repository;
+
+import com.financemanagement.domain.Account;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The trigger-maintained {@code account_statistics} read model (V8). Reads cover at most one row per status, type,
+ * currency and slot, however many accounts there are.
+ */
+@org.springframework.stereotype.Repository
+public interface AccountStatisticsRepository extends Repository<Account, String> {
+
+    @Query(value = "SELECT CAST(type AS text) AS type, CAST(currency AS text) AS currency, " +
+            "CAST(SUM(account_count) AS bigint) AS accounts, SUM(balance_total) AS balance " +
+            "FROM account_statistics WHERE status = CAST(:status AS account_status) " +
+            "GROUP BY type, currency HAVING SUM(account_count) > 0", nativeQuery = true)
+    List<BalanceTotalRow> findBalanceTotals(@Param("status") String status);
+
+    /**
+     * Adds the difference between a fresh aggregate of the accounts table and the read model to slot 0 of every group
+     * that is off, and returns how many groups that was. One statement reads both tables from the same snapshot, and
+     * the triggers change them together, so the difference is the drift alone; writes committed meanwhile are kept
+     * because the correction is added to the current row. No table lock is taken, only the row locks of the upsert.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_statistics AS kept " +
+            "(status, type, currency, slot, account_count, balance_total) " +
+            "SELECT status, type, currency, CAST(0 AS smallint), " +
+            "COALESCE(actual.accounts, 0) - COALESCE(model.accounts, 0), " +
+            "COALESCE(actual.balance, 0) - COALESCE(model.balance, 0) FROM (" +
+            "SELECT status, type, currency, COUNT(*) AS accounts, SUM(current_balance) AS balance " +
+            "FROM accounts GROUP BY status, type, currency) actual " +
+            "FULL JOIN (" +
+            "SELECT status, type, currency, SUM(account_count) AS accounts, SUM(balance_total) AS balance " +
+            "FROM account_statistics GROUP BY status, type, currency) model USING (status, type, currency) " +
+            "WHERE COALESCE(actual.accounts, 0) <> COALESCE(model.accounts, 0) " +
+            "OR COALESCE(actual.balance, 0) <> COALESCE(model.balance, 0) " +
+            "ON CONFLICT (status, type, currency, slot) DO UPDATE " +
+            "SET account_count = kept.account_count + EXCLUDED.account_count, " +
+            "balance_total = kept.balance_total + EXCLUDED.balance_total", nativeQuery = true)
+    int correctDrift();
+
+    interface BalanceTotalRow {
+        String getType();
+
+        String getCurrency();
+
+        long getAccounts();
+
+        BigDecimal getBalance();
+    }
+}
@@ -0,0 +1,81 @@
+package com.financemanagement.repository;
+
+import com.financemanagement.domain.Account;
+import com.financemanagement.domain.AccountStatus;
+import com.financemanagement.domain.AccountType;
+import com.financemanagement.domain.Currency;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking reads of {@code accounts} over R2DBC, for the reactive API. The encrypted account number is not
+ * selected; the DTO only ever shows its last four digits. Writes go through {@link AccountRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAccountRepository {
+
+    private static final String COLUMNS = "SELECT CAST(id AS text) AS id, name, CAST(type AS text) AS type, "
+            + "current_balance, CAST(currency AS text) AS currency, account_number_last4, institution, "
+            + "CAST(status AS text) AS status, notes, created_at, updated_at, version "
+            + "FROM accounts ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Account> findById(String accountId) {
+        return databaseClient.sql(COLUMNS + "WHERE id = CAST(:accountId AS uuid)")
+                .bind("accountId", accountId)
+                .map(ReactiveAccountRepository::toAccount)
+                .one();
+    }
+
+    public Flux<Account> findByStatusOrderByNameAsc(AccountStatus status) {
+        return databaseClient.sql(COLUMNS + "WHERE status = CAST(:status AS account_status) ORDER BY name, id")
+                .filter(statement -> statement.fetchSize(ReactiveTransactionRepository.FETCH_SIZE))
+                .bind("status", status.name())
+                .map(ReactiveAccountRepository::toAccount)
+                .all();
+    }
+
+    public Flux<Account> findByStatus(AccountStatus status, Pageable pageable) {
+        return databaseClient.sql(COLUMNS + "WHERE status = CAST(:status AS account_status) ORDER BY name, id "
+                        + "LIMIT :limit OFFSET :offset")
+                .bind("status", status.name())
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveAccountRepository::toAccount)
+                .all();
+    }
+
+    public Mono<Long> countByStatus(AccountStatus status) {
+        return databaseClient.sql("SELECT COUNT(*) FROM accounts WHERE status = CAST(:status AS account_status)")
+                .bind("status", status.name())
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    static Account toAccount(Readable row) {
+        return Account.builder()
+                .id(row.get("id", String.class))
+                .name(row.get("name", String.class))
+                .type(AccountType.valueOf(row.get("type", String.class)))
+                .currentBalance(row.get("current_balance", BigDecimal.class))
+                .currency(Currency.valueOf(row.get("currency", String.class)))
+                .accountNumberLast4(row.get("account_number_last4", String.class))
+                .institution(row.get("institution", String.class))
+                .status(AccountStatus.valueOf(row.get("status", String.class)))
+                .notes(row.get("notes", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
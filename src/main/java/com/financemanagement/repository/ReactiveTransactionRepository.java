@@ -0,0 +1,142 @@
+package com.financemanagement.repository;
+
+import com.financemanagement.domain.Transaction;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.domain.TransactionStatus;
+import com.financemanagement.domain.TransactionType;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking reads of {@code transactions} over R2DBC, for the reactive API. Results are fetched from a cursor
+ * {@link #FETCH_SIZE} rows at a time as the subscriber requests them, so a slow client holds back the query instead
+ * of buffering the whole result. Writes go through {@link TransactionRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTransactionRepository {
+
+    static final int FETCH_SIZE = 256;
+
+    private static final String COLUMNS = "SELECT CAST(id AS text) AS id, description, amount, "
+            + "CAST(type AS text) AS type, CAST(category AS text) AS category, CAST(account_id AS text) AS account_id, "
+            + "transaction_date, scheduled_date, CAST(status AS text) AS status, notes, created_at, updated_at, version "
+            + "FROM transactions ";
+
+    private static final String BY_ACCOUNT = "WHERE account_id = CAST(:accountId AS uuid) ";
+
+    /**
+     * Sortable properties of {@code Pageable} requests and their columns; anything else is ignored
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "transactionDate", "transaction_date",
+            "scheduledDate", "scheduled_date",
+            "amount", "amount",
+            "description", "description",
+            "createdAt", "created_at");
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Transaction> findByAccountId(String accountId, Pageable pageable) {
+        return databaseClient.sql(COLUMNS + BY_ACCOUNT + orderBy(pageable.getSort())
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("accountId", accountId)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    public Mono<Long> countByAccountId(String accountId) {
+        return databaseClient.sql("SELECT COUNT(*) FROM transactions " + BY_ACCOUNT)
+                .bind("accountId", accountId)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Flux<Transaction> findByAccountIdOrderByTransactionDateDesc(String accountId) {
+        return databaseClient.sql(COLUMNS + BY_ACCOUNT + "ORDER BY transaction_date DESC, id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("accountId", accountId)
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    public Flux<Transaction> findByAccountIdAndTransactionDateBetweenOrderByTransactionDateDesc(
+            String accountId, LocalDate startDate, LocalDate endDate) {
+        return databaseClient.sql(COLUMNS + BY_ACCOUNT
+                        + "AND transaction_date BETWEEN :startDate AND :endDate ORDER BY transaction_date DESC, id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("accountId", accountId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    public Flux<Transaction> findByAccountIdAndCategory(String accountId, TransactionCategory category) {
+        return databaseClient.sql(COLUMNS + BY_ACCOUNT
+                        + "AND category = CAST(:category AS transaction_category) ORDER BY transaction_date DESC, id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("accountId", accountId)
+                .bind("category", category.name())
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    public Flux<Transaction> findByAccountIdAndCategoryAndTransactionDateBetween(
+            String accountId, TransactionCategory category, LocalDate startDate, LocalDate endDate) {
+        return databaseClient.sql(COLUMNS + BY_ACCOUNT
+                        + "AND category = CAST(:category AS transaction_category) "
+                        + "AND transaction_date BETWEEN :startDate AND :endDate ORDER BY transaction_date DESC, id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("accountId", accountId)
+                .bind("category", category.name())
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(ReactiveTransactionRepository::toTransaction)
+                .all();
+    }
+
+    /**
+     * {@code ORDER BY} for a page, always ending in {@code id} so that pages are stable
+     */
+    static String orderBy(Sort sort) {
+        String columns = sort.stream()
+                .filter(order -> SORT_COLUMNS.containsKey(order.getProperty()))
+                .map(order -> SORT_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        return "ORDER BY " + (columns.isEmpty() ? "transaction_date DESC, id" : columns + ", id");
+    }
+
+    static Transaction toTransaction(Readable row) {
+        String status = row.get("status", String.class);
+        return Transaction.builder()
+                .id(row.get("id", String.class))
+                .description(row.get("description", String.class))
+                .amount(row.get("amount", BigDecimal.class))
+                .type(TransactionType.valueOf(row.get("type", String.class)))
+                .category(TransactionCategory.valueOf(row.get("category", String.class)))
+                .accountId(row.get("account_id", String.class))
+                .transactionDate(row.get("transaction_date", LocalDate.class))
+                .scheduledDate(row.get("scheduled_date", LocalDate.class))
+                .status(status != null ? TransactionStatus.valueOf(status) : null)
+                .notes(row.get("notes", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.financemanagement.repository;
+
+import com.financemanagement.domain.SyncChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    @Query("SELECT c FROM SyncChange c WHERE c.sequence > :since ORDER BY c.sequence ASC")
+    List<SyncChange> findChangesSince(@Param("since") long since, Pageable pageable);
+
+    @Query(value = "SELECT GREATEST(COALESCE((SELECT MAX(sequence) FROM sync_changes), 0), " +
+            "(SELECT purged_through FROM sync_horizon))", nativeQuery = true)
+    long findLatestSequence();
+
+    @Query(value = "SELECT purged_through FROM sync_horizon", nativeQuery = true)
+    long findPurgedThrough();
+
+    // Sequencing; callers hold the advisory lock for the rest of their transaction
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(@Param("key") long key);
+
+    @Modifying
+    @Query(value = "UPDATE sync_changes s SET sequence = pending.sequence FROM (" +
+            "SELECT id, nextval('sync_sequence') AS sequence FROM (" +
+            "SELECT id FROM sync_changes WHERE sequence IS NULL ORDER BY id LIMIT :batchSize) oldest) pending " +
+            "WHERE s.id = pending.id", nativeQuery = true)
+    int assignSequences(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "WITH purged AS (DELETE FROM sync_changes WHERE sequence IS NOT NULL AND changed_at < :cutoff " +
+            "RETURNING sequence) UPDATE sync_horizon " +
+            "SET purged_through = GREATEST(purged_through, (SELECT COALESCE(MAX(sequence), 0) FROM purged))",
+            nativeQuery = true)
+    int purgeChangedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -107,4 +108,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
             @Param("accountId") String accountId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
-} 
\ No newline at end of file
+
+    // Versions for conditional GETs
+    @Query("SELECT t.version FROM Transaction t WHERE t.id = :transactionId")
+    Optional<Long> findVersionById(@Param("transactionId") String transactionId);
+
+    /**
+     * The stored modification time, which the update trigger sets on flush and the loaded entity does not see
+     */
+    @Query("SELECT t.updatedAt FROM Transaction t WHERE t.id = :transactionId")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("transactionId") String transactionId);
+}
@@ -1,55 +1,108 @@
 package com.financemanagement.security;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.encrypt.AesBytesEncryptor;
+import org.springframework.security.crypto.keygen.KeyGenerators;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 @Service
 @Slf4j
 public class EncryptionService {
 
+    private static final int LEGACY_BLOCK_BYTES = 16;
+    private static final Pattern STANDARD_BASE64 =
+            Pattern.compile("(?:[A-Za-z0-9+/]{4})+(?:[A-Za-z0-9+/]{2}==|[A-Za-z0-9+/]{3}=)?");
+
     @Value("${security.encryption.key:your-256-bit-encryption-key-here}")
     private String encryptionKey;
 
     @Value("${security.encryption.salt:your-encryption-salt-here}")
     private String encryptionSalt;
 
-    private final SecureRandom secureRandom = new SecureRandom();
-    private AesBytesEncryptor encryptor;
+    @Value("${security.encryption.key-id:1}")
+    private int encryptionKeyId;
 
-    public EncryptionService() {
-        initializeEncryptor();
-    }
+    /**
+     * Key being rotated away from; values written under it stay readable until the re-encryption job has run
+     */
+    @Value("${security.encryption.previous-key:}")
+    private String previousEncryptionKey;
+
+    @Value("${security.encryption.previous-salt:${security.encryption.salt:your-encryption-salt-here}}")
+    private String previousEncryptionSalt;
+
+    @Value("${security.encryption.previous-key-id:0}")
+    private int previousEncryptionKeyId;
+
+    /**
+     * Key and salt of the blind indexes. Required and independent of the encryption key and salt: every
+     * {@code account_number_hash} depends on them, so rotating the encryption key must not change them.
+     */
+    @Value("${security.encryption.blind-index-key}")
+    private String blindIndexKey;
+
+    @Value("${security.encryption.blind-index-salt}")
+    private String blindIndexSalt;
+
+    /**
+     * Also read values written before the AES-GCM format was introduced; off unless a database still holds them
+     */
+    @Value("${security.encryption.legacy-read:false}")
+    private boolean legacyReadEnabled;
 
-    private void initializeEncryptor() {
+    private final SecureRandom secureRandom = new SecureRandom();
+    private FieldEncryptionEngine engine;
+    private AesBytesEncryptor legacyEncryptor;
+    private SecretKey blindIndexSecret;
+    private final ThreadLocal<Mac> blindIndexMac = ThreadLocal.withInitial(this::newBlindIndexMac);
+
+    @PostConstruct
+    void initializeEncryptor() {
         try {
-            // Generate a secure key from the provided key
-            SecretKey key = generateKey(encryptionKey);
-            byte[] salt = encryptionSalt.getBytes(StandardCharsets.UTF_8);
-            
-            this.encryptor = new AesBytesEncryptor(key, salt);
-            log.info("Encryption service initialized successfully");
+            Map<Integer, SecretKey> keys = new HashMap<>();
+            keys.put(encryptionKeyId, FieldEncryptionEngine.deriveKey(encryptionKey, encryptionSalt));
+            if (hasPreviousKey()) {
+                if (previousEncryptionKeyId == encryptionKeyId) {
+                    throw new IllegalStateException("Previous key id must differ from the active key id");
+                }
+                keys.put(previousEncryptionKeyId,
+                        FieldEncryptionEngine.deriveKey(previousEncryptionKey, previousEncryptionSalt));
+            }
+            this.engine = new FieldEncryptionEngine(encryptionKeyId, keys);
+            if (!StringUtils.hasText(blindIndexKey) || !StringUtils.hasText(blindIndexSalt)) {
+                throw new IllegalStateException("Blind index key and salt must be configured");
+            }
+            this.blindIndexSecret = new SecretKeySpec(FieldEncryptionEngine
+                    .deriveKey(blindIndexKey, blindIndexSalt + "|blind-index").getEncoded(), "HmacSHA256");
+            if (legacyReadEnabled) {
+                // Legacy values predate the active key whenever a rotation is in progress
+                String legacyKey = hasPreviousKey() ? previousEncryptionKey : encryptionKey;
+                this.legacyEncryptor = newLegacyEncryptor(legacyKey);
+            }
+            log.info("Encryption service initialized successfully with key id {}{}", encryptionKeyId,
+                    hasPreviousKey() ? ", reading key id " + previousEncryptionKeyId : "");
         } catch (Exception e) {
             log.error("Failed to initialize encryption service: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to initialize encryption service", e);
         }
     }
 
-    private SecretKey generateKey(String keyString) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(keyString.getBytes(StandardCharsets.UTF_8));
-        return new SecretKeySpec(hash, "AES");
-    }
-
     /**
      * Encrypt sensitive data
      */
@@ -59,8 +112,7 @@ public class EncryptionService {
         }
 
         try {
-            byte[] encryptedBytes = encryptor.encrypt(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedBytes);
+            return engine.encrypt(plainText);
         } catch (Exception e) {
             log.error("Failed to encrypt data: {}", e.getMessage(), e);
             throw new RuntimeException("Encryption failed", e);
@@ -68,7 +120,8 @@ public class EncryptionService {
     }
 
     /**
-     * Decrypt sensitive data
+     * Decrypt sensitive data; a value without the GCM prefix is plain text and returned as is, unless legacy reads
+     * are enabled and it has the legacy ciphertext format
      */
     public String decrypt(String encryptedText) {
         if (encryptedText == null || encryptedText.isEmpty()) {
@@ -76,15 +129,57 @@ public class EncryptionService {
         }
 
         try {
-            byte[] encryptedBytes = Base64.getDecoder().decode(encryptedText);
-            byte[] decryptedBytes = encryptor.decrypt(encryptedBytes);
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+            if (FieldEncryptionEngine.isCiphertext(encryptedText)) {
+                return engine.decrypt(encryptedText);
+            }
+            if (isLegacyCiphertext(encryptedText)) {
+                return decryptLegacy(encryptedText);
+            }
+            return encryptedText;
         } catch (Exception e) {
             log.error("Failed to decrypt data: {}", e.getMessage(), e);
             throw new RuntimeException("Decryption failed", e);
         }
     }
 
+    /**
+     * Whether a stored value is a ciphertext in the current format
+     */
+    public boolean isEncrypted(String value) {
+        return FieldEncryptionEngine.isCiphertext(value);
+    }
+
+    public int getActiveKeyId() {
+        return engine.getActiveKeyId();
+    }
+
+    /**
+     * Whether a stored ciphertext was written under a key other than the active one, or in the legacy format
+     */
+    public boolean needsReEncryption(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        if (FieldEncryptionEngine.isCiphertext(value)) {
+            return FieldEncryptionEngine.keyIdOf(value) != engine.getActiveKeyId();
+        }
+        return isLegacyCiphertext(value);
+    }
+
+    /**
+     * Whether legacy reads are enabled and a value without the GCM prefix has the legacy format: standard Base64 of
+     * an IV followed by whole AES blocks. Only the format is checked; nothing is decrypted.
+     */
+    public boolean isLegacyCiphertext(String value) {
+        if (legacyEncryptor == null || value == null || FieldEncryptionEngine.isCiphertext(value)
+                || !STANDARD_BASE64.matcher(value).matches()) {
+            return false;
+        }
+        int padding = value.endsWith("==") ? 2 : value.endsWith("=") ? 1 : 0;
+        int decodedLength = value.length() / 4 * 3 - padding;
+        return decodedLength >= 2 * LEGACY_BLOCK_BYTES && decodedLength % LEGACY_BLOCK_BYTES == 0;
+    }
+
     /**
      * Encrypt account number
      */
@@ -93,8 +188,7 @@ public class EncryptionService {
             return null;
         }
         
-        String sanitized = accountNumber.trim().replaceAll("[^0-9]", "");
-        return encrypt(sanitized);
+        return encrypt(normalizeAccountNumber(accountNumber));
     }
 
     /**
@@ -121,18 +215,18 @@ public class EncryptionService {
     }
 
     /**
-     * Decrypt notes
+     * Decrypt notes; notes without the GCM prefix were stored as plain text. Legacy encrypted notes are converted
+     * by the key rotation job rather than guessed at on every read.
      */
     public String decryptNotes(String encryptedNotes) {
         if (encryptedNotes == null) {
             return null;
         }
-        
-        // Check if notes are encrypted (they will be base64 encoded)
-        if (isBase64Encoded(encryptedNotes)) {
+
+        if (FieldEncryptionEngine.isCiphertext(encryptedNotes)) {
             return decrypt(encryptedNotes);
         }
-        
+
         return encryptedNotes;
     }
 
@@ -163,6 +257,47 @@ public class EncryptionService {
         }
     }
 
+    /**
+     * Keyed variant of {@link #hashSensitiveData(String)}: HMAC-SHA256 under the blind index key, usable as an
+     * indexed equality lookup for an encrypted column without revealing the value to anyone without the key
+     */
+    public String blindIndex(String data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+
+        byte[] hash = blindIndexMac.get().doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    /**
+     * Account numbers are compared by their digits only
+     */
+    public String normalizeAccountNumber(String accountNumber) {
+        if (accountNumber == null) {
+            return null;
+        }
+        String digits = accountNumber.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : digits;
+    }
+
+    /**
+     * Blind index of an account number, matching {@code accounts.account_number_hash}
+     */
+    public String accountNumberIndex(String accountNumber) {
+        return blindIndex(normalizeAccountNumber(accountNumber));
+    }
+
+    private Mac newBlindIndexMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(blindIndexSecret);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
     /**
      * Check if data contains sensitive information
      */
@@ -178,16 +313,23 @@ public class EncryptionService {
                lowerData.contains("cvv");
     }
 
+    private boolean hasPreviousKey() {
+        return previousEncryptionKey != null && !previousEncryptionKey.isEmpty();
+    }
+
     /**
-     * Check if string is base64 encoded
+     * The encryptor values were written with before the GCM format: AES-CBC under the SHA-256 hash of the key, with
+     * a random 16-byte IV in front of the ciphertext. The configured salt never reached that key.
      */
-    private boolean isBase64Encoded(String str) {
-        try {
-            Base64.getDecoder().decode(str);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+    static AesBytesEncryptor newLegacyEncryptor(String key) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        return new AesBytesEncryptor(new SecretKeySpec(hash, "AES"), KeyGenerators.secureRandom(LEGACY_BLOCK_BYTES),
+                AesBytesEncryptor.CipherAlgorithm.CBC);
+    }
+
+    private String decryptLegacy(String encryptedText) {
+        byte[] encryptedBytes = Base64.getDecoder().decode(encryptedText);
+        return new String(legacyEncryptor.decrypt(encryptedBytes), StandardCharsets.UTF_8);
     }
 
     /**
@@ -0,0 +1,205 @@
+package com.financemanagement.security;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * AES-256-GCM field encryption.
+ * <p>
+ * Ciphertexts look like {@code $gcm1$<base64url(keyId | iv | ciphertext | tag)>}. The text prefix makes
+ * "is this encrypted?" a prefix check and carries the format version. The key id byte selects the key to decrypt
+ * with, so values written under an older key stay readable during rotation. Each thread reuses its own
+ * {@link Cipher} and {@link SecureRandom}; only the 12-byte IV is fresh for every value.
+ */
+public class FieldEncryptionEngine {
+
+    public static final String PREFIX = "$gcm1$";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int KEY_ITERATIONS = 65_536;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final int activeKeyId;
+    private final SecretKey[] keys = new SecretKey[256];
+
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(FieldEncryptionEngine::newCipher);
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+
+    /**
+     * @param activeKeyId key used for new ciphertexts, 0-255
+     * @param keys        every key that may still appear in stored ciphertexts, by id
+     */
+    public FieldEncryptionEngine(int activeKeyId, Map<Integer, SecretKey> keys) {
+        keys.forEach((id, key) -> {
+            if (id < 0 || id > 255) {
+                throw new IllegalArgumentException("Key id must be between 0 and 255: " + id);
+            }
+            this.keys[id] = key;
+        });
+        if (activeKeyId < 0 || activeKeyId > 255 || this.keys[activeKeyId] == null) {
+            throw new IllegalArgumentException("No key configured for active key id " + activeKeyId);
+        }
+        this.activeKeyId = activeKeyId;
+    }
+
+    /**
+     * Derive a 256-bit AES key from a configured secret and salt with PBKDF2
+     */
+    public static SecretKey deriveKey(String secret, String salt) {
+        try {
+            PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), salt.getBytes(StandardCharsets.UTF_8),
+                    KEY_ITERATIONS, 256);
+            byte[] keyBytes = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+            spec.clearPassword();
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive encryption key", e);
+        }
+    }
+
+    public static boolean isCiphertext(String value) {
+        return value != null && value.startsWith(PREFIX);
+    }
+
+    public int getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Key id a ciphertext was written with, read from its header
+     */
+    public static int keyIdOf(String ciphertext) {
+        byte[] header = DECODER.decode(ciphertext.substring(PREFIX.length(), PREFIX.length() + 4));
+        return header[0] & 0xFF;
+    }
+
+    public String encrypt(String plainText) {
+        if (plainText == null) {
+            return null;
+        }
+        return encrypt(plainText, ciphers.get(), random.get());
+    }
+
+    public String decrypt(String cipherText) {
+        if (cipherText == null) {
+            return null;
+        }
+        return decrypt(cipherText, ciphers.get());
+    }
+
+    /**
+     * Encrypt every value, preserving order and nulls
+     */
+    public List<String> encryptAll(List<String> plainTexts) {
+        Cipher cipher = ciphers.get();
+        SecureRandom threadRandom = random.get();
+        List<String> result = new ArrayList<>(plainTexts.size());
+        for (String plainText : plainTexts) {
+            result.add(plainText != null ? encrypt(plainText, cipher, threadRandom) : null);
+        }
+        return result;
+    }
+
+    /**
+     * Decrypt every value, preserving order and nulls; values without the ciphertext prefix are returned as is
+     */
+    public List<String> decryptAll(List<String> cipherTexts) {
+        Cipher cipher = ciphers.get();
+        List<String> result = new ArrayList<>(cipherTexts.size());
+        for (String cipherText : cipherTexts) {
+            result.add(isCiphertext(cipherText) ? decrypt(cipherText, cipher) : cipherText);
+        }
+        return result;
+    }
+
+    /**
+     * Decrypt one field of every item in place, e.g. the notes of a page of transactions
+     */
+    public <T> void decryptAll(Collection<T> items, Function<T, String> getter, BiConsumer<T, String> setter) {
+        Cipher cipher = ciphers.get();
+        for (T item : items) {
+            String value = getter.apply(item);
+            if (isCiphertext(value)) {
+                setter.accept(item, decrypt(value, cipher));
+            }
+        }
+    }
+
+    /**
+     * Encrypt one field of every item in place, e.g. before a bulk import is saved
+     */
+    public <T> void encryptAll(Collection<T> items, Function<T, String> getter, BiConsumer<T, String> setter) {
+        Cipher cipher = ciphers.get();
+        SecureRandom threadRandom = random.get();
+        for (T item : items) {
+            String value = getter.apply(item);
+            if (value != null && !isCiphertext(value)) {
+                setter.accept(item, encrypt(value, cipher, threadRandom));
+            }
+        }
+    }
+
+    private String encrypt(String plainText, Cipher cipher, SecureRandom threadRandom) {
+        byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[IV_LENGTH];
+        threadRandom.nextBytes(iv);
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, keys[activeKeyId], new GCMParameterSpec(TAG_BITS, iv));
+            ByteBuffer out = ByteBuffer.allocate(1 + IV_LENGTH + cipher.getOutputSize(plainBytes.length));
+            out.put((byte) activeKeyId);
+            out.put(iv);
+            cipher.doFinal(ByteBuffer.wrap(plainBytes), out);
+            return PREFIX + ENCODER.encodeToString(out.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Encryption failed", e);
+        }
+    }
+
+    private String decrypt(String cipherText, Cipher cipher) {
+        if (!isCiphertext(cipherText)) {
+            throw new IllegalArgumentException("Value is not a " + PREFIX + " ciphertext");
+        }
+        byte[] bytes = DECODER.decode(cipherText.substring(PREFIX.length()));
+        if (bytes.length < 1 + IV_LENGTH + TAG_BITS / 8) {
+            throw new IllegalArgumentException("Ciphertext is too short");
+        }
+        SecretKey key = keys[bytes[0] & 0xFF];
+        if (key == null) {
+            throw new IllegalStateException("No key configured for key id " + (bytes[0] & 0xFF));
+        }
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, bytes, 1, IV_LENGTH));
+            byte[] plainBytes = cipher.doFinal(bytes, 1 + IV_LENGTH, bytes.length - 1 - IV_LENGTH);
+            return new String(plainBytes, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Decryption failed", e);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM is not available", e);
+        }
+    }
+}
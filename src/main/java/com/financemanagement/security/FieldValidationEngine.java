@@ -0,0 +1,396 @@
+package com.financemanagement.security;
+
+import com.financemanagement.domain.AccountType;
+import com.financemanagement.domain.Currency;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.domain.TransactionType;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.TransactionDTO;
+import org.owasp.encoder.Encode;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass field validation with the same rules and messages as {@link InputValidationService}.
+ * <p>
+ * Each field is checked by one loop over its characters. Clean input, which is almost all input, is returned as the
+ * same {@code String} instance (or one trimmed substring): names only allow characters that HTML encoding leaves
+ * unchanged, so encoding them is a no-op. Only a value containing a character outside the fast path is handed to
+ * the OWASP encoder and the regex, so the results match {@link InputValidationService} exactly. Amounts are parsed
+ * into cents while they are scanned, without a regex or {@code Double.parseDouble}.
+ * <p>
+ * The single-field methods throw {@link IllegalArgumentException} like {@link InputValidationService}; the batch
+ * methods validate a whole bulk-import payload, sanitize it in place and return every error at once.
+ */
+@Component
+public class FieldValidationEngine {
+
+    static final int MAX_DESCRIPTION_LENGTH = 255;
+    static final int MAX_NOTES_LENGTH = 1000;
+    static final int MAX_ACCOUNT_NAME_LENGTH = 100;
+    static final int MAX_INSTITUTION_LENGTH = 100;
+
+    private static final long MAX_AMOUNT_CENTS = 99_999_999L;
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("-999999.99");
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("999999.99");
+
+    private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile("^[a-zA-Z0-9\\s\\-_.,()]+$");
+
+    private static final boolean[] NAME_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            NAME_CHARS[c] = true;
+            NAME_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            NAME_CHARS[c] = true;
+        }
+        for (char c : " \t\n\r-_.,()".toCharArray()) {
+            NAME_CHARS[c] = true;
+        }
+    }
+
+    private static final String[] TRANSACTION_TYPES = names(TransactionType.values());
+    private static final String[] TRANSACTION_CATEGORIES = names(TransactionCategory.values());
+    private static final String[] ACCOUNT_TYPES = names(AccountType.values());
+    private static final String[] CURRENCIES = names(Currency.values());
+
+    public String sanitizeDescription(String description) {
+        return sanitizeName(description, true, MAX_DESCRIPTION_LENGTH, "Description", "description", 0, null);
+    }
+
+    public String sanitizeAccountName(String accountName) {
+        return sanitizeName(accountName, true, MAX_ACCOUNT_NAME_LENGTH, "Account name", "name", 0, null);
+    }
+
+    public String sanitizeInstitution(String institution) {
+        return sanitizeName(institution, false, MAX_INSTITUTION_LENGTH, "Institution name", "institution", 0, null);
+    }
+
+    public String sanitizeNotes(String notes) {
+        return sanitizeNotes(notes, "notes", 0, null);
+    }
+
+    public void validateAmount(String amount) {
+        validateAmount(amount, "amount", 0, null);
+    }
+
+    public void validateUUID(String uuid) {
+        validateUUID(uuid, "id", 0, null);
+    }
+
+    /**
+     * Validate a bulk import of transactions, replacing description and notes with their sanitized values
+     *
+     * @return every error found, in payload order; empty when the whole payload is valid
+     */
+    public List<ValidationError> validateTransactions(List<TransactionDTO> transactions) {
+        List<ValidationError> errors = new ArrayList<>();
+        for (int row = 0; row < transactions.size(); row++) {
+            TransactionDTO transaction = transactions.get(row);
+            if (transaction == null) {
+                errors.add(new ValidationError(row, "transaction", "Transaction cannot be null"));
+                continue;
+            }
+            transaction.setDescription(sanitizeName(transaction.getDescription(), true, MAX_DESCRIPTION_LENGTH,
+                    "Description", "description", row, errors));
+            transaction.setNotes(sanitizeNotes(transaction.getNotes(), "notes", row, errors));
+            validateAmount(transaction.getAmount(), "amount", row, errors);
+            validateEnum(transaction.getTransactionType(), TRANSACTION_TYPES, "Transaction type", "transactionType",
+                    row, errors);
+            validateEnum(transaction.getCategory(), TRANSACTION_CATEGORIES, "Transaction category", "category",
+                    row, errors);
+            validateUUID(transaction.getAccountId(), "accountId", row, errors);
+            if (transaction.getTransactionDate() == null) {
+                errors.add(new ValidationError(row, "transactionDate", "Transaction date is required"));
+            }
+            if (transaction.getScheduledDate() == null) {
+                errors.add(new ValidationError(row, "scheduledDate", "Scheduled date is required"));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Validate a bulk import of accounts, replacing name, institution and notes with their sanitized values
+     *
+     * @return every error found, in payload order; empty when the whole payload is valid
+     */
+    public List<ValidationError> validateAccounts(List<AccountDTO> accounts) {
+        List<ValidationError> errors = new ArrayList<>();
+        for (int row = 0; row < accounts.size(); row++) {
+            AccountDTO account = accounts.get(row);
+            if (account == null) {
+                errors.add(new ValidationError(row, "account", "Account cannot be null"));
+                continue;
+            }
+            account.setName(sanitizeName(account.getName(), true, MAX_ACCOUNT_NAME_LENGTH,
+                    "Account name", "name", row, errors));
+            account.setInstitution(sanitizeName(account.getInstitution(), false, MAX_INSTITUTION_LENGTH,
+                    "Institution name", "institution", row, errors));
+            account.setNotes(sanitizeNotes(account.getNotes(), "notes", row, errors));
+            validateEnum(account.getAccountType(), ACCOUNT_TYPES, "Account type", "accountType", row, errors);
+            validateEnum(account.getCurrency(), CURRENCIES, "Currency", "currency", row, errors);
+            if (account.getCurrentBalance() == null) {
+                errors.add(new ValidationError(row, "currentBalance", "Current balance is required"));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Trim and check a name-like field; names may only contain letters, digits, whitespace and {@code -_.,()}
+     *
+     * @param errors where to report a failure, or null to throw it
+     * @return the sanitized value, or null if it is invalid
+     */
+    private String sanitizeName(String value, boolean required, int maxLength, String label, String field, int row,
+                                List<ValidationError> errors) {
+        if (value == null) {
+            if (required) {
+                fail(errors, row, field, label + " cannot be null or empty");
+            }
+            return null;
+        }
+
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end && required) {
+            fail(errors, row, field, label + " cannot be null or empty");
+            return null;
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || !NAME_CHARS[c]) {
+                return sanitizeNameSlowly(value.substring(start, end), maxLength, label, field, row, errors);
+            }
+        }
+
+        if (end - start > maxLength) {
+            fail(errors, row, field, label + " cannot exceed " + maxLength + " characters");
+            return null;
+        }
+        if (start == end) {
+            fail(errors, row, field, label + " contains invalid characters");
+            return null;
+        }
+        return start == 0 && end == value.length() ? value : value.substring(start, end);
+    }
+
+    /**
+     * The original encode-then-match path, for values with a character the fast path does not cover
+     */
+    private String sanitizeNameSlowly(String trimmed, int maxLength, String label, String field, int row,
+                                      List<ValidationError> errors) {
+        String sanitized = Encode.forHtml(trimmed);
+        if (sanitized.length() > maxLength) {
+            fail(errors, row, field, label + " cannot exceed " + maxLength + " characters");
+            return null;
+        }
+        if (!ALPHANUMERIC_PATTERN.matcher(sanitized).matches()) {
+            fail(errors, row, field, label + " contains invalid characters");
+            return null;
+        }
+        return sanitized;
+    }
+
+    private String sanitizeNotes(String notes, String field, int row, List<ValidationError> errors) {
+        if (notes == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = notes.length();
+        while (start < end && notes.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && notes.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        String sanitized = null;
+        for (int i = start; i < end; i++) {
+            if (!isUnchangedByHtmlEncoding(notes.charAt(i))) {
+                sanitized = Encode.forHtml(notes.substring(start, end));
+                break;
+            }
+        }
+        if (sanitized == null) {
+            sanitized = start == 0 && end == notes.length() ? notes : notes.substring(start, end);
+        }
+
+        if (sanitized.length() > MAX_NOTES_LENGTH) {
+            fail(errors, row, field, "Notes cannot exceed " + MAX_NOTES_LENGTH + " characters");
+            return null;
+        }
+        return sanitized;
+    }
+
+    /**
+     * Check {@code -?\d+(\.\d{1,2})?} within +/-999,999.99, accumulating the value in cents as the digits go by
+     */
+    private void validateAmount(String amount, String field, int row, List<ValidationError> errors) {
+        if (amount == null) {
+            fail(errors, row, field, "Amount cannot be null or empty");
+            return;
+        }
+
+        int start = 0;
+        int end = amount.length();
+        while (start < end && amount.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && amount.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            fail(errors, row, field, "Amount cannot be null or empty");
+            return;
+        }
+
+        int i = start;
+        if (amount.charAt(i) == '-') {
+            i++;
+        }
+        long cents = 0;
+        int integerDigits = 0;
+        while (i < end && isDigit(amount.charAt(i))) {
+            if (cents <= MAX_AMOUNT_CENTS) {
+                cents = cents * 10 + (amount.charAt(i) - '0');
+            }
+            integerDigits++;
+            i++;
+        }
+        int fractionDigits = 0;
+        if (i < end && amount.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(amount.charAt(i)) && fractionDigits < 3) {
+                if (cents <= MAX_AMOUNT_CENTS) {
+                    cents = cents * 10 + (amount.charAt(i) - '0');
+                }
+                fractionDigits++;
+                i++;
+            }
+            if (fractionDigits == 0 || fractionDigits > 2) {
+                i = -1;
+            }
+        }
+        if (integerDigits == 0 || i != end) {
+            fail(errors, row, field, "Invalid amount format. Expected format: -123.45 or 123.45");
+            return;
+        }
+
+        for (int scale = fractionDigits; scale < 2 && cents <= MAX_AMOUNT_CENTS; scale++) {
+            cents *= 10;
+        }
+        if (cents > MAX_AMOUNT_CENTS) {
+            fail(errors, row, field, "Amount must be between -999,999.99 and 999,999.99");
+        }
+    }
+
+    private void validateAmount(BigDecimal amount, String field, int row, List<ValidationError> errors) {
+        if (amount == null) {
+            fail(errors, row, field, "Amount is required");
+        } else if (amount.compareTo(MIN_AMOUNT) < 0 || amount.compareTo(MAX_AMOUNT) > 0) {
+            fail(errors, row, field, "Amount must be between -999,999.99 and 999,999.99");
+        } else if (amount.scale() > 2 && amount.stripTrailingZeros().scale() > 2) {
+            fail(errors, row, field, "Amount must have at most 6 digits before decimal and 2 after");
+        }
+    }
+
+    /**
+     * Check the layout of {@code 8-4-4-4-12} hex digits with an RFC 4122 version and variant
+     */
+    private void validateUUID(String uuid, String field, int row, List<ValidationError> errors) {
+        if (uuid == null) {
+            fail(errors, row, field, "UUID cannot be null or empty");
+            return;
+        }
+
+        int start = 0;
+        int end = uuid.length();
+        while (start < end && uuid.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && uuid.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            fail(errors, row, field, "UUID cannot be null or empty");
+            return;
+        }
+
+        boolean valid = end - start == 36;
+        for (int i = 0; valid && i < 36; i++) {
+            char c = uuid.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                valid = c == '-';
+            } else if (i == 14) {
+                valid = c >= '1' && c <= '5';
+            } else if (i == 19) {
+                valid = c == '8' || c == '9' || c == 'a' || c == 'b' || c == 'A' || c == 'B';
+            } else {
+                valid = isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            }
+        }
+        if (!valid) {
+            fail(errors, row, field, "Invalid UUID format");
+        }
+    }
+
+    private void validateEnum(String value, String[] names, String label, String field, int row,
+                              List<ValidationError> errors) {
+        if (value == null || value.isBlank()) {
+            fail(errors, row, field, label + " cannot be null or empty");
+            return;
+        }
+        for (String name : names) {
+            if (name.equalsIgnoreCase(value)) {
+                return;
+            }
+        }
+        fail(errors, row, field, "Invalid " + label.toLowerCase() + ": " + value);
+    }
+
+    /**
+     * Characters {@link Encode#forHtml(String)} copies through unchanged; anything else takes the encoder's path
+     */
+    private static boolean isUnchangedByHtmlEncoding(char c) {
+        if (c < 0x80) {
+            return (c >= ' ' && c < 0x7F && c != '&' && c != '<' && c != '>' && c != '"' && c != '\'')
+                    || c == '\t' || c == '\n' || c == '\r';
+        }
+        return (c >= 0xA0 && c < 0xD800 && c != 0x2028 && c != 0x2029) || (c >= 0xE000 && c < 0xFDD0);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static void fail(List<ValidationError> errors, int row, String field, String message) {
+        if (errors == null) {
+            throw new IllegalArgumentException(message);
+        }
+        errors.add(new ValidationError(row, field, message));
+    }
+
+    private static String[] names(Enum<?>[] values) {
+        String[] names = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name();
+        }
+        return names;
+    }
+}
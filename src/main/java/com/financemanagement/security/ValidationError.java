@@ -0,0 +1,10 @@
+package com.financemanagement.security;
+
+/**
+ * One failed check of a batch validation
+ *
+ * @param row   index of the record in the payload
+ * @param field name of the offending field
+ */
+public record ValidationError(int row, String field, String message) {
+}
@@ -5,9 +5,12 @@ import com.financemanagement.domain.AccountStatus;
 import com.financemanagement.domain.AccountType;
 import com.financemanagement.domain.Currency;
 import com.financemanagement.domain.commands.CreateAccountCommand;
+import com.financemanagement.domain.events.AccountBalanceChangedEvent;
 import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.FieldSelection;
 import com.financemanagement.mapper.AccountMapper;
 import com.financemanagement.repository.AccountRepository;
+import com.financemanagement.security.EncryptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.gateway.CommandGateway;
@@ -33,13 +36,20 @@ public class AccountService {
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
     private final CommandGateway commandGateway;
+    private final LiveFeedBroker liveFeedBroker;
+    private final EncryptionService encryptionService;
 
     /**
      * Create a new account
      */
     public CompletableFuture<String> createAccount(AccountDTO accountDTO) {
         log.info("Creating account: {}", accountDTO.getName());
-        
+
+        if (isAccountNumberTaken(accountDTO.getAccountNumber(), null)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("An account with this account number already exists"));
+        }
+
         String accountId = UUID.randomUUID().toString();
         
         CreateAccountCommand command = CreateAccountCommand.builder()
@@ -70,6 +80,28 @@ public class AccountService {
                 .map(accountMapper::toDTO);
     }
 
+    /**
+     * Version of an account, for conditional GETs; changes whenever the account does
+     */
+    public Optional<Long> getAccountVersion(String accountId) {
+        return accountRepository.findVersionById(accountId);
+    }
+
+    /**
+     * Change counter of an account's transactions, for conditional GETs; changes whenever any of them does
+     */
+    public Optional<Long> getTransactionsChangeCount(String accountId) {
+        return accountRepository.findChangeCountById(accountId);
+    }
+
+    /**
+     * Version of the whole account list, for conditional GETs of account collections and totals
+     */
+    public String getAccountsVersion() {
+        Object[] summary = accountRepository.summarizeVersions().get(0);
+        return summary[0] + "-" + summary[1] + "-" + summary[2];
+    }
+
     /**
      * Get account by ID and status
      */
@@ -105,58 +137,94 @@ public class AccountService {
     /**
      * Get accounts by type
      */
-    public List<AccountDTO> getAccountsByType(AccountType type) {
+    public List<AccountDTO> getAccountsByType(AccountType type, FieldSelection fields) {
         log.debug("Fetching accounts by type: {}", type);
         return accountRepository.findByType(type)
                 .stream()
-                .map(accountMapper::toDTO)
+                .map(account -> accountMapper.toDTO(account, fields))
                 .toList();
     }
 
     /**
      * Get accounts by type and status
      */
-    public List<AccountDTO> getAccountsByTypeAndStatus(AccountType type, AccountStatus status) {
+    public List<AccountDTO> getAccountsByTypeAndStatus(AccountType type, AccountStatus status, FieldSelection fields) {
         log.debug("Fetching accounts by type: {} and status: {}", type, status);
         return accountRepository.findByTypeAndStatus(type, status)
                 .stream()
-                .map(accountMapper::toDTO)
+                .map(account -> accountMapper.toDTO(account, fields))
                 .toList();
     }
 
     /**
      * Get accounts by currency
      */
-    public List<AccountDTO> getAccountsByCurrency(Currency currency) {
+    public List<AccountDTO> getAccountsByCurrency(Currency currency, FieldSelection fields) {
         log.debug("Fetching accounts by currency: {}", currency);
         return accountRepository.findByCurrency(currency.name())
                 .stream()
-                .map(accountMapper::toDTO)
+                .map(account -> accountMapper.toDTO(account, fields))
                 .toList();
     }
 
     /**
      * Get accounts by institution
      */
-    public List<AccountDTO> getAccountsByInstitution(String institution) {
+    public List<AccountDTO> getAccountsByInstitution(String institution, FieldSelection fields) {
         log.debug("Fetching accounts by institution: {}", institution);
         return accountRepository.findByInstitution(institution)
                 .stream()
-                .map(accountMapper::toDTO)
+                .map(account -> accountMapper.toDTO(account, fields))
                 .toList();
     }
 
     /**
      * Search accounts
      */
-    public List<AccountDTO> searchAccounts(String searchTerm) {
+    public List<AccountDTO> searchAccounts(String searchTerm, FieldSelection fields) {
         log.debug("Searching accounts with term: {}", searchTerm);
-        return accountRepository.searchAccounts(searchTerm)
+        return accountRepository.searchAccounts(searchTerm, encryptionService.accountNumberIndex(searchTerm))
                 .stream()
-                .map(accountMapper::toDTO)
+                .map(account -> accountMapper.toDTO(account, fields))
+                .toList();
+    }
+
+    /**
+     * Find the account with exactly this account number, using its blind index
+     */
+    public Optional<AccountDTO> getAccountByAccountNumber(String accountNumber) {
+        String accountNumberHash = encryptionService.accountNumberIndex(accountNumber);
+        if (accountNumberHash == null) {
+            return Optional.empty();
+        }
+        return accountRepository.findByAccountNumberHash(accountNumberHash)
+                .map(accountMapper::toDTO);
+    }
+
+    /**
+     * Find accounts whose account number ends in these four digits
+     */
+    public List<AccountDTO> getAccountsByAccountNumberLast4(String last4, FieldSelection fields) {
+        log.debug("Fetching accounts by account number ending in {}", last4);
+        return accountRepository.findByAccountNumberLast4(last4)
+                .stream()
+                .map(account -> accountMapper.toDTO(account, fields))
                 .toList();
     }
 
+    /**
+     * Whether another account already uses this account number; {@code accountId} is the account being updated
+     */
+    public boolean isAccountNumberTaken(String accountNumber, String accountId) {
+        String accountNumberHash = encryptionService.accountNumberIndex(accountNumber);
+        if (accountNumberHash == null) {
+            return false;
+        }
+        return accountId == null
+                ? accountRepository.existsByAccountNumberHash(accountNumberHash)
+                : accountRepository.existsByAccountNumberHashAndIdNot(accountNumberHash, accountId);
+    }
+
     /**
      * Get main account
      */
@@ -219,8 +287,10 @@ public class AccountService {
         log.info("Updating account balance: {} to {}", accountId, newBalance);
         accountRepository.findById(accountId)
                 .ifPresent(account -> {
+                    BigDecimal previousBalance = account.getCurrentBalance();
                     account.updateBalance(newBalance);
                     accountRepository.save(account);
+                    publishBalanceChanged(account, previousBalance);
                 });
     }
 
@@ -232,8 +302,10 @@ public class AccountService {
         log.info("Adding {} to account balance: {}", amount, accountId);
         accountRepository.findById(accountId)
                 .ifPresent(account -> {
+                    BigDecimal previousBalance = account.getCurrentBalance();
                     account.addToBalance(amount);
                     accountRepository.save(account);
+                    publishBalanceChanged(account, previousBalance);
                 });
     }
 
@@ -245,11 +317,24 @@ public class AccountService {
         log.info("Subtracting {} from account balance: {}", amount, accountId);
         accountRepository.findById(accountId)
                 .ifPresent(account -> {
+                    BigDecimal previousBalance = account.getCurrentBalance();
                     account.subtractFromBalance(amount);
                     accountRepository.save(account);
+                    publishBalanceChanged(account, previousBalance);
                 });
     }
 
+    private void publishBalanceChanged(Account account, BigDecimal previousBalance) {
+        accountRepository.flush();
+        liveFeedBroker.balanceChanged(AccountBalanceChangedEvent.builder()
+                .accountId(account.getId())
+                .previousBalance(previousBalance)
+                .currentBalance(account.getCurrentBalance())
+                .currency(account.getCurrency().name())
+                .updatedAt(accountRepository.findUpdatedAtById(account.getId()).orElse(account.getUpdatedAt()))
+                .build());
+    }
+
     /**
      * Update account
      */
@@ -258,6 +343,13 @@ public class AccountService {
         log.info("Updating account: {}", accountId);
         accountRepository.findById(accountId)
                 .ifPresent(account -> {
+                    String accountNumber = accountDTO.getAccountNumber();
+                    if (accountNumber != null && accountNumber.equals(account.getMaskedAccountNumber())) {
+                        // Clients echo back the masked number they were given; keep the stored one
+                        accountDTO.setAccountNumber(null);
+                    } else if (isAccountNumberTaken(accountNumber, accountId)) {
+                        throw new IllegalArgumentException("An account with this account number already exists");
+                    }
                     accountMapper.updateEntityFromDTO(accountDTO, account);
                     accountRepository.save(account);
                 });
@@ -271,57 +363,4 @@ public class AccountService {
         log.info("Deleting account: {}", accountId);
         accountRepository.deleteById(accountId);
     }
-
-    /**
-     * Get account statistics
-     */
-    public AccountStatistics getAccountStatistics() {
-        log.debug("Getting account statistics");
-        
-        BigDecimal totalBalance = accountRepository.sumBalanceByStatus(AccountStatus.ACTIVE);
-        long totalAccounts = accountRepository.countByStatus(AccountStatus.ACTIVE);
-        List<Object[]> balanceByType = accountRepository.sumBalanceByTypeAndStatus(AccountStatus.ACTIVE);
-        List<Object[]> balanceByCurrency = accountRepository.sumBalanceByCurrencyAndStatus(AccountStatus.ACTIVE);
-        
-        return AccountStatistics.builder()
-                .totalBalance(totalBalance != null ? totalBalance : BigDecimal.ZERO)
-                .totalAccounts(totalAccounts)
-                .balanceByType(balanceByType)
-                .balanceByCurrency(balanceByCurrency)
-                .build();
-    }
-
-    /**
-     * Get total balance across all active accounts
-     */
-    public BigDecimal getTotalBalance() {
-        log.debug("Getting total balance across all active accounts");
-        BigDecimal total = accountRepository.sumBalanceByStatus(AccountStatus.ACTIVE);
-        return total != null ? total : BigDecimal.ZERO;
-    }
-
-    /**
-     * Get balance by account type
-     */
-    public List<Object[]> getBalanceByType() {
-        log.debug("Getting balance by account type");
-        return accountRepository.sumBalanceByTypeAndStatus(AccountStatus.ACTIVE);
-    }
-
-    /**
-     * Get balance by currency
-     */
-    public List<Object[]> getBalanceByCurrency() {
-        log.debug("Getting balance by currency");
-        return accountRepository.sumBalanceByCurrencyAndStatus(AccountStatus.ACTIVE);
-    }
-
-    @lombok.Data
-    @lombok.Builder
-    public static class AccountStatistics {
-        private BigDecimal totalBalance;
-        private long totalAccounts;
-        private List<Object[]> balanceByType;
-        private List<Object[]> balanceByCurrency;
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.AccountStatus;
+import com.financemanagement.repository.AccountStatisticsRepository;
+import com.financemanagement.repository.AccountStatisticsRepository.BalanceTotalRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Account statistics served from the {@code account_statistics} read model. Database triggers adjust it in the same
+ * transaction as every account insert, delete, and balance, status, type or currency change, so it is exact and
+ * reads cost the same however many accounts there are. A periodic reconciliation corrects it from the accounts
+ * table should it ever drift, e.g. after a bulk load with triggers disabled.
+ */
+@Service
+@Slf4j
+public class AccountStatisticsService {
+
+    private final AccountStatisticsRepository accountStatisticsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter driftedGroups;
+
+    public AccountStatisticsService(AccountStatisticsRepository accountStatisticsRepository,
+                                    TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.accountStatisticsRepository = accountStatisticsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.driftedGroups = Counter.builder("finance.account-statistics.drift")
+                .description("Status, type and currency groups the reconciliation found out of step")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Totals of active accounts: overall, by type and by currency, all from one read
+     */
+    public AccountStatistics getAccountStatistics() {
+        List<BalanceTotalRow> rows = activeTotals();
+        return AccountStatistics.builder()
+                .totalBalance(rows.stream().map(BalanceTotalRow::getBalance).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .totalAccounts(rows.stream().mapToLong(BalanceTotalRow::getAccounts).sum())
+                .balanceByType(groupBy(rows, BalanceTotalRow::getType))
+                .balanceByCurrency(groupBy(rows, BalanceTotalRow::getCurrency))
+                .build();
+    }
+
+    /**
+     * Total balance across all active accounts
+     */
+    public BigDecimal getTotalBalance() {
+        return activeTotals().stream().map(BalanceTotalRow::getBalance).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Active accounts and their balance by account type
+     */
+    public List<BalanceTotal> getBalanceByType() {
+        return groupBy(activeTotals(), BalanceTotalRow::getType);
+    }
+
+    /**
+     * Active accounts and their balance by currency
+     */
+    public List<BalanceTotal> getBalanceByCurrency() {
+        return groupBy(activeTotals(), BalanceTotalRow::getCurrency);
+    }
+
+    private List<BalanceTotalRow> activeTotals() {
+        return accountStatisticsRepository.findBalanceTotals(AccountStatus.ACTIVE.name());
+    }
+
+    private static List<BalanceTotal> groupBy(List<BalanceTotalRow> rows, Function<BalanceTotalRow, String> key) {
+        Map<String, BalanceTotal> totals = new TreeMap<>();
+        for (BalanceTotalRow row : rows) {
+            totals.merge(key.apply(row), new BalanceTotal(key.apply(row), row.getAccounts(), row.getBalance()),
+                    (a, b) -> new BalanceTotal(a.getName(), a.getAccounts() + b.getAccounts(),
+                            a.getBalance().add(b.getBalance())));
+        }
+        return List.copyOf(totals.values());
+    }
+
+    /**
+     * Compare the read model with the accounts table and correct any group that is off, without blocking the triggers
+     */
+    @Scheduled(fixedDelayString = "${account-statistics.reconcile-interval:PT15M}",
+            initialDelayString = "${account-statistics.reconcile-interval:PT15M}")
+    public void reconcile() {
+        Integer drifted = transactionTemplate.execute(status -> accountStatisticsRepository.correctDrift());
+        if (drifted != null && drifted > 0) {
+            driftedGroups.increment(drifted);
+            log.warn("Account statistics had drifted in {} groups and were corrected from the accounts table", drifted);
+        } else {
+            log.debug("Account statistics match the accounts table");
+        }
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class AccountStatistics {
+        private BigDecimal totalBalance;
+        private long totalAccounts;
+        private List<BalanceTotal> balanceByType;
+        private List<BalanceTotal> balanceByCurrency;
+    }
+
+    /**
+     * Number of accounts and their balance for one account type or currency
+     */
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    public static class BalanceTotal {
+        private String name;
+        private long accounts;
+        private BigDecimal balance;
+    }
+}
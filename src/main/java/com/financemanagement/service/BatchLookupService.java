@@ -0,0 +1,157 @@
+package com.financemanagement.service;
+
+import com.financemanagement.config.FinanceTimers;
+import com.financemanagement.config.RedisCacheConfig;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.mapper.AccountMapper;
+import com.financemanagement.mapper.TransactionMapper;
+import com.financemanagement.repository.AccountRepository;
+import com.financemanagement.repository.TransactionRepository;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Looks up many accounts or transactions in two round trips: one {@code MGET} against the entries that
+ * {@code getAccountById} and {@code getTransactionById} cache, then one {@code IN} query for the misses, which are
+ * written back to the cache in a single pipeline. If Redis is unavailable, every id is treated as a miss.
+ */
+@Service
+@Slf4j
+public class BatchLookupService {
+
+    public static final int MAX_IDS = 100;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountMapper accountMapper;
+    private final TransactionMapper transactionMapper;
+    private final Timer multiGetTimer;
+    private final Timer multiGetErrorTimer;
+
+    public BatchLookupService(RedisTemplate<String, Object> redisTemplate, AccountRepository accountRepository,
+                              TransactionRepository transactionRepository, AccountMapper accountMapper,
+                              TransactionMapper transactionMapper, FinanceTimers financeTimers) {
+        this.redisTemplate = redisTemplate;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.accountMapper = accountMapper;
+        this.transactionMapper = transactionMapper;
+        this.multiGetTimer = financeTimers.timer(FinanceTimers.Metric.REDIS_OPERATION,
+                "cache", "batch", "operation", "multiGet", "outcome", "success");
+        this.multiGetErrorTimer = financeTimers.timer(FinanceTimers.Metric.REDIS_OPERATION,
+                "cache", "batch", "operation", "multiGet", "outcome", "error");
+    }
+
+    /**
+     * Accounts by ID, keyed by ID in request order; unknown IDs are left out
+     */
+    public Map<String, AccountDTO> getAccountsByIds(Collection<String> accountIds) {
+        return lookup("accounts", accountIds, AccountDTO.class, RedisCacheConfig.ACCOUNTS_TTL,
+                misses -> accountRepository.findAllById(misses).stream()
+                        .map(accountMapper::toDTO)
+                        .toList(),
+                AccountDTO::getId);
+    }
+
+    /**
+     * Transactions by ID, keyed by ID in request order; unknown IDs are left out
+     */
+    public Map<String, TransactionDTO> getTransactionsByIds(Collection<String> transactionIds) {
+        return lookup("transactions", transactionIds, TransactionDTO.class, RedisCacheConfig.TRANSACTIONS_TTL,
+                misses -> transactionRepository.findAllById(misses).stream()
+                        .map(transactionMapper::toDTO)
+                        .toList(),
+                TransactionDTO::getId);
+    }
+
+    private <T> Map<String, T> lookup(String cacheName, Collection<String> ids, Class<T> type, Duration ttl,
+                                      Function<List<String>, List<T>> loader, Function<T, String> idOf) {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<String, T> found = new LinkedHashMap<>();
+        if (distinctIds.isEmpty()) {
+            return found;
+        }
+
+        String prefix = CacheKeyPrefix.simple().compute(cacheName);
+        List<Object> cached = multiGet(distinctIds.stream().map(id -> prefix + id).toList());
+        List<String> misses = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            Object value = cached != null ? cached.get(i) : null;
+            if (type.isInstance(value)) {
+                found.put(distinctIds.get(i), type.cast(value));
+            } else {
+                misses.add(distinctIds.get(i));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<String, T> loaded = new LinkedHashMap<>();
+            for (T value : loader.apply(misses)) {
+                loaded.put(idOf.apply(value), value);
+            }
+            found.putAll(loaded);
+            cacheAll(prefix, loaded, ttl);
+        }
+        log.debug("Batch lookup of {} {}: {} from cache, {} from the database",
+                distinctIds.size(), cacheName, distinctIds.size() - misses.size(), misses.size());
+
+        // Back to request order
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String id : distinctIds) {
+            T value = found.get(id);
+            if (value != null) {
+                ordered.put(id, value);
+            }
+        }
+        return ordered;
+    }
+
+    private List<Object> multiGet(List<String> keys) {
+        long start = System.nanoTime();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            multiGetTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return values;
+        } catch (DataAccessException e) {
+            multiGetErrorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Cache multi-get failed, loading {} ids from the database: {}", keys.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> void cacheAll(String prefix, Map<String, T> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    values.forEach((id, value) -> operations.opsForValue().set(prefix + id, value, ttl));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not cache {} batch-loaded entries: {}", values.size(), e.getMessage());
+        }
+    }
+}
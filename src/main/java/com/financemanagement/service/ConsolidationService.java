@@ -0,0 +1,129 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.AccountStatus;
+import com.financemanagement.domain.Currency;
+import com.financemanagement.repository.AccountStatisticsRepository;
+import com.financemanagement.repository.AccountStatisticsRepository.BalanceTotalRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consolidates active account balances into one base currency. Balances come from the account statistics read model,
+ * already summed per type and currency. Each currency's factor is looked up once in the {@link ExchangeRateTable},
+ * and a single pass over those rows produces the total and the by-type and by-currency breakdowns. Currencies with no
+ * rate on the date are listed as unconverted and left out of the totals, rather than added in at face value.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConsolidationService {
+
+    private static final int MONEY_SCALE = 2;
+
+    private final AccountStatisticsRepository accountStatisticsRepository;
+    private final ExchangeRateService exchangeRateService;
+
+    /**
+     * Net worth of active accounts in {@code baseCurrency}, at the rates in effect at the end of {@code asOf} (UTC)
+     */
+    public NetWorth getNetWorth(Currency baseCurrency, LocalDate asOf) {
+        Instant at = asOf.atTime(LocalTime.MAX).toInstant(ZoneOffset.UTC);
+        ExchangeRateTable rates = exchangeRateService.getRates();
+        List<BalanceTotalRow> rows = accountStatisticsRepository.findBalanceTotals(AccountStatus.ACTIVE.name());
+
+        Map<Currency, CurrencyTotal> byCurrency = new EnumMap<>(Currency.class);
+        Map<String, AccountStatisticsService.BalanceTotal> byType = new TreeMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        long accounts = 0;
+
+        for (BalanceTotalRow row : rows) {
+            Currency currency = Currency.valueOf(row.getCurrency());
+            CurrencyTotal currencyTotal = byCurrency.computeIfAbsent(currency,
+                    c -> CurrencyTotal.empty(c, rates.factor(c, baseCurrency, at)));
+            BigDecimal factor = currencyTotal.getRate();
+            currencyTotal.add(row.getAccounts(), row.getBalance());
+            if (factor == null) {
+                continue;
+            }
+            BigDecimal converted = row.getBalance().multiply(factor);
+            total = total.add(converted);
+            accounts += row.getAccounts();
+            byType.merge(row.getType(),
+                    new AccountStatisticsService.BalanceTotal(row.getType(), row.getAccounts(), converted),
+                    (a, b) -> new AccountStatisticsService.BalanceTotal(a.getName(), a.getAccounts() + b.getAccounts(),
+                            a.getBalance().add(b.getBalance())));
+        }
+
+        List<Currency> unconverted = new ArrayList<>();
+        byCurrency.values().forEach(currencyTotal -> {
+            if (currencyTotal.getConverted() == null) {
+                unconverted.add(currencyTotal.getCurrency());
+            } else {
+                currencyTotal.setConverted(round(currencyTotal.getConverted()));
+            }
+        });
+        byType.values().forEach(typeTotal -> typeTotal.setBalance(round(typeTotal.getBalance())));
+
+        return NetWorth.builder()
+                .baseCurrency(baseCurrency)
+                .asOf(asOf)
+                .total(round(total))
+                .accounts(accounts)
+                .byType(List.copyOf(byType.values()))
+                .byCurrency(List.copyOf(byCurrency.values()))
+                .unconverted(unconverted)
+                .build();
+    }
+
+    private static BigDecimal round(BigDecimal amount) {
+        return amount.setScale(MONEY_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class NetWorth {
+        private Currency baseCurrency;
+        private LocalDate asOf;
+        private BigDecimal total;
+        private long accounts;
+        private List<AccountStatisticsService.BalanceTotal> byType;
+        private List<CurrencyTotal> byCurrency;
+        private List<Currency> unconverted;
+    }
+
+    /**
+     * Balance held in one currency, and its value in the base currency when a rate was available
+     */
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    public static class CurrencyTotal {
+        private Currency currency;
+        private long accounts;
+        private BigDecimal balance;
+        private BigDecimal rate;
+        private BigDecimal converted;
+
+        static CurrencyTotal empty(Currency currency, BigDecimal rate) {
+            return new CurrencyTotal(currency, 0, BigDecimal.ZERO, rate, rate != null ? BigDecimal.ZERO : null);
+        }
+
+        void add(long moreAccounts, BigDecimal moreBalance) {
+            accounts += moreAccounts;
+            balance = balance.add(moreBalance);
+            if (rate != null) {
+                converted = converted.add(moreBalance.multiply(rate));
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.AccountAggregate;
+import com.financemanagement.domain.TransactionAggregate;
+import com.financemanagement.eventstore.ArchivedEventCodec;
+import com.financemanagement.eventstore.ArchivedEventSegment;
+import com.financemanagement.eventstore.EventArchiveRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.common.DateTimeUtils;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventhandling.tokenstore.jpa.TokenEntry;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.axonframework.eventsourcing.eventstore.jpa.DomainEventEntry;
+import org.axonframework.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Moves the events of cold aggregates out of the hot event table so its indexes stay small.
+ * <p>
+ * An aggregate is cold when its newest event is older than {@code eventstore.archive.cold-after}. Its events are
+ * moved only once a snapshot covers the last archived sequence number, so normal loads are served from the
+ * snapshot; {@link com.financemanagement.eventstore.ArchivingEventStorageEngine} reads the archive only when a full
+ * replay is needed. Events no tracking processor in the token store has handled yet are left in place.
+ * <p>
+ * Candidates are found by walking the hot table in global index order, {@code scan-size} rows per run from where
+ * the previous run stopped, so a run never aggregates over the whole table. The position is kept in
+ * {@code event_archive_scan_cursor}, so the sweep carries on where it was after a restart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventArchivalService {
+
+    private static final Map<String, Class<?>> ARCHIVABLE_AGGREGATES = Map.of(
+            TransactionAggregate.class.getSimpleName(), TransactionAggregate.class,
+            AccountAggregate.class.getSimpleName(), AccountAggregate.class);
+
+    private final EventArchiveRepository eventArchiveRepository;
+    private final EventStorageEngine eventStorageEngine;
+    private final Snapshotter snapshotter;
+    private final TransactionTemplate transactionTemplate;
+    private final Serializer serializer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${eventstore.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${eventstore.archive.cold-after:P365D}")
+    private Duration coldAfter;
+
+    @Value("${eventstore.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${eventstore.archive.scan-size:10000}")
+    private int scanSize;
+
+    /**
+     * Archive a batch of cold aggregates
+     */
+    @Scheduled(cron = "${eventstore.archive.cron:0 30 3 * * *}")
+    public void archiveColdAggregates() {
+        if (!enabled) {
+            return;
+        }
+
+        String cutoff = DateTimeUtils.formatInstant(Instant.now().minus(coldAfter));
+        List<Object[]> coldAggregates = findColdAggregates(cutoff);
+        log.info("Found {} cold aggregates with no events since {}", coldAggregates.size(), cutoff);
+
+        OptionalLong trackedThrough = trackedThrough();
+        int archived = 0;
+        for (Object[] row : coldAggregates) {
+            String aggregateIdentifier = (String) row[0];
+            String aggregateType = (String) row[1];
+            long lastSequenceNumber = ((Number) row[2]).longValue();
+            try {
+                if (archiveAggregate(aggregateIdentifier, aggregateType, lastSequenceNumber, trackedThrough)) {
+                    archived++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to archive aggregate {}: {}", aggregateIdentifier, e.getMessage(), e);
+            }
+        }
+
+        log.info("Archived events of {} cold aggregates", archived);
+    }
+
+    /**
+     * Identifier, type and last sequence number of up to {@code batch-size} cold aggregates. Candidates come from
+     * the next {@code scan-size} events in global index order (the primary key), and each one's newest event is
+     * then checked through the aggregate index.
+     */
+    private List<Object[]> findColdAggregates(String cutoff) {
+        long scanCursor = loadScanCursor();
+        List<Object[]> scanned = entityManager.createQuery(
+                        "SELECT e.globalIndex, e.aggregateIdentifier, e.timeStamp FROM DomainEventEntry e " +
+                        "WHERE e.globalIndex > :after ORDER BY e.globalIndex ASC", Object[].class)
+                .setParameter("after", scanCursor)
+                .setMaxResults(scanSize)
+                .getResultList();
+
+        Set<String> candidates = new LinkedHashSet<>();
+        long cursor = scanCursor;
+        boolean sweepDone = scanned.size() < scanSize;
+        for (Object[] row : scanned) {
+            if (((String) row[2]).compareTo(cutoff) >= 0) {
+                // Global index follows commit order, so everything after this is recent as well
+                sweepDone = true;
+                break;
+            }
+            if (candidates.size() == batchSize && !candidates.contains((String) row[1])) {
+                sweepDone = false;
+                break;
+            }
+            candidates.add((String) row[1]);
+            cursor = ((Number) row[0]).longValue();
+        }
+        // Starts over once a scan reaches recent events
+        saveScanCursor(sweepDone ? -1 : cursor);
+
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        "SELECT e.aggregateIdentifier, e.type, e.sequenceNumber FROM DomainEventEntry e " +
+                        "WHERE e.aggregateIdentifier IN :candidates AND e.timeStamp < :cutoff " +
+                        "AND e.sequenceNumber = (SELECT MAX(l.sequenceNumber) FROM DomainEventEntry l " +
+                        "WHERE l.aggregateIdentifier = e.aggregateIdentifier)", Object[].class)
+                .setParameter("candidates", candidates)
+                .setParameter("cutoff", cutoff)
+                .getResultList();
+    }
+
+    private long loadScanCursor() {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT last_global_index FROM event_archive_scan_cursor WHERE id = 1")
+                .getResultList();
+        return rows.isEmpty() ? -1 : ((Number) rows.get(0)).longValue();
+    }
+
+    private void saveScanCursor(long cursor) {
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                        "UPDATE event_archive_scan_cursor SET last_global_index = ?1, " +
+                        "updated_at = CURRENT_TIMESTAMP WHERE id = 1")
+                .setParameter(1, cursor)
+                .executeUpdate());
+    }
+
+    /**
+     * Lowest global index every tracking processor has handled, or empty if the token store holds no tokens
+     */
+    private OptionalLong trackedThrough() {
+        List<TokenEntry> tokens = entityManager.createQuery("SELECT t FROM TokenEntry t", TokenEntry.class)
+                .getResultList();
+        if (tokens.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        long lowest = Long.MAX_VALUE;
+        for (TokenEntry entry : tokens) {
+            TrackingToken token = entry.getToken(serializer);
+            lowest = Math.min(lowest, token != null ? token.position().orElse(-1L) : -1L);
+        }
+        return OptionalLong.of(lowest);
+    }
+
+    /**
+     * Move the events of one aggregate up to {@code lastSequenceNumber} into the archive, provided a snapshot
+     * covers them and every tracking processor has handled them
+     */
+    public boolean archiveAggregate(String aggregateIdentifier, String aggregateType, long lastSequenceNumber) {
+        return archiveAggregate(aggregateIdentifier, aggregateType, lastSequenceNumber, trackedThrough());
+    }
+
+    private boolean archiveAggregate(String aggregateIdentifier, String aggregateType, long lastSequenceNumber,
+                                     OptionalLong trackedThrough) {
+        Class<?> aggregateClass = ARCHIVABLE_AGGREGATES.get(aggregateType);
+        if (aggregateClass == null) {
+            log.debug("Skipping aggregate {} of unsupported type {}", aggregateIdentifier, aggregateType);
+            return false;
+        }
+
+        Integer moved = transactionTemplate.execute(status -> {
+            // Checked in the same transaction as the delete; the snapshotter may run on another thread, so a
+            // snapshot requested now is only relied on by a later run
+            Optional<DomainEventMessage<?>> snapshot = eventStorageEngine.readSnapshot(aggregateIdentifier);
+            if (snapshot.isEmpty() || snapshot.get().getSequenceNumber() < lastSequenceNumber) {
+                log.debug("No snapshot at sequence {} for aggregate {} yet, requesting one",
+                        lastSequenceNumber, aggregateIdentifier);
+                snapshotter.scheduleSnapshot(aggregateClass, aggregateIdentifier);
+                return 0;
+            }
+
+            List<DomainEventEntry> entries = entityManager.createQuery(
+                            "SELECT e FROM DomainEventEntry e WHERE e.aggregateIdentifier = :aggregateIdentifier " +
+                            "AND e.sequenceNumber <= :lastSequenceNumber ORDER BY e.sequenceNumber ASC",
+                            DomainEventEntry.class)
+                    .setParameter("aggregateIdentifier", aggregateIdentifier)
+                    .setParameter("lastSequenceNumber", lastSequenceNumber)
+                    .getResultList();
+            if (entries.isEmpty()) {
+                return 0;
+            }
+
+            long newestGlobalIndex = entityManager.createQuery(
+                            "SELECT MAX(e.globalIndex) FROM DomainEventEntry e " +
+                            "WHERE e.aggregateIdentifier = :aggregateIdentifier " +
+                            "AND e.sequenceNumber <= :lastSequenceNumber", Long.class)
+                    .setParameter("aggregateIdentifier", aggregateIdentifier)
+                    .setParameter("lastSequenceNumber", lastSequenceNumber)
+                    .getSingleResult();
+            if (trackedThrough.isPresent() && trackedThrough.getAsLong() < newestGlobalIndex) {
+                log.warn("Tracking processors are at {} and have not handled event {} of aggregate {}, " +
+                        "leaving its events in place", trackedThrough.getAsLong(), newestGlobalIndex,
+                        aggregateIdentifier);
+                return 0;
+            }
+
+            eventArchiveRepository.save(ArchivedEventSegment.builder()
+                    .aggregateIdentifier(aggregateIdentifier)
+                    .aggregateType(aggregateType)
+                    .firstSequenceNumber(entries.get(0).getSequenceNumber())
+                    .lastSequenceNumber(entries.get(entries.size() - 1).getSequenceNumber())
+                    .eventCount(entries.size())
+                    .events(ArchivedEventCodec.encode(entries))
+                    .build());
+
+            return entityManager.createQuery(
+                            "DELETE FROM DomainEventEntry e WHERE e.aggregateIdentifier = :aggregateIdentifier " +
+                            "AND e.sequenceNumber <= :lastSequenceNumber")
+                    .setParameter("aggregateIdentifier", aggregateIdentifier)
+                    .setParameter("lastSequenceNumber", lastSequenceNumber)
+                    .executeUpdate();
+        });
+
+        log.debug("Moved {} events of aggregate {} to the archive", moved, aggregateIdentifier);
+        return moved != null && moved > 0;
+    }
+}
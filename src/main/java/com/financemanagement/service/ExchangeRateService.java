@@ -0,0 +1,93 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.Currency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Keeps an {@link ExchangeRateTable} loaded from the dollar-price service's {@code DollarPrice} history (CAD per
+ * USD). The table is rebuilt off the request path and swapped in whole, so readers never wait on the network or see
+ * a partial table. If a refresh fails, the previous table stays in place.
+ */
+@Service
+@Slf4j
+public class ExchangeRateService {
+
+    private static final ParameterizedTypeReference<List<PricePoint>> PRICE_HISTORY =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+    private final String pricesUrl;
+    private final Duration history;
+    private final Counter refreshFailures;
+
+    private volatile ExchangeRateTable rates = ExchangeRateTable.empty();
+
+    public ExchangeRateService(RestClient.Builder restClientBuilder,
+                               @Value("${exchange-rates.prices-url:http://localhost:8081/api/v1/prices}") String pricesUrl,
+                               @Value("${exchange-rates.history:P730D}") Duration history,
+                               MeterRegistry meterRegistry) {
+        this.restClient = restClientBuilder.build();
+        this.pricesUrl = pricesUrl;
+        this.history = history;
+        this.refreshFailures = Counter.builder("finance.fx.refresh.failures")
+                .description("Exchange rate refreshes that kept the previous table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The current table; callers should take it once per computation so every lookup sees the same rates
+     */
+    public ExchangeRateTable getRates() {
+        return rates;
+    }
+
+    @Scheduled(fixedDelayString = "${exchange-rates.refresh-interval:PT1H}")
+    public void refresh() {
+        try {
+            List<PricePoint> prices = restClient.get()
+                    .uri(pricesUrl + "?since={since}", Instant.now().minus(history))
+                    .retrieve()
+                    .body(PRICE_HISTORY);
+            if (prices == null || prices.isEmpty()) {
+                log.warn("Dollar price service returned no prices; keeping the current exchange rates");
+                refreshFailures.increment();
+                return;
+            }
+            rates = toTable(prices);
+            log.debug("Loaded {} USD/CAD prices, latest at {}", prices.size(), rates.latest(Currency.USD));
+        } catch (RestClientException e) {
+            refreshFailures.increment();
+            log.warn("Could not refresh exchange rates from {}: {}", pricesUrl, e.getMessage());
+        }
+    }
+
+    static ExchangeRateTable toTable(List<PricePoint> prices) {
+        ExchangeRateTable.Builder builder = ExchangeRateTable.builder();
+        for (PricePoint price : prices) {
+            if (price.price() != null && price.price().signum() > 0 && price.timestamp() != null) {
+                builder.add(Currency.USD, price.timestamp(), price.price());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * A {@code DollarPrice} as served by the dollar-price service: CAD per USD at a point in time
+     */
+    record PricePoint(BigDecimal price, Instant timestamp) {
+    }
+}
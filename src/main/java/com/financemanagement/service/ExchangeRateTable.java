@@ -0,0 +1,148 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.Currency;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory history of exchange rates. Each currency has a series of observations sorted by time, giving
+ * its value in {@link #PIVOT}. A lookup takes the latest observation at or before the requested instant, found by
+ * binary search over a primitive time array. Cross rates go through the pivot. A currency with no observation by
+ * then has no rate, and callers have to report it rather than guess.
+ */
+public final class ExchangeRateTable {
+
+    public static final Currency PIVOT = Currency.CAD;
+
+    private static final ExchangeRateTable EMPTY = new ExchangeRateTable(new EnumMap<>(Currency.class));
+
+    private final Map<Currency, Series> series;
+
+    private ExchangeRateTable(Map<Currency, Series> series) {
+        this.series = series;
+    }
+
+    public static ExchangeRateTable empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Value of one unit of {@code currency} in {@link #PIVOT} as of {@code at}, or null if none was observed by then
+     */
+    public BigDecimal rate(Currency currency, Instant at) {
+        if (currency == PIVOT) {
+            return BigDecimal.ONE;
+        }
+        Series observations = series.get(currency);
+        return observations != null ? observations.floor(at.toEpochMilli()) : null;
+    }
+
+    /**
+     * Multiplier from {@code from} to {@code to} as of {@code at}, or null if either side has no rate by then
+     */
+    public BigDecimal factor(Currency from, Currency to, Instant at) {
+        if (from == to) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal fromRate = rate(from, at);
+        BigDecimal toRate = rate(to, at);
+        if (fromRate == null || toRate == null) {
+            return null;
+        }
+        return toRate.compareTo(BigDecimal.ONE) == 0 ? fromRate : fromRate.divide(toRate, MathContext.DECIMAL64);
+    }
+
+    /**
+     * Time of the newest observation for {@code currency}, or null if there is none
+     */
+    public Instant latest(Currency currency) {
+        Series observations = series.get(currency);
+        return observations != null ? Instant.ofEpochMilli(observations.times[observations.times.length - 1]) : null;
+    }
+
+    /**
+     * Time of the newest observation of any currency, or null if the table is empty
+     */
+    public Instant latest() {
+        Instant newest = null;
+        for (Currency currency : series.keySet()) {
+            Instant latest = latest(currency);
+            if (newest == null || latest.isAfter(newest)) {
+                newest = latest;
+            }
+        }
+        return newest;
+    }
+
+    private record Series(long[] times, BigDecimal[] rates) {
+
+        BigDecimal floor(long at) {
+            int index = Arrays.binarySearch(times, at);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return index >= 0 ? rates[index] : null;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<Currency, List<Observation>> observations = new EnumMap<>(Currency.class);
+
+        private Builder() {
+        }
+
+        /**
+         * Record that one unit of {@code currency} was worth {@code rate} units of {@link #PIVOT} at {@code at}
+         */
+        public Builder add(Currency currency, Instant at, BigDecimal rate) {
+            if (currency == PIVOT) {
+                throw new IllegalArgumentException(PIVOT + " is the pivot currency and always has rate 1");
+            }
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("Exchange rate must be positive: " + rate);
+            }
+            observations.computeIfAbsent(currency, c -> new ArrayList<>()).add(new Observation(at.toEpochMilli(), rate));
+            return this;
+        }
+
+        public ExchangeRateTable build() {
+            Map<Currency, Series> series = new EnumMap<>(Currency.class);
+            observations.forEach((currency, list) -> {
+                list.sort(Comparator.comparingLong(Observation::at));
+                // A later observation at the same instant replaces the earlier one
+                List<Observation> distinct = new ArrayList<>(list.size());
+                for (Observation observation : list) {
+                    if (!distinct.isEmpty() && distinct.get(distinct.size() - 1).at() == observation.at()) {
+                        distinct.set(distinct.size() - 1, observation);
+                    } else {
+                        distinct.add(observation);
+                    }
+                }
+                long[] times = new long[distinct.size()];
+                BigDecimal[] rates = new BigDecimal[distinct.size()];
+                for (int i = 0; i < times.length; i++) {
+                    times[i] = distinct.get(i).at();
+                    rates[i] = distinct.get(i).rate();
+                }
+                series.put(currency, new Series(times, rates));
+            });
+            return new ExchangeRateTable(series);
+        }
+
+        private record Observation(long at, BigDecimal rate) {
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.financemanagement.service;
+
+import com.financemanagement.security.EncryptionService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-encrypts stored fields under the active encryption key after {@code security.encryption.key} is rotated.
+ * <p>
+ * Rows are read in keyset order ({@code id > lastId ORDER BY id LIMIT chunkSize}) so every chunk is an index range
+ * scan, however far the job has got. Chunks are decrypted, re-encrypted and written back by a small worker pool, one
+ * short transaction per chunk; at most {@code workers} chunks are in flight. Each update only applies if the column
+ * still holds the value that was read, so concurrent application writes are never overwritten. After every chunk
+ * the checkpoint advances to the highest id whose chunks have all been committed, and a restarted job resumes from
+ * there. Reads pause while application threads are waiting for a pooled connection and are paced to
+ * {@code max-rows-per-second}.
+ * <p>
+ * Reads handle both keys while the job runs: the key id in each ciphertext header selects the active or the
+ * previous key. Account numbers still stored in plain text or in the legacy format are encrypted and get their blind
+ * index on the way. Accounts written before the blind index existed are indexed at startup, before the instance
+ * reports ready.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeyRotationService {
+
+    static final TableSpec ACCOUNTS = new TableSpec("accounts",
+            "SELECT id, account_number, account_number_hash FROM accounts " +
+            "WHERE id > ? AND account_number IS NOT NULL ORDER BY id LIMIT ?",
+            "UPDATE accounts SET account_number = ?, account_number_hash = ?, account_number_last4 = ? " +
+            "WHERE id = ? AND account_number = ?");
+
+    static final TableSpec TRANSACTIONS = new TableSpec("transactions",
+            "SELECT id, notes, NULL FROM transactions WHERE id > ? AND notes IS NOT NULL ORDER BY id LIMIT ?",
+            "UPDATE transactions SET notes = ? WHERE id = ? AND notes = ?");
+
+    static final String UNINDEXED_ACCOUNTS_SQL =
+            "SELECT id, account_number, account_number_hash FROM accounts " +
+            "WHERE id > ? AND account_number IS NOT NULL AND account_number_hash IS NULL ORDER BY id LIMIT ?";
+
+    private static final UUID START_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EncryptionService encryptionService;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.encryption.index-backfill-on-startup:true}")
+    private boolean indexBackfillOnStartup;
+
+    @Value("${security.encryption.rotation.resume-on-startup:false}")
+    private boolean resumeOnStartup;
+
+    @Value("${security.encryption.rotation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${security.encryption.rotation.workers:2}")
+    private int workers;
+
+    @Value("${security.encryption.rotation.max-rows-per-second:2000}")
+    private int maxRowsPerSecond;
+
+    @Value("${security.encryption.rotation.busy-pool-backoff:250ms}")
+    private Duration busyPoolBackoff;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+
+    record TableSpec(String table, String selectSql, String updateSql) {
+    }
+
+    record StoredValue(String id, String value, String accountNumberHash) {
+    }
+
+    public record Checkpoint(String tableName, int keyId, String lastId, long rowsScanned, long rowsRewritten,
+                             Instant updatedAt, Instant completedAt) {
+    }
+
+    public record Status(boolean running, int activeKeyId, List<Checkpoint> checkpoints) {
+    }
+
+    private record PendingChunk(UUID lastId, int rows, CompletableFuture<Integer> rewritten) {
+    }
+
+    private static final class Progress {
+        private UUID lastId;
+        private long scanned;
+        private long rewritten;
+
+        private Progress(UUID lastId, long scanned, long rewritten) {
+            this.lastId = lastId;
+            this.scanned = scanned;
+            this.rewritten = rewritten;
+        }
+    }
+
+    /**
+     * Give accounts without a blind index their hash and last 4 digits, encrypting plain numbers on the way. Runs
+     * before the readiness state changes to accepting traffic, so lookups, search and the duplicate check never miss
+     * these rows; the partial index from V12 keeps the check cheap once every row is indexed.
+     *
+     * @return the number of accounts indexed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public long backfillAccountNumberIndex() {
+        if (!indexBackfillOnStartup) {
+            return 0;
+        }
+        long indexed = 0;
+        UUID lastRead = START_ID;
+        try {
+            while (true) {
+                List<StoredValue> rows = jdbcTemplate.query(UNINDEXED_ACCOUNTS_SQL,
+                        (rs, rowNum) -> new StoredValue(rs.getString(1), rs.getString(2), rs.getString(3)),
+                        lastRead, chunkSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lastRead = UUID.fromString(rows.get(rows.size() - 1).id());
+                indexed += rewriteChunk(ACCOUNTS, rows);
+            }
+        } catch (DataAccessException e) {
+            log.error("Account number index backfill stopped after {} accounts: {}", indexed, e.getMessage(), e);
+            return indexed;
+        }
+        if (indexed > 0) {
+            log.info("Indexed {} account numbers written before the blind index", indexed);
+        }
+        return indexed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedRotation() {
+        if (resumeOnStartup) {
+            start();
+        }
+    }
+
+    /**
+     * Start the job in the background
+     *
+     * @return false if it is already running
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        stopRequested = false;
+        Thread thread = new Thread(this::run, "FinanceKeyRotation");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Stop after the chunks in flight; the checkpoint is kept, so a later start resumes
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public Status getStatus() {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(
+                "SELECT * FROM encryption_rotation_checkpoints ORDER BY table_name",
+                (rs, rowNum) -> new Checkpoint(
+                        rs.getString("table_name"),
+                        rs.getInt("key_id"),
+                        rs.getString("last_id"),
+                        rs.getLong("rows_scanned"),
+                        rs.getLong("rows_rewritten"),
+                        toInstant(rs.getTimestamp("updated_at")),
+                        toInstant(rs.getTimestamp("completed_at"))));
+        return new Status(running.get(), encryptionService.getActiveKeyId(), checkpoints);
+    }
+
+    private void run() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "FinanceKeyRotation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            log.info("Key rotation started for key id {} with chunkSize={}, workers={}, maxRowsPerSecond={}",
+                    encryptionService.getActiveKeyId(), chunkSize, workers, maxRowsPerSecond);
+            for (TableSpec spec : List.of(ACCOUNTS, TRANSACTIONS)) {
+                if (stopRequested || !rotateTable(spec, pool)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Key rotation failed: {}", e.getMessage(), e);
+        } finally {
+            pool.shutdown();
+            running.set(false);
+            log.info("Key rotation {}", stopRequested ? "stopped" : "finished");
+        }
+    }
+
+    /**
+     * @return whether the table is fully rotated
+     */
+    private boolean rotateTable(TableSpec spec, ExecutorService pool) throws InterruptedException {
+        int keyId = encryptionService.getActiveKeyId();
+        Checkpoint checkpoint = loadCheckpoint(spec.table());
+        if (checkpoint != null && checkpoint.keyId() == keyId && checkpoint.completedAt() != null) {
+            log.info("Table {} is already rotated to key id {}", spec.table(), keyId);
+            return true;
+        }
+
+        boolean resuming = checkpoint != null && checkpoint.keyId() == keyId && checkpoint.lastId() != null;
+        Progress progress = resuming
+                ? new Progress(UUID.fromString(checkpoint.lastId()), checkpoint.rowsScanned(), checkpoint.rowsRewritten())
+                : new Progress(START_ID, 0, 0);
+        log.info("Rotating {} to key id {} from {}", spec.table(), keyId, resuming ? progress.lastId : "the start");
+
+        Semaphore inFlight = new Semaphore(workers);
+        Deque<PendingChunk> pending = new ArrayDeque<>();
+        HikariPoolMXBean connectionPool = connectionPool();
+        UUID lastRead = progress.lastId;
+        long nextReadNanos = System.nanoTime();
+        boolean failed = false;
+
+        while (!stopRequested && !failed) {
+            nextReadNanos = throttle(nextReadNanos, connectionPool);
+            List<StoredValue> rows = jdbcTemplate.query(spec.selectSql(),
+                    (rs, rowNum) -> new StoredValue(rs.getString(1), rs.getString(2), rs.getString(3)),
+                    lastRead, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastRead = UUID.fromString(rows.get(rows.size() - 1).id());
+            nextReadNanos += TimeUnit.SECONDS.toNanos(rows.size()) / Math.max(1, maxRowsPerSecond);
+
+            inFlight.acquire();
+            CompletableFuture<Integer> chunk;
+            try {
+                chunk = CompletableFuture.supplyAsync(() -> rewriteChunk(spec, rows), pool);
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+            chunk.whenComplete((count, error) -> inFlight.release());
+            pending.add(new PendingChunk(lastRead, rows.size(), chunk));
+
+            failed = !commitFinishedChunks(spec.table(), keyId, pending, progress, false);
+        }
+        if (!failed) {
+            failed = !commitFinishedChunks(spec.table(), keyId, pending, progress, true);
+        }
+
+        boolean completed = !failed && !stopRequested;
+        if (completed) {
+            saveCheckpoint(spec.table(), keyId, progress, true);
+        }
+        log.info("Rotation of {} {}: {} rows scanned, {} rewritten", spec.table(),
+                completed ? "completed" : failed ? "failed" : "paused", progress.scanned, progress.rewritten);
+        return completed;
+    }
+
+    /**
+     * Advance the checkpoint over the leading chunks that have committed; later chunks may finish first, but the
+     * checkpoint never passes a chunk that is still running or has failed
+     *
+     * @param waitForAll wait for every pending chunk instead of only taking the finished ones
+     * @return false if a chunk failed
+     */
+    private boolean commitFinishedChunks(String table, int keyId, Deque<PendingChunk> pending, Progress progress,
+                                         boolean waitForAll) {
+        boolean advanced = false;
+        boolean failed = false;
+        while (!pending.isEmpty() && (waitForAll || pending.peekFirst().rewritten().isDone())) {
+            PendingChunk head = pending.pollFirst();
+            Integer count = join(head);
+            if (count == null) {
+                failed = true;
+                pending.forEach(this::join);
+                pending.clear();
+                break;
+            }
+            progress.lastId = head.lastId();
+            progress.scanned += head.rows();
+            progress.rewritten += count;
+            advanced = true;
+        }
+        if (advanced) {
+            saveCheckpoint(table, keyId, progress, false);
+        }
+        return !failed;
+    }
+
+    /**
+     * Re-encrypt one chunk and write it back in a single batched transaction
+     *
+     * @return the number of rows rewritten
+     */
+    private int rewriteChunk(TableSpec spec, List<StoredValue> rows) {
+        List<Object[]> updates = spec == ACCOUNTS ? reEncryptAccountNumbers(rows) : reEncryptNotes(rows);
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        int rewritten;
+        try {
+            rewritten = transactionTemplate.execute(status ->
+                    countUpdated(jdbcTemplate.batchUpdate(spec.updateSql(), updates)));
+        } catch (DataAccessException e) {
+            // One bad row, e.g. a duplicate account number, must not hold back the rest of the chunk
+            log.warn("Batch update of {} failed, retrying row by row: {}", spec.table(), e.getMessage());
+            rewritten = 0;
+            for (Object[] update : updates) {
+                try {
+                    rewritten += jdbcTemplate.update(spec.updateSql(), update);
+                } catch (DataAccessException rowError) {
+                    meterRegistry.counter("finance.encryption.rotation.rows",
+                            "table", spec.table(), "outcome", "failed").increment();
+                    log.error("Could not re-encrypt {} row {}: {}", spec.table(),
+                            update[update.length - 2], rowError.getMessage());
+                }
+            }
+        }
+
+        meterRegistry.counter("finance.encryption.rotation.rows", "table", spec.table(), "outcome", "rewritten")
+                .increment(rewritten);
+        return rewritten;
+    }
+
+    /**
+     * Update arguments for every account whose number is not yet a ciphertext under the active key with a blind
+     * index; ciphertexts under the previous key, legacy ciphertexts and plain numbers are all rewritten
+     */
+    List<Object[]> reEncryptAccountNumbers(List<StoredValue> rows) {
+        List<Object[]> updates = new ArrayList<>();
+        for (StoredValue row : rows) {
+            String value = row.value();
+            boolean current = encryptionService.isEncrypted(value) && !encryptionService.needsReEncryption(value);
+            if (current && row.accountNumberHash() != null) {
+                continue;
+            }
+
+            String plain;
+            if (encryptionService.isEncrypted(value)) {
+                plain = encryptionService.decrypt(value);
+            } else if (!value.matches("[0-9 \\-]+") && encryptionService.isLegacyCiphertext(value)) {
+                plain = encryptionService.decrypt(value);
+            } else {
+                plain = value;
+            }
+
+            String normalized = encryptionService.normalizeAccountNumber(plain);
+            if (normalized == null) {
+                log.warn("Skipping account {} without a usable account number", row.id());
+                continue;
+            }
+            String encrypted = current ? value : encryptionService.encrypt(normalized);
+            String last4 = normalized.length() >= 4 ? normalized.substring(normalized.length() - 4) : normalized;
+            updates.add(new Object[]{encrypted, encryptionService.blindIndex(normalized), last4,
+                    UUID.fromString(row.id()), value});
+        }
+        return updates;
+    }
+
+    /**
+     * Update arguments for every note encrypted under another key or in the legacy format; plain notes stay as is
+     */
+    List<Object[]> reEncryptNotes(List<StoredValue> rows) {
+        List<Object[]> updates = new ArrayList<>();
+        for (StoredValue row : rows) {
+            if (encryptionService.needsReEncryption(row.value())) {
+                String plain;
+                try {
+                    plain = encryptionService.decrypt(row.value());
+                } catch (RuntimeException e) {
+                    // A plain note can have the legacy format by chance; keep it as it is
+                    log.warn("Could not decrypt note of transaction {}, leaving it unchanged", row.id());
+                    continue;
+                }
+                updates.add(new Object[]{encryptionService.encrypt(plain), UUID.fromString(row.id()), row.value()});
+            }
+        }
+        return updates;
+    }
+
+    /**
+     * Wait until the next read is due and no application thread is waiting for a connection
+     */
+    private long throttle(long nextReadNanos, HikariPoolMXBean connectionPool) throws InterruptedException {
+        long waitNanos = nextReadNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        while (connectionPool != null && connectionPool.getThreadsAwaitingConnection() > 0 && !stopRequested) {
+            meterRegistry.counter("finance.encryption.rotation.backoffs").increment();
+            Thread.sleep(busyPoolBackoff.toMillis());
+        }
+        return Math.max(nextReadNanos, System.nanoTime());
+    }
+
+    private HikariPoolMXBean connectionPool() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            }
+        } catch (SQLException e) {
+            log.debug("Connection pool is not inspectable: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private Checkpoint loadCheckpoint(String table) {
+        return getStatus().checkpoints().stream()
+                .filter(checkpoint -> checkpoint.tableName().equals(table))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void saveCheckpoint(String table, int keyId, Progress progress, boolean completed) {
+        jdbcTemplate.update(
+                "INSERT INTO encryption_rotation_checkpoints " +
+                "(table_name, key_id, last_id, rows_scanned, rows_rewritten, updated_at, completed_at) " +
+                "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, ?) " +
+                "ON CONFLICT (table_name) DO UPDATE SET key_id = EXCLUDED.key_id, last_id = EXCLUDED.last_id, " +
+                "rows_scanned = EXCLUDED.rows_scanned, rows_rewritten = EXCLUDED.rows_rewritten, " +
+                "updated_at = EXCLUDED.updated_at, completed_at = EXCLUDED.completed_at",
+                table, keyId, progress.lastId, progress.scanned, progress.rewritten,
+                completed ? Timestamp.from(Instant.now()) : null);
+    }
+
+    /**
+     * @return the rows rewritten by a chunk, or null if it failed
+     */
+    private Integer join(PendingChunk chunk) {
+        try {
+            return chunk.rewritten().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.error("Re-encryption chunk ending at {} failed: {}", chunk.lastId(), e.getCause().getMessage(),
+                    e.getCause());
+            return null;
+        }
+    }
+
+    private static int countUpdated(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
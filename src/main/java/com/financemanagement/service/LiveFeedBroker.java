@@ -0,0 +1,280 @@
+package com.financemanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financemanagement.domain.events.AccountBalanceChangedEvent;
+import com.financemanagement.domain.events.TransactionCreatedEvent;
+import com.financemanagement.domain.events.TransactionStatusChangedEvent;
+import com.financemanagement.domain.events.TransactionUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.eventhandling.EventHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes transaction and balance events from the Axon event stream to Server-Sent Events subscribers of the
+ * affected account.
+ * <p>
+ * Status and balance changes are plain JPA updates rather than Axon events. The services hand them to
+ * {@link #statusChanged} and {@link #balanceChanged}, which publish them once the database transaction has committed.
+ * They never reach the event store, and a rolled back change is never announced.
+ * <p>
+ * Each event is serialized once, whatever the number of subscribers, and offered to a bounded buffer per
+ * subscriber. The event handler never writes to a socket: a drain task on {@code feedExecutor} does, and at most one
+ * is queued per subscriber. A subscriber whose buffer is full is disconnected rather than slowing everyone else
+ * down. Clients reconnect and reload the account, so event ids are only unique per node.
+ * <p>
+ * Axon hands an event only to the node that applied it. Without a {@link LiveFeedRelay} ({@code feed.relay=local}),
+ * subscribers connected to other nodes never see it, so that mode is for single-node deployments. With
+ * {@code feed.relay=redis}, the event is published to Redis instead and delivered by every node.
+ */
+@Component
+@Slf4j
+public class LiveFeedBroker {
+
+    private static final int DRAIN_BATCH = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Executor feedExecutor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final LiveFeedRelay relay;
+
+    private final Map<String, Set<Subscriber>> subscribersByAccount = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter delivered;
+    private final Counter droppedSlow;
+    private final Counter droppedError;
+    private final Counter rejected;
+
+    public LiveFeedBroker(ObjectMapper objectMapper, @Qualifier("feedExecutor") Executor feedExecutor,
+                          MeterRegistry meterRegistry, ObjectProvider<LiveFeedRelay> relay,
+                          @Value("${feed.buffer-size:256}") int bufferSize,
+                          @Value("${feed.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${feed.timeout:30m}") Duration timeout) {
+        this(objectMapper, feedExecutor, meterRegistry, relay.getIfAvailable(), bufferSize, maxSubscribers, timeout);
+    }
+
+    LiveFeedBroker(ObjectMapper objectMapper, Executor feedExecutor, MeterRegistry meterRegistry, LiveFeedRelay relay,
+                   int bufferSize, int maxSubscribers, Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+        this.feedExecutor = feedExecutor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        Gauge.builder("finance.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open live feed connections")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("finance.feed.events").tag("outcome", "delivered").register(meterRegistry);
+        this.droppedSlow = Counter.builder("finance.feed.dropped").tag("reason", "slow").register(meterRegistry);
+        this.droppedError = Counter.builder("finance.feed.dropped").tag("reason", "error").register(meterRegistry);
+        this.rejected = Counter.builder("finance.feed.dropped").tag("reason", "capacity").register(meterRegistry);
+    }
+
+    /**
+     * Opens a feed for one account, or returns empty when this node is at {@code feed.max-subscribers}
+     */
+    public Optional<SseEmitter> subscribe(String accountId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejected.increment();
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(accountId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribersByAccount.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        log.debug("Live feed subscriber added for account {}", accountId);
+        return Optional.of(emitter);
+    }
+
+    @EventHandler
+    public void on(TransactionCreatedEvent event) {
+        publish(event.getAccountId(), "transaction.created", event);
+    }
+
+    @EventHandler
+    public void on(TransactionUpdatedEvent event) {
+        publish(event.getAccountId(), "transaction.updated", event);
+    }
+
+    public void statusChanged(TransactionStatusChangedEvent event) {
+        publishAfterCommit(event.getAccountId(), "transaction.status", event);
+    }
+
+    public void balanceChanged(AccountBalanceChangedEvent event) {
+        publishAfterCommit(event.getAccountId(), "account.balance", event);
+    }
+
+    /**
+     * Keeps idle connections open through proxies, and finds the ones whose client is gone
+     */
+    @Scheduled(fixedDelayString = "${feed.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        subscribersByAccount.values().forEach(subscribers -> subscribers.forEach(s -> offer(s, frame)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Publish when the surrounding transaction commits, or right away outside of one
+     */
+    void publishAfterCommit(String accountId, String name, Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(accountId, name, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(accountId, name, event);
+            }
+        });
+    }
+
+    void publish(String accountId, String name, Object event) {
+        if (accountId == null) {
+            return;
+        }
+        // Other nodes may have subscribers even when this one has none
+        if (relay == null && !subscribersByAccount.containsKey(accountId)) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize {} for the live feed: {}", name, e.getMessage());
+            return;
+        }
+        // A relayed event comes back to this node through the channel; local delivery is the fallback
+        if (relay == null || !relay.send(accountId, name, json)) {
+            deliver(accountId, name, json);
+        }
+    }
+
+    /**
+     * Offer an already serialized event to the subscribers of the account connected to this node
+     */
+    public void deliver(String accountId, String name, String json) {
+        Set<Subscriber> subscribers = subscribersByAccount.get(accountId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(name)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        subscribers.forEach(subscriber -> offer(subscriber, frame));
+    }
+
+    private void offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(frame)) {
+            droppedSlow.increment();
+            log.debug("Dropping slow live feed subscriber of account {}", subscriber.accountId);
+            close(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            feedExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            droppedSlow.increment();
+            close(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            for (int i = 0; i < DRAIN_BATCH && !subscriber.closed.get(); i++) {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame = subscriber.buffer.poll();
+                if (frame == null) {
+                    break;
+                }
+                subscriber.emitter.send(frame);
+                delivered.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            droppedError.increment();
+            close(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // Frames offered after the last poll but before the flag was cleared
+        if (!subscriber.buffer.isEmpty() && !subscriber.closed.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.buffer.clear();
+        subscribersByAccount.computeIfPresent(subscriber.accountId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        return true;
+    }
+
+    private record Subscriber(String accountId, SseEmitter emitter,
+                              Queue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer,
+                              AtomicBoolean draining, AtomicBoolean closed) {
+
+        Subscriber(String accountId, SseEmitter emitter, Queue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer) {
+            this(accountId, emitter, buffer, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.financemanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+
+/**
+ * Carries live feed events between nodes over a Redis pub/sub channel. Axon handles an event only on the node that
+ * applied it, while the subscribers of an account may be connected to any node. The node handling the event
+ * publishes it once, already serialized, and every node, itself included, hands it to its own subscribers.
+ * <p>
+ * Pub/sub is fire-and-forget: a node that is disconnected from Redis misses events, and its clients recover the way
+ * they do after a dropped connection, by reloading the account.
+ */
+@Slf4j
+public class LiveFeedRelay {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final Counter failures;
+
+    public LiveFeedRelay(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         String channel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.failures = Counter.builder("finance.feed.relay.failures")
+                .description("Live feed events that could not be relayed through Redis")
+                .register(meterRegistry);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Publish a serialized event to every node; false if Redis could not take it
+     */
+    public boolean send(String accountId, String name, String json) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(new RelayedEvent(accountId, name, json)));
+            return true;
+        } catch (JsonProcessingException | RuntimeException e) {
+            failures.increment();
+            log.warn("Could not relay {} for account {}: {}", name, accountId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Listener that hands relayed events to the subscribers connected to this node
+     */
+    public MessageListener listener(LiveFeedBroker broker) {
+        return (message, pattern) -> {
+            RelayedEvent event;
+            try {
+                event = objectMapper.readValue(message.getBody(), RelayedEvent.class);
+            } catch (IOException e) {
+                log.warn("Ignoring malformed live feed message on {}: {}", channel, e.getMessage());
+                return;
+            }
+            broker.deliver(event.accountId(), event.name(), event.data());
+        };
+    }
+
+    record RelayedEvent(String accountId, String name, String data) {
+    }
+}
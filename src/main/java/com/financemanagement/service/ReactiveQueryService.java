@@ -0,0 +1,113 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.AccountStatus;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.mapper.AccountMapper;
+import com.financemanagement.mapper.TransactionMapper;
+import com.financemanagement.repository.ReactiveAccountRepository;
+import com.financemanagement.repository.ReactiveTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Reactive counterparts of the heaviest {@link AccountService} and {@link TransactionService} reads. They return
+ * the same DTOs, but no thread or connection is held while the database or the client is slow.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveQueryService {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveTransactionRepository transactionRepository;
+    private final AccountMapper accountMapper;
+    private final TransactionMapper transactionMapper;
+
+    /**
+     * Get account by ID
+     */
+    public Mono<AccountDTO> getAccountById(String accountId) {
+        log.debug("Fetching account by ID: {}", accountId);
+        return accountRepository.findById(accountId)
+                .map(accountMapper::toDTO);
+    }
+
+    /**
+     * Stream all active accounts, by name
+     */
+    public Flux<AccountDTO> getAllActiveAccounts() {
+        log.debug("Streaming all active accounts");
+        return accountRepository.findByStatusOrderByNameAsc(AccountStatus.ACTIVE)
+                .map(accountMapper::toDTO);
+    }
+
+    /**
+     * Get active accounts with pagination
+     */
+    public Mono<Page<AccountDTO>> getActiveAccounts(Pageable pageable) {
+        log.debug("Fetching active accounts with pagination");
+        return Mono.zip(
+                        accountRepository.findByStatus(AccountStatus.ACTIVE, pageable)
+                                .map(accountMapper::toDTO)
+                                .collectList(),
+                        accountRepository.countByStatus(AccountStatus.ACTIVE))
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    /**
+     * Get transactions by account ID with pagination
+     */
+    public Mono<Page<TransactionDTO>> getTransactionsByAccountId(String accountId, Pageable pageable) {
+        log.debug("Fetching transactions for account: {} with pagination", accountId);
+        return Mono.zip(
+                        transactionRepository.findByAccountId(accountId, pageable)
+                                .map(transactionMapper::toDTO)
+                                .collectList(),
+                        transactionRepository.countByAccountId(accountId))
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    /**
+     * Stream all transactions of an account, newest first
+     */
+    public Flux<TransactionDTO> getAllTransactionsByAccountId(String accountId) {
+        log.debug("Streaming all transactions for account: {}", accountId);
+        return transactionRepository.findByAccountIdOrderByTransactionDateDesc(accountId)
+                .map(transactionMapper::toDTO);
+    }
+
+    /**
+     * Stream transactions by date range
+     */
+    public Flux<TransactionDTO> getTransactionsByDateRange(String accountId, LocalDate startDate, LocalDate endDate) {
+        log.debug("Streaming transactions for account: {} between {} and {}", accountId, startDate, endDate);
+        return transactionRepository
+                .findByAccountIdAndTransactionDateBetweenOrderByTransactionDateDesc(accountId, startDate, endDate)
+                .map(transactionMapper::toDTO);
+    }
+
+    /**
+     * Stream transactions by category, optionally within a date range
+     */
+    public Flux<TransactionDTO> getTransactionsByCategory(String accountId, TransactionCategory category,
+                                                          LocalDate startDate, LocalDate endDate) {
+        log.debug("Streaming transactions for account: {} with category: {}", accountId, category);
+        if (startDate == null || endDate == null) {
+            return transactionRepository.findByAccountIdAndCategory(accountId, category)
+                    .map(transactionMapper::toDTO);
+        }
+        return transactionRepository
+                .findByAccountIdAndCategoryAndTransactionDateBetween(accountId, category, startDate, endDate)
+                .map(transactionMapper::toDTO);
+    }
+}
@@ -0,0 +1,143 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.SyncChange;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.SyncResponse;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.mapper.AccountMapper;
+import com.financemanagement.mapper.TransactionMapper;
+import com.financemanagement.repository.AccountRepository;
+import com.financemanagement.repository.SyncChangeRepository;
+import com.financemanagement.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delta sync: the accounts and transactions changed since a client's watermark, each once in its current state,
+ * plus tombstones for deletes.
+ * <p>
+ * Database triggers append every change to {@code sync_changes} without a sequence number. A single sequencer,
+ * serialized across nodes by an advisory lock, numbers the committed rows every {@code sync.sequencer-interval}.
+ * A number is therefore only ever visible once every lower number is, and a watermark never skips a change that
+ * committed late. The Axon global index cannot serve here: it has gaps for in-flight commits, and deletes and
+ * direct updates do not go through events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncService {
+
+    private static final long SEQUENCER_LOCK = 0x5359_4E43L;
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountMapper accountMapper;
+    private final TransactionMapper transactionMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${sync.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${sync.retention:P90D}")
+    private Duration retention;
+
+    /**
+     * Changes after {@code since}, at most {@code limit} of them; {@code since = 0} asks for a full resync
+     */
+    public SyncResponse getChangesSince(long since, int limit) {
+        long purgedThrough = syncChangeRepository.findPurgedThrough();
+        if (since <= 0 || since < purgedThrough) {
+            log.debug("Watermark {} is behind the retained changes ({}), full resync required", since, purgedThrough);
+            return SyncResponse.builder()
+                    .watermark(syncChangeRepository.findLatestSequence())
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        List<SyncChange> changes = syncChangeRepository.findChangesSince(since, PageRequest.of(0, limit));
+        if (changes.isEmpty()) {
+            return SyncResponse.builder()
+                    .watermark(since)
+                    .accounts(List.of())
+                    .transactions(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        // Latest change per entity; one created and then deleted in the same window is just a tombstone
+        Map<String, SyncChange> latest = new LinkedHashMap<>();
+        for (SyncChange change : changes) {
+            latest.put(change.getEntityType() + ":" + change.getEntityId(), change);
+        }
+
+        List<String> accountIds = new ArrayList<>();
+        List<String> transactionIds = new ArrayList<>();
+        List<SyncResponse.Tombstone> deleted = new ArrayList<>();
+        for (SyncChange change : latest.values()) {
+            if (change.isDelete()) {
+                deleted.add(new SyncResponse.Tombstone(change.getEntityType(), change.getEntityId(),
+                        change.getAccountId()));
+            } else if (SyncChange.ACCOUNT.equals(change.getEntityType())) {
+                accountIds.add(change.getEntityId());
+            } else {
+                transactionIds.add(change.getEntityId());
+            }
+        }
+
+        List<AccountDTO> accounts = accountRepository.findAllById(accountIds).stream()
+                .map(accountMapper::toDTO)
+                .toList();
+        List<TransactionDTO> transactions = transactionRepository.findAllById(transactionIds).stream()
+                .map(transactionMapper::toDTO)
+                .toList();
+
+        log.debug("Sync since {} returned {} accounts, {} transactions and {} deletes",
+                since, accounts.size(), transactions.size(), deleted.size());
+        return SyncResponse.builder()
+                .watermark(changes.get(changes.size() - 1).getSequence())
+                .hasMore(changes.size() == limit)
+                .accounts(accounts)
+                .transactions(transactions)
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * Number the committed changes; skipped when another node is already doing it
+     */
+    @Scheduled(fixedDelayString = "${sync.sequencer-interval:PT1S}")
+    public void sequencePendingChanges() {
+        Integer sequenced = transactionTemplate.execute(status -> {
+            if (!syncChangeRepository.tryAdvisoryLock(SEQUENCER_LOCK)) {
+                return 0;
+            }
+            return syncChangeRepository.assignSequences(batchSize);
+        });
+        if (sequenced != null && sequenced > 0) {
+            log.debug("Sequenced {} sync changes", sequenced);
+        }
+    }
+
+    /**
+     * Drop changes older than {@code sync.retention}; clients with older watermarks get a full resync
+     */
+    @Scheduled(cron = "${sync.purge-cron:0 15 4 * * *}")
+    public void purgeExpiredChanges() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        transactionTemplate.executeWithoutResult(status -> syncChangeRepository.purgeChangedBefore(cutoff));
+        log.info("Purged sync changes older than {}", cutoff);
+    }
+}
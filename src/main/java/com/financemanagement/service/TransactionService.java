@@ -6,6 +6,8 @@ import com.financemanagement.domain.TransactionStatus;
 import com.financemanagement.domain.TransactionType;
 import com.financemanagement.domain.commands.CreateTransactionCommand;
 import com.financemanagement.domain.commands.UpdateTransactionCommand;
+import com.financemanagement.domain.events.TransactionStatusChangedEvent;
+import com.financemanagement.dto.FieldSelection;
 import com.financemanagement.dto.TransactionDTO;
 import com.financemanagement.mapper.TransactionMapper;
 import com.financemanagement.repository.TransactionRepository;
@@ -37,6 +39,7 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final CommandGateway commandGateway;
+    private final LiveFeedBroker liveFeedBroker;
     private final AccountService accountService;
 
     /**
@@ -96,6 +99,13 @@ public class TransactionService {
                 .map(transactionMapper::toDTO);
     }
 
+    /**
+     * Version of a transaction, for conditional GETs
+     */
+    public Optional<Long> getTransactionVersion(String transactionId) {
+        return transactionRepository.findVersionById(transactionId);
+    }
+
     /**
      * Get transaction by ID and account ID
      */
@@ -131,55 +141,56 @@ public class TransactionService {
     /**
      * Get transactions by date range
      */
-    public List<TransactionDTO> getTransactionsByDateRange(String accountId, LocalDate startDate, LocalDate endDate) {
+    public List<TransactionDTO> getTransactionsByDateRange(String accountId, LocalDate startDate, LocalDate endDate,
+                                                           FieldSelection fields) {
         log.debug("Fetching transactions for account: {} between {} and {}", accountId, startDate, endDate);
         return transactionRepository.findByAccountIdAndTransactionDateBetweenOrderByTransactionDateDesc(accountId, startDate, endDate)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
     /**
      * Get transactions by category
      */
-    public List<TransactionDTO> getTransactionsByCategory(String accountId, TransactionCategory category) {
+    public List<TransactionDTO> getTransactionsByCategory(String accountId, TransactionCategory category, FieldSelection fields) {
         log.debug("Fetching transactions for account: {} with category: {}", accountId, category);
         return transactionRepository.findByAccountIdAndCategory(accountId, category)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
     /**
      * Get transactions by type (income/expense)
      */
-    public List<TransactionDTO> getTransactionsByType(String accountId, TransactionType type) {
+    public List<TransactionDTO> getTransactionsByType(String accountId, TransactionType type, FieldSelection fields) {
         log.debug("Fetching transactions for account: {} with type: {}", accountId, type);
         return transactionRepository.findByAccountIdAndType(accountId, type)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
     /**
      * Get transactions by status
      */
-    public List<TransactionDTO> getTransactionsByStatus(String accountId, TransactionStatus status) {
+    public List<TransactionDTO> getTransactionsByStatus(String accountId, TransactionStatus status, FieldSelection fields) {
         log.debug("Fetching transactions for account: {} with status: {}", accountId, status);
         return transactionRepository.findByAccountIdAndStatus(accountId, status)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
     /**
      * Search transactions
      */
-    public List<TransactionDTO> searchTransactions(String accountId, String searchTerm) {
+    public List<TransactionDTO> searchTransactions(String accountId, String searchTerm, FieldSelection fields) {
         log.debug("Searching transactions for account: {} with term: {}", accountId, searchTerm);
         return transactionRepository.searchTransactions(accountId, searchTerm)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
@@ -222,33 +233,34 @@ public class TransactionService {
     /**
      * Get recurring transactions
      */
-    public List<TransactionDTO> getRecurringTransactions(String accountId) {
+    public List<TransactionDTO> getRecurringTransactions(String accountId, FieldSelection fields) {
         log.debug("Getting recurring transactions for account: {}", accountId);
         return transactionRepository.findRecurringTransactionsByAccountId(accountId)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
     /**
      * Get outstanding credit card transactions
      */
-    public List<TransactionDTO> getOutstandingCreditCardTransactions(String accountId) {
+    public List<TransactionDTO> getOutstandingCreditCardTransactions(String accountId, FieldSelection fields) {
         log.debug("Getting outstanding credit card transactions for account: {}", accountId);
         return transactionRepository.findOutstandingCreditCardTransactions(accountId, TransactionStatus.PENDING)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
     /**
      * Get bi-weekly payments
      */
-    public List<TransactionDTO> getBiWeeklyPayments(String accountId, LocalDate startDate, LocalDate endDate) {
+    public List<TransactionDTO> getBiWeeklyPayments(String accountId, LocalDate startDate, LocalDate endDate,
+                                                    FieldSelection fields) {
         log.debug("Getting bi-weekly payments for account: {} between {} and {}", accountId, startDate, endDate);
         return transactionRepository.findBiWeeklyPayments(accountId, startDate, endDate)
                 .stream()
-                .map(transactionMapper::toDTO)
+                .map(transaction -> transactionMapper.toDTO(transaction, fields))
                 .toList();
     }
 
@@ -262,6 +274,7 @@ public class TransactionService {
                 .ifPresent(transaction -> {
                     transaction.markAsCompleted();
                     transactionRepository.save(transaction);
+                    publishStatusChanged(transaction);
                 });
     }
 
@@ -275,9 +288,21 @@ public class TransactionService {
                 .ifPresent(transaction -> {
                     transaction.markAsCancelled();
                     transactionRepository.save(transaction);
+                    publishStatusChanged(transaction);
                 });
     }
 
+    private void publishStatusChanged(Transaction transaction) {
+        transactionRepository.flush();
+        liveFeedBroker.statusChanged(TransactionStatusChangedEvent.builder()
+                .transactionId(transaction.getId())
+                .accountId(transaction.getAccountId())
+                .status(transaction.getStatus().name())
+                .updatedAt(transactionRepository.findUpdatedAtById(transaction.getId())
+                        .orElse(transaction.getUpdatedAt()))
+                .build());
+    }
+
     /**
      * Delete transaction
      */
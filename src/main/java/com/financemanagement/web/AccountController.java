@@ -4,7 +4,11 @@ import com.financemanagement.domain.AccountStatus;
 import com.financemanagement.domain.AccountType;
 import com.financemanagement.domain.Currency;
 import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.FieldSelection;
 import com.financemanagement.service.AccountService;
+import com.financemanagement.service.AccountStatisticsService;
+import com.financemanagement.service.BatchLookupService;
+import com.financemanagement.service.ConsolidationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,12 +21,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -34,6 +41,9 @@ import java.util.concurrent.CompletableFuture;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountStatisticsService accountStatisticsService;
+    private final BatchLookupService batchLookupService;
+    private final ConsolidationService consolidationService;
 
     @PostMapping
     @Operation(summary = "Create a new account", description = "Creates a new financial account")
@@ -66,6 +76,21 @@ public class AccountController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/batch")
+    @Operation(summary = "Get accounts by IDs", description = "Retrieves up to 100 accounts in one call, keyed by ID; unknown IDs are left out")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Accounts found"),
+            @ApiResponse(responseCode = "400", description = "More than 100 IDs")
+    })
+    public ResponseEntity<Map<String, AccountDTO>> getAccountsByIds(
+            @Parameter(description = "Account IDs, comma separated") @RequestParam List<String> ids) {
+        log.debug("Fetching {} accounts by ID", ids.size());
+        if (ids.size() > BatchLookupService.MAX_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchLookupService.getAccountsByIds(ids));
+    }
+
     @GetMapping("/{accountId}/status/{status}")
     @Operation(summary = "Get account by ID and status", description = "Retrieves a specific account by its ID and status")
     public ResponseEntity<AccountDTO> getAccountByIdAndStatus(
@@ -97,9 +122,10 @@ public class AccountController {
     @GetMapping("/type/{type}")
     @Operation(summary = "Get accounts by type", description = "Retrieves accounts by account type")
     public ResponseEntity<List<AccountDTO>> getAccountsByType(
-            @Parameter(description = "Account type") @PathVariable AccountType type) {
+            @Parameter(description = "Account type") @PathVariable AccountType type,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching accounts by type: {}", type);
-        List<AccountDTO> accounts = accountService.getAccountsByType(type);
+        List<AccountDTO> accounts = accountService.getAccountsByType(type, fields);
         return ResponseEntity.ok(accounts);
     }
 
@@ -107,36 +133,71 @@ public class AccountController {
     @Operation(summary = "Get accounts by type and status", description = "Retrieves accounts by account type and status")
     public ResponseEntity<List<AccountDTO>> getAccountsByTypeAndStatus(
             @Parameter(description = "Account type") @PathVariable AccountType type,
-            @Parameter(description = "Account status") @PathVariable AccountStatus status) {
+            @Parameter(description = "Account status") @PathVariable AccountStatus status,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching accounts by type: {} and status: {}", type, status);
-        List<AccountDTO> accounts = accountService.getAccountsByTypeAndStatus(type, status);
+        List<AccountDTO> accounts = accountService.getAccountsByTypeAndStatus(type, status, fields);
         return ResponseEntity.ok(accounts);
     }
 
     @GetMapping("/currency/{currency}")
     @Operation(summary = "Get accounts by currency", description = "Retrieves accounts by currency")
     public ResponseEntity<List<AccountDTO>> getAccountsByCurrency(
-            @Parameter(description = "Currency") @PathVariable Currency currency) {
+            @Parameter(description = "Currency") @PathVariable Currency currency,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching accounts by currency: {}", currency);
-        List<AccountDTO> accounts = accountService.getAccountsByCurrency(currency);
+        List<AccountDTO> accounts = accountService.getAccountsByCurrency(currency, fields);
         return ResponseEntity.ok(accounts);
     }
 
     @GetMapping("/institution/{institution}")
     @Operation(summary = "Get accounts by institution", description = "Retrieves accounts by institution")
     public ResponseEntity<List<AccountDTO>> getAccountsByInstitution(
-            @Parameter(description = "Institution") @PathVariable String institution) {
+            @Parameter(description = "Institution") @PathVariable String institution,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching accounts by institution: {}", institution);
-        List<AccountDTO> accounts = accountService.getAccountsByInstitution(institution);
+        List<AccountDTO> accounts = accountService.getAccountsByInstitution(institution, fields);
+        return ResponseEntity.ok(accounts);
+    }
+
+    @GetMapping("/account-number/last4/{last4}")
+    @Operation(summary = "Get accounts by account number suffix",
+            description = "Retrieves accounts whose account number ends in the given four digits")
+    public ResponseEntity<List<AccountDTO>> getAccountsByAccountNumberLast4(
+            @Parameter(description = "Last four digits of the account number") @PathVariable String last4,
+            @Parameter(hidden = true) FieldSelection fields) {
+        if (!last4.matches("\\d{4}")) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<AccountDTO> accounts = accountService.getAccountsByAccountNumberLast4(last4, fields);
         return ResponseEntity.ok(accounts);
     }
 
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up account by account number",
+            description = "Finds the account with exactly this account number; sent in the body to keep it out of URLs and logs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Account found"),
+            @ApiResponse(responseCode = "400", description = "Account number missing"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    public ResponseEntity<AccountDTO> lookupByAccountNumber(@RequestBody Map<String, String> request) {
+        String accountNumber = request.get("accountNumber");
+        if (accountNumber == null || accountNumber.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return accountService.getAccountByAccountNumber(accountNumber)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Search accounts", description = "Searches accounts by various criteria")
     public ResponseEntity<List<AccountDTO>> searchAccounts(
-            @Parameter(description = "Search term") @RequestParam String searchTerm) {
+            @Parameter(description = "Search term") @RequestParam String searchTerm,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Searching accounts with term: {}", searchTerm);
-        List<AccountDTO> accounts = accountService.searchAccounts(searchTerm);
+        List<AccountDTO> accounts = accountService.searchAccounts(searchTerm, fields);
         return ResponseEntity.ok(accounts);
     }
 
@@ -245,34 +306,53 @@ public class AccountController {
     }
 
     @GetMapping("/statistics")
+    @CoalesceRequests(scope = CoalesceRequests.Scope.AUTHORITIES)
     @Operation(summary = "Get account statistics", description = "Retrieves account statistics")
-    public ResponseEntity<AccountService.AccountStatistics> getAccountStatistics() {
+    public ResponseEntity<AccountStatisticsService.AccountStatistics> getAccountStatistics() {
         log.debug("Getting account statistics");
-        AccountService.AccountStatistics statistics = accountService.getAccountStatistics();
+        AccountStatisticsService.AccountStatistics statistics = accountStatisticsService.getAccountStatistics();
         return ResponseEntity.ok(statistics);
     }
 
     @GetMapping("/total-balance")
+    @CoalesceRequests(scope = CoalesceRequests.Scope.AUTHORITIES)
     @Operation(summary = "Get total balance", description = "Retrieves total balance across all active accounts")
     public ResponseEntity<BigDecimal> getTotalBalance() {
         log.debug("Getting total balance across all active accounts");
-        BigDecimal totalBalance = accountService.getTotalBalance();
+        BigDecimal totalBalance = accountStatisticsService.getTotalBalance();
         return ResponseEntity.ok(totalBalance);
     }
 
     @GetMapping("/balance-by-type")
+    @CoalesceRequests(scope = CoalesceRequests.Scope.AUTHORITIES)
     @Operation(summary = "Get balance by account type", description = "Retrieves balance grouped by account type")
-    public ResponseEntity<List<Object[]>> getBalanceByType() {
+    public ResponseEntity<List<AccountStatisticsService.BalanceTotal>> getBalanceByType() {
         log.debug("Getting balance by account type");
-        List<Object[]> balanceByType = accountService.getBalanceByType();
+        List<AccountStatisticsService.BalanceTotal> balanceByType = accountStatisticsService.getBalanceByType();
         return ResponseEntity.ok(balanceByType);
     }
 
     @GetMapping("/balance-by-currency")
+    @CoalesceRequests(scope = CoalesceRequests.Scope.AUTHORITIES)
     @Operation(summary = "Get balance by currency", description = "Retrieves balance grouped by currency")
-    public ResponseEntity<List<Object[]>> getBalanceByCurrency() {
+    public ResponseEntity<List<AccountStatisticsService.BalanceTotal>> getBalanceByCurrency() {
         log.debug("Getting balance by currency");
-        List<Object[]> balanceByCurrency = accountService.getBalanceByCurrency();
+        List<AccountStatisticsService.BalanceTotal> balanceByCurrency = accountStatisticsService.getBalanceByCurrency();
         return ResponseEntity.ok(balanceByCurrency);
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/net-worth")
+    @CoalesceRequests(scope = CoalesceRequests.Scope.AUTHORITIES)
+    @Operation(summary = "Get net worth",
+            description = "Consolidates active account balances into one currency at the exchange rates of a date; "
+                    + "currencies without a rate on that date are listed as unconverted")
+    public ResponseEntity<ConsolidationService.NetWorth> getNetWorth(
+            @Parameter(description = "Currency to consolidate into") @RequestParam(defaultValue = "CAD") Currency currency,
+            @Parameter(description = "Date whose exchange rates to use (defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        log.debug("Getting net worth in {} as of {}", currency, asOf);
+        ConsolidationService.NetWorth netWorth = consolidationService.getNetWorth(currency,
+                asOf != null ? asOf : LocalDate.now());
+        return ResponseEntity.ok(netWorth);
+    }
+}
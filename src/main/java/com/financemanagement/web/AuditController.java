@@ -0,0 +1,69 @@
+package com.financemanagement.web;
+
+import com.financemanagement.audit.AuditQuery;
+import com.financemanagement.audit.MappedAuditSegmentStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Audit", description = "Compliance queries over the audit log")
+public class AuditController {
+
+    private final ObjectProvider<MappedAuditSegmentStore> auditSegmentStore;
+
+    @GetMapping
+    @Operation(summary = "Query audit records",
+            description = "Returns audit records in a time range, optionally for one principal, oldest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching audit records"),
+            @ApiResponse(responseCode = "400", description = "Invalid time range"),
+            @ApiResponse(responseCode = "503", description = "Audit store is disabled")
+    })
+    public ResponseEntity<AuditQuery.Result> queryAuditRecords(
+            @Parameter(description = "Start of the range, defaults to 24 hours before the end")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the range, defaults to now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Principal name") @RequestParam(required = false) String principal,
+            @Parameter(description = "Maximum number of records") @RequestParam(defaultValue = "500") int limit)
+            throws IOException {
+
+        MappedAuditSegmentStore store = auditSegmentStore.getIfAvailable();
+        if (store == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(Duration.ofDays(1));
+        if (start.isAfter(end) || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Querying audit records from {} to {} for principal {}", start, end, principal);
+        AuditQuery.Result result = store.query(new AuditQuery(start, end, principal, limit));
+        log.debug("Audit query scanned {} segments and skipped {}", result.segmentsScanned(), result.segmentsSkipped());
+        return ResponseEntity.ok(result);
+    }
+}
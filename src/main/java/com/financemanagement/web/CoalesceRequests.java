@@ -0,0 +1,30 @@
+package com.financemanagement.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a synchronous GET handler whose identical concurrent requests may share one execution and response; see
+ * {@link com.financemanagement.config.RequestCoalescingFilter}. Only for responses that depend on nothing but the
+ * URL, the {@code Accept} header and the caller as given by {@link #scope()}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CoalesceRequests {
+
+    /**
+     * Which callers may share a response
+     */
+    Scope scope() default Scope.PRINCIPAL;
+
+    enum Scope {
+        /** Only requests of the same principal */
+        PRINCIPAL,
+        /** Requests of any principals with the same authorities, for data that is not per user */
+        AUTHORITIES
+    }
+}
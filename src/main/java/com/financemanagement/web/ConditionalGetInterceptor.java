@@ -0,0 +1,110 @@
+package com.financemanagement.web;
+
+import com.financemanagement.service.AccountService;
+import com.financemanagement.service.ExchangeRateService;
+import com.financemanagement.service.TransactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers {@code If-None-Match} on account and transaction reads before the controller runs, so a client that
+ * already holds the current representation gets a 304 without the body being loaded or serialized.
+ * <p>
+ * The weak ETag comes from a single indexed lookup: the {@code @Version} of a single account or transaction, the
+ * trigger-maintained change counter of an account for its transaction collections, and count, version sum and last
+ * update of the accounts table for account collections. Net worth is converted with the cached exchange rates, so its
+ * tag also carries the newest rate observation and changes when a refresh brings new rates. It is read before the body, so a concurrent change can at
+ * worst send a new body with the older ETag, never a 304 for stale data.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String ACCOUNTS = "/api/v1/accounts";
+    private static final String ACCOUNT = ACCOUNTS + "/{accountId}";
+    private static final String NET_WORTH = ACCOUNTS + "/net-worth";
+    private static final String ACCOUNT_WITH_STATUS = ACCOUNT + "/status/{status}";
+    private static final String TRANSACTION = "/api/v1/transactions/{transactionId}";
+    private static final String TRANSACTION_OF_ACCOUNT = TRANSACTION + "/account/{accountId}";
+    private static final String ACCOUNT_TRANSACTIONS = "/api/v1/transactions/account/{accountId}";
+
+    private final AccountService accountService;
+    private final TransactionService transactionService;
+    private final ExchangeRateService exchangeRateService;
+    private final Counter notModified;
+
+    public ConditionalGetInterceptor(AccountService accountService, TransactionService transactionService,
+                                     ExchangeRateService exchangeRateService, MeterRegistry meterRegistry) {
+        this.accountService = accountService;
+        this.transactionService = transactionService;
+        this.exchangeRateService = exchangeRateService;
+        this.notModified = Counter.builder("finance.http.not-modified")
+                .description("Reads answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pattern == null || variables == null) {
+            return true;
+        }
+
+        Optional<String> eTag = eTag(pattern.toString(), variables);
+        if (eTag.isEmpty()) {
+            return true;
+        }
+        // The same version is served as JSON, CBOR or Protobuf
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag.get())) {
+            notModified.increment();
+            return false;
+        }
+        return true;
+    }
+
+    Optional<String> eTag(String pattern, Map<String, String> variables) {
+        if (pattern.equals(ACCOUNT) || pattern.equals(ACCOUNT_WITH_STATUS)) {
+            String accountId = variables.get("accountId");
+            return accountService.getAccountVersion(accountId).map(version -> weak("a", accountId, version));
+        }
+        if (pattern.equals(TRANSACTION) || pattern.equals(TRANSACTION_OF_ACCOUNT)) {
+            String transactionId = variables.get("transactionId");
+            return transactionService.getTransactionVersion(transactionId)
+                    .map(version -> weak("t", transactionId, version));
+        }
+        if (pattern.startsWith(ACCOUNT_TRANSACTIONS)) {
+            String accountId = variables.get("accountId");
+            return accountService.getTransactionsChangeCount(accountId)
+                    .map(changeCount -> weak("at", accountId, changeCount));
+        }
+        if (pattern.equals(NET_WORTH)) {
+            Instant ratesAsOf = exchangeRateService.getRates().latest();
+            return Optional.of(weak("nw", ratesAsOf != null ? String.valueOf(ratesAsOf.toEpochMilli()) : "none",
+                    accountService.getAccountsVersion()));
+        }
+        if (pattern.equals(ACCOUNTS) || pattern.startsWith(ACCOUNTS + "/")) {
+            return Optional.of(weak("as", "all", accountService.getAccountsVersion()));
+        }
+        return Optional.empty();
+    }
+
+    private static String weak(String kind, String id, Object version) {
+        return "W/\"" + kind + "-" + id + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,26 @@
+package com.financemanagement.web;
+
+import com.financemanagement.dto.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link FieldSelection} handler arguments from the {@code fields} and {@code view} query parameters, so
+ * services can skip mapping what will not be serialized.
+ */
+public class FieldSelectionArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return FieldSelection.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public FieldSelection resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                          NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return FieldSelection.of(webRequest.getParameter("fields"), webRequest.getParameter("view"));
+    }
+}
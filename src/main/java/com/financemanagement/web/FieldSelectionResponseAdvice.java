@@ -0,0 +1,36 @@
+package com.financemanagement.web;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.financemanagement.dto.FieldSelection;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies {@code fields} and {@code view} to JSON responses: the DTOs carry the {@link FieldSelection#FILTER_ID}
+ * filter, and this swaps in the one the request asked for. Without either parameter, responses are untouched.
+ */
+@RestControllerAdvice
+public class FieldSelectionResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        FieldSelection selection = FieldSelection.of(httpRequest.getParameter("fields"), httpRequest.getParameter("view"));
+        if (!selection.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(FieldSelection.FILTER_ID, selection.toPropertyFilter()));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.financemanagement.web;
+
+import com.financemanagement.service.KeyRotationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/encryption/rotation")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Encryption", description = "Re-encryption of stored fields after a key rotation")
+public class KeyRotationController {
+
+    private final KeyRotationService keyRotationService;
+
+    @GetMapping
+    @Operation(summary = "Get rotation progress", description = "Returns whether the job is running and its checkpoints")
+    public ResponseEntity<KeyRotationService.Status> getStatus() {
+        return ResponseEntity.ok(keyRotationService.getStatus());
+    }
+
+    @PostMapping
+    @Operation(summary = "Start or resume re-encryption",
+            description = "Re-encrypts accounts and transactions under the active key, resuming from the checkpoint")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job started"),
+            @ApiResponse(responseCode = "409", description = "Job is already running")
+    })
+    public ResponseEntity<KeyRotationService.Status> start() {
+        if (!keyRotationService.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(keyRotationService.getStatus());
+        }
+        log.info("Key rotation re-encryption started");
+        return ResponseEntity.accepted().body(keyRotationService.getStatus());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Pause re-encryption", description = "Stops the job after the chunks in flight")
+    public ResponseEntity<Void> stop() {
+        keyRotationService.stop();
+        log.info("Key rotation re-encryption stop requested");
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.financemanagement.web;
+
+import com.financemanagement.service.LiveFeedBroker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/feed")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Live Feed", description = "Server-Sent Events for account and transaction changes")
+public class LiveFeedController {
+
+    private final LiveFeedBroker liveFeedBroker;
+
+    @GetMapping(value = "/accounts/{accountId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to an account",
+            description = "Streams transaction.created, transaction.updated, transaction.status and account.balance "
+                    + "events of an account. Slow clients are disconnected and should reload the account on reconnect.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "503", description = "Subscriber limit of this node reached")
+    })
+    public ResponseEntity<SseEmitter> subscribe(
+            @Parameter(description = "Account ID") @PathVariable String accountId) {
+        log.debug("Opening live feed for account: {}", accountId);
+        return liveFeedBroker.subscribe(accountId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
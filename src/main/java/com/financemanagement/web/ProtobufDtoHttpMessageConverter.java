@@ -0,0 +1,241 @@
+package com.financemanagement.web;
+
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.FieldSelection;
+import com.financemanagement.dto.TransactionDTO;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Writes account and transaction DTOs as {@code application/x-protobuf} in the wire format of
+ * {@code proto/finance.proto}. It encodes them directly with {@link CodedOutputStream}, so there is no generated
+ * code and no copy into message objects. A single DTO is one message. Lists, pages and batch maps are streamed as
+ * length-delimited messages, one element at a time. Write-only: requests stay JSON.
+ * <p>
+ * The request's {@code fields} and {@code view} parameters apply as they do to JSON. A property left out is simply
+ * not written, so clients read it as the proto3 default; property names are the JSON ones.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public ProtobufDtoHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isMessage(clazz);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType) && isWritable(type != null ? type : clazz);
+    }
+
+    @Override
+    protected boolean canRead(@Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        if (value instanceof Page<?> page) {
+            outputMessage.getHeaders().set("X-Total-Count", String.valueOf(page.getTotalElements()));
+            outputMessage.getHeaders().set("X-Total-Pages", String.valueOf(page.getTotalPages()));
+        }
+        FieldSelection selection = requestedSelection();
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody(), BUFFER_SIZE);
+        if (value instanceof Iterable<?> items) {
+            writeDelimited(out, selection, items);
+        } else if (value instanceof Map<?, ?> byId) {
+            writeDelimited(out, selection, byId.values());
+        } else {
+            writeMessage(new MessageWriter(out, selection), value);
+        }
+        out.flush();
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    private static FieldSelection requestedSelection() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return FieldSelection.of(request.getParameter("fields"), request.getParameter("view"));
+        }
+        return FieldSelection.ALL;
+    }
+
+    private static boolean isMessage(Class<?> clazz) {
+        return TransactionDTO.class == clazz || AccountDTO.class == clazz;
+    }
+
+    /**
+     * DTOs, and iterables or maps of them; element types are checked so e.g. {@code List<Object[]>} gets a 406
+     */
+    static boolean isWritable(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return isMessage(clazz);
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (Iterable.class.isAssignableFrom(raw) && arguments.length == 1) {
+                return isWritable(arguments[0]);
+            }
+            if (Map.class.isAssignableFrom(raw) && arguments.length == 2) {
+                return isWritable(arguments[1]);
+            }
+        }
+        return false;
+    }
+
+    private static void writeDelimited(CodedOutputStream out, FieldSelection selection, Iterable<?> items)
+            throws IOException {
+        ByteArrayOutputStream scratch = new ByteArrayOutputStream(512);
+        for (Object item : items) {
+            scratch.reset();
+            CodedOutputStream message = CodedOutputStream.newInstance(scratch, 512);
+            writeMessage(new MessageWriter(message, selection), item);
+            message.flush();
+            out.writeUInt32NoTag(scratch.size());
+            out.writeRawBytes(scratch.toByteArray());
+        }
+    }
+
+    private static void writeMessage(MessageWriter out, Object value) throws IOException {
+        if (value instanceof TransactionDTO transaction) {
+            writeTransaction(out, transaction);
+        } else if (value instanceof AccountDTO account) {
+            writeAccount(out, account);
+        } else {
+            throw new IllegalArgumentException("No protobuf message for " + value.getClass().getName());
+        }
+    }
+
+    private static void writeTransaction(MessageWriter out, TransactionDTO transaction) throws IOException {
+        out.writeString(1, "id", transaction.getId());
+        out.writeString(2, "description", transaction.getDescription());
+        out.writeDecimal(3, "amount", transaction.getAmount());
+        out.writeString(4, "transactionType", transaction.getTransactionType());
+        out.writeString(5, "category", transaction.getCategory());
+        out.writeString(6, "accountId", transaction.getAccountId());
+        out.writeDate(7, "transactionDate", transaction.getTransactionDate());
+        out.writeDate(8, "scheduledDate", transaction.getScheduledDate());
+        out.writeString(9, "status", transaction.getStatus());
+        out.writeString(10, "notes", transaction.getNotes());
+        out.writeTimestamp(11, "createdAt", transaction.getCreatedAt());
+        out.writeTimestamp(12, "updatedAt", transaction.getUpdatedAt());
+        out.writeString(13, "transactionTypeDisplay", transaction.getTransactionTypeDisplay());
+        out.writeString(14, "categoryDisplay", transaction.getCategoryDisplay());
+        out.writeString(15, "statusDisplay", transaction.getStatusDisplay());
+        out.writeDecimal(16, "absoluteAmount", transaction.getAbsoluteAmount());
+        out.writeBool(17, "income", transaction.isIncome());
+        out.writeBool(18, "expense", transaction.isExpense());
+        out.writeBool(19, "recurring", transaction.isRecurring());
+    }
+
+    private static void writeAccount(MessageWriter out, AccountDTO account) throws IOException {
+        out.writeString(1, "id", account.getId());
+        out.writeString(2, "name", account.getName());
+        out.writeString(3, "accountType", account.getAccountType());
+        out.writeDecimal(4, "currentBalance", account.getCurrentBalance());
+        out.writeString(5, "currency", account.getCurrency());
+        out.writeString(6, "accountNumber", account.getAccountNumber());
+        out.writeString(7, "institution", account.getInstitution());
+        out.writeString(8, "status", account.getStatus());
+        out.writeString(9, "notes", account.getNotes());
+        out.writeTimestamp(10, "createdAt", account.getCreatedAt());
+        out.writeTimestamp(11, "updatedAt", account.getUpdatedAt());
+        out.writeString(12, "accountTypeDisplay", account.getAccountTypeDisplay());
+        out.writeString(13, "currencyDisplay", account.getCurrencyDisplay());
+        out.writeString(14, "statusDisplay", account.getStatusDisplay());
+        out.writeDecimal(15, "absoluteBalance", account.getAbsoluteBalance());
+        out.writeBool(16, "active", account.isActive());
+        out.writeBool(17, "mainAccount", account.isMainAccount());
+        out.writeBool(18, "specialCheckAccount", account.isSpecialCheckAccount());
+        out.writeBool(19, "creditCard", account.isCreditCard());
+        out.writeString(20, "maskedAccountNumber", account.getMaskedAccountNumber());
+    }
+
+    /**
+     * Writes the fields of one message that are set and that the field selection keeps, by their JSON names
+     */
+    private record MessageWriter(CodedOutputStream out, FieldSelection selection) {
+
+        private boolean skip(String name, Object value) {
+            return value == null || !selection.isAll() && !selection.includes(name);
+        }
+
+        void writeString(int field, String name, String value) throws IOException {
+            if (!skip(name, value)) {
+                out.writeString(field, value);
+            }
+        }
+
+        void writeBool(int field, String name, boolean value) throws IOException {
+            if (value && !skip(name, Boolean.TRUE)) {
+                out.writeBool(field, true);
+            }
+        }
+
+        void writeDate(int field, String name, LocalDate value) throws IOException {
+            if (!skip(name, value)) {
+                out.writeSInt32(field, Math.toIntExact(value.toEpochDay()));
+            }
+        }
+
+        void writeTimestamp(int field, String name, LocalDateTime value) throws IOException {
+            if (!skip(name, value)) {
+                out.writeSInt64(field, value.toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+        }
+
+        /**
+         * A nested {@code Decimal} message: unscaled value and scale, so amounts stay exact
+         */
+        void writeDecimal(int field, String name, BigDecimal value) throws IOException {
+            if (skip(name, value)) {
+                return;
+            }
+            BigDecimal decimal = value.scale() < 0 ? value.setScale(0) : value;
+            long unscaled = decimal.unscaledValue().longValueExact();
+            int scale = decimal.scale();
+            int size = CodedOutputStream.computeSInt64Size(1, unscaled) + CodedOutputStream.computeUInt32Size(2, scale);
+            out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(size);
+            out.writeSInt64(1, unscaled);
+            out.writeUInt32(2, scale);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.financemanagement.web;
+
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.service.ReactiveQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking versions of the heaviest account and transaction reads. The servlet thread is released while the
+ * query runs. List endpoints stream one element per line with {@code Accept: application/x-ndjson}, writing the
+ * next row only once the previous one has been flushed to the client. With {@code application/json} they return
+ * the same array as the blocking endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Reactive Queries", description = "Non-blocking, streaming reads of accounts and transactions")
+public class ReactiveQueryController {
+
+    private final ReactiveQueryService reactiveQueryService;
+
+    @GetMapping("/accounts/{accountId}")
+    @Operation(summary = "Get account by ID", description = "Retrieves a specific account by its ID")
+    public Mono<ResponseEntity<AccountDTO>> getAccountById(
+            @Parameter(description = "Account ID") @PathVariable String accountId) {
+        return reactiveQueryService.getAccountById(accountId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/accounts/active/all", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream active accounts", description = "Streams all active accounts, ordered by name")
+    public Flux<AccountDTO> getAllActiveAccounts() {
+        return reactiveQueryService.getAllActiveAccounts();
+    }
+
+    @GetMapping("/accounts/active")
+    @Operation(summary = "Get active accounts", description = "Retrieves active accounts with pagination")
+    public Mono<Page<AccountDTO>> getActiveAccounts(
+            @Parameter(description = "Pagination parameters") Pageable pageable) {
+        return reactiveQueryService.getActiveAccounts(pageable);
+    }
+
+    @GetMapping("/transactions/account/{accountId}")
+    @Operation(summary = "Get transactions by account ID", description = "Retrieves transactions for a specific account with pagination")
+    public Mono<Page<TransactionDTO>> getTransactionsByAccountId(
+            @Parameter(description = "Account ID") @PathVariable String accountId,
+            @Parameter(description = "Pagination parameters") Pageable pageable) {
+        return reactiveQueryService.getTransactionsByAccountId(accountId, pageable);
+    }
+
+    @GetMapping(value = "/transactions/account/{accountId}/all", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream all transactions by account ID", description = "Streams all transactions for a specific account, newest first")
+    public Flux<TransactionDTO> getAllTransactionsByAccountId(
+            @Parameter(description = "Account ID") @PathVariable String accountId) {
+        return reactiveQueryService.getAllTransactionsByAccountId(accountId);
+    }
+
+    @GetMapping(value = "/transactions/account/{accountId}/date-range", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream transactions by date range", description = "Streams transactions for a specific account within a date range")
+    public Flux<TransactionDTO> getTransactionsByDateRange(
+            @Parameter(description = "Account ID") @PathVariable String accountId,
+            @Parameter(description = "Start date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return reactiveQueryService.getTransactionsByDateRange(accountId, startDate, endDate);
+    }
+
+    @GetMapping(value = "/transactions/account/{accountId}/category/{category}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream transactions by category", description = "Streams transactions for a specific account and category, optionally within a date range")
+    public Flux<TransactionDTO> getTransactionsByCategory(
+            @Parameter(description = "Account ID") @PathVariable String accountId,
+            @Parameter(description = "Transaction category") @PathVariable TransactionCategory category,
+            @Parameter(description = "Start date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return reactiveQueryService.getTransactionsByCategory(accountId, category, startDate, endDate);
+    }
+}
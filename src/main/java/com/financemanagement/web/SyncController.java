@@ -0,0 +1,37 @@
+package com.financemanagement.web;
+
+import com.financemanagement.dto.SyncResponse;
+import com.financemanagement.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Sync", description = "Delta sync of accounts and transactions")
+public class SyncController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @Operation(summary = "Get changes since a watermark",
+            description = "Returns the accounts and transactions created, updated or deleted after the watermark, "
+                    + "and the watermark to pass next time. Start with since=0, which asks for a full reload.")
+    public ResponseEntity<SyncResponse> getChangesSince(
+            @Parameter(description = "Watermark from the previous sync") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "1000") int limit) {
+        log.debug("Sync requested since {}", since);
+        return ResponseEntity.ok(syncService.getChangesSince(since, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
@@ -3,7 +3,11 @@ package com.financemanagement.web;
 import com.financemanagement.domain.TransactionCategory;
 import com.financemanagement.domain.TransactionStatus;
 import com.financemanagement.domain.TransactionType;
+import com.financemanagement.dto.FieldSelection;
 import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.security.FieldValidationEngine;
+import com.financemanagement.security.ValidationError;
+import com.financemanagement.service.BatchLookupService;
 import com.financemanagement.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -36,6 +41,8 @@ import java.util.concurrent.CompletableFuture;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final FieldValidationEngine fieldValidationEngine;
+    private final BatchLookupService batchLookupService;
 
     @PostMapping
     @Operation(summary = "Create a new transaction", description = "Creates a new financial transaction")
@@ -52,6 +59,21 @@ public class TransactionController {
                 .thenApply(transactionId -> ResponseEntity.status(HttpStatus.CREATED).body(transactionId));
     }
 
+    @PostMapping("/import/validate")
+    @Operation(summary = "Validate a bulk import",
+            description = "Checks every transaction of an import payload and returns all errors at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Payload is valid"),
+            @ApiResponse(responseCode = "422", description = "Payload has errors, all of which are listed")
+    })
+    public ResponseEntity<List<ValidationError>> validateImport(@RequestBody List<TransactionDTO> transactions) {
+        List<ValidationError> errors = fieldValidationEngine.validateTransactions(transactions);
+        log.debug("Validated import of {} transactions with {} errors", transactions.size(), errors.size());
+        return errors.isEmpty()
+                ? ResponseEntity.ok(errors)
+                : ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errors);
+    }
+
     @GetMapping("/{transactionId}")
     @Operation(summary = "Get transaction by ID", description = "Retrieves a specific transaction by its ID")
     @ApiResponses(value = {
@@ -68,6 +90,21 @@ public class TransactionController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/batch")
+    @Operation(summary = "Get transactions by IDs", description = "Retrieves up to 100 transactions in one call, keyed by ID; unknown IDs are left out")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transactions found"),
+            @ApiResponse(responseCode = "400", description = "More than 100 IDs")
+    })
+    public ResponseEntity<Map<String, TransactionDTO>> getTransactionsByIds(
+            @Parameter(description = "Transaction IDs, comma separated") @RequestParam List<String> ids) {
+        log.debug("Fetching {} transactions by ID", ids.size());
+        if (ids.size() > BatchLookupService.MAX_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchLookupService.getTransactionsByIds(ids));
+    }
+
     @GetMapping("/{transactionId}/account/{accountId}")
     @Operation(summary = "Get transaction by ID and account ID", description = "Retrieves a specific transaction by its ID and account ID")
     public ResponseEntity<TransactionDTO> getTransactionByIdAndAccountId(
@@ -103,9 +140,10 @@ public class TransactionController {
     public ResponseEntity<List<TransactionDTO>> getTransactionsByDateRange(
             @Parameter(description = "Account ID") @PathVariable String accountId,
             @Parameter(description = "Start date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @Parameter(description = "End date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @Parameter(description = "End date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching transactions for account: {} between {} and {}", accountId, startDate, endDate);
-        List<TransactionDTO> transactions = transactionService.getTransactionsByDateRange(accountId, startDate, endDate);
+        List<TransactionDTO> transactions = transactionService.getTransactionsByDateRange(accountId, startDate, endDate, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -113,9 +151,10 @@ public class TransactionController {
     @Operation(summary = "Get transactions by category", description = "Retrieves transactions for a specific account and category")
     public ResponseEntity<List<TransactionDTO>> getTransactionsByCategory(
             @Parameter(description = "Account ID") @PathVariable String accountId,
-            @Parameter(description = "Transaction category") @PathVariable TransactionCategory category) {
+            @Parameter(description = "Transaction category") @PathVariable TransactionCategory category,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching transactions for account: {} with category: {}", accountId, category);
-        List<TransactionDTO> transactions = transactionService.getTransactionsByCategory(accountId, category);
+        List<TransactionDTO> transactions = transactionService.getTransactionsByCategory(accountId, category, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -123,9 +162,10 @@ public class TransactionController {
     @Operation(summary = "Get transactions by type", description = "Retrieves transactions for a specific account and type")
     public ResponseEntity<List<TransactionDTO>> getTransactionsByType(
             @Parameter(description = "Account ID") @PathVariable String accountId,
-            @Parameter(description = "Transaction type") @PathVariable TransactionType type) {
+            @Parameter(description = "Transaction type") @PathVariable TransactionType type,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching transactions for account: {} with type: {}", accountId, type);
-        List<TransactionDTO> transactions = transactionService.getTransactionsByType(accountId, type);
+        List<TransactionDTO> transactions = transactionService.getTransactionsByType(accountId, type, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -133,9 +173,10 @@ public class TransactionController {
     @Operation(summary = "Get transactions by status", description = "Retrieves transactions for a specific account and status")
     public ResponseEntity<List<TransactionDTO>> getTransactionsByStatus(
             @Parameter(description = "Account ID") @PathVariable String accountId,
-            @Parameter(description = "Transaction status") @PathVariable TransactionStatus status) {
+            @Parameter(description = "Transaction status") @PathVariable TransactionStatus status,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Fetching transactions for account: {} with status: {}", accountId, status);
-        List<TransactionDTO> transactions = transactionService.getTransactionsByStatus(accountId, status);
+        List<TransactionDTO> transactions = transactionService.getTransactionsByStatus(accountId, status, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -143,9 +184,10 @@ public class TransactionController {
     @Operation(summary = "Search transactions", description = "Searches transactions for a specific account")
     public ResponseEntity<List<TransactionDTO>> searchTransactions(
             @Parameter(description = "Account ID") @PathVariable String accountId,
-            @Parameter(description = "Search term") @RequestParam String searchTerm) {
+            @Parameter(description = "Search term") @RequestParam String searchTerm,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Searching transactions for account: {} with term: {}", accountId, searchTerm);
-        List<TransactionDTO> transactions = transactionService.searchTransactions(accountId, searchTerm);
+        List<TransactionDTO> transactions = transactionService.searchTransactions(accountId, searchTerm, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -196,18 +238,20 @@ public class TransactionController {
     @GetMapping("/account/{accountId}/recurring")
     @Operation(summary = "Get recurring transactions", description = "Retrieves recurring transactions for a specific account")
     public ResponseEntity<List<TransactionDTO>> getRecurringTransactions(
-            @Parameter(description = "Account ID") @PathVariable String accountId) {
+            @Parameter(description = "Account ID") @PathVariable String accountId,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Getting recurring transactions for account: {}", accountId);
-        List<TransactionDTO> transactions = transactionService.getRecurringTransactions(accountId);
+        List<TransactionDTO> transactions = transactionService.getRecurringTransactions(accountId, fields);
         return ResponseEntity.ok(transactions);
     }
 
     @GetMapping("/account/{accountId}/outstanding-credit-cards")
     @Operation(summary = "Get outstanding credit card transactions", description = "Retrieves outstanding credit card transactions for a specific account")
     public ResponseEntity<List<TransactionDTO>> getOutstandingCreditCardTransactions(
-            @Parameter(description = "Account ID") @PathVariable String accountId) {
+            @Parameter(description = "Account ID") @PathVariable String accountId,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Getting outstanding credit card transactions for account: {}", accountId);
-        List<TransactionDTO> transactions = transactionService.getOutstandingCreditCardTransactions(accountId);
+        List<TransactionDTO> transactions = transactionService.getOutstandingCreditCardTransactions(accountId, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -216,9 +260,10 @@ public class TransactionController {
     public ResponseEntity<List<TransactionDTO>> getBiWeeklyPayments(
             @Parameter(description = "Account ID") @PathVariable String accountId,
             @Parameter(description = "Start date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @Parameter(description = "End date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @Parameter(description = "End date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) FieldSelection fields) {
         log.debug("Getting bi-weekly payments for account: {} between {} and {}", accountId, startDate, endDate);
-        List<TransactionDTO> transactions = transactionService.getBiWeeklyPayments(accountId, startDate, endDate);
+        List<TransactionDTO> transactions = transactionService.getBiWeeklyPayments(accountId, startDate, endDate, fields);
         return ResponseEntity.ok(transactions);
     }
 
@@ -0,0 +1,17 @@
+-- V7 skipped account updates whose version and updated_at were unchanged, but V1's update trigger bumps both on
+-- every UPDATE, so the filter never skipped anything: each V6 change-count bump and each key rotation rewrite logged a
+-- phantom ACCOUNT UPSERT. Compare the columns a client can see instead. The account number is compared through its
+-- blind index, which stays the same when only the ciphertext is re-encrypted.
+CREATE OR REPLACE FUNCTION log_account_updates() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_changes (entity_type, entity_id, account_id, operation)
+    SELECT 'ACCOUNT', n.id, n.id, 'UPSERT'
+    FROM changed_rows n JOIN previous_rows o ON o.id = n.id
+    WHERE (n.name, n.type, n.current_balance, n.currency, n.account_number_hash, n.account_number_last4,
+           n.institution, n.status, n.notes)
+          IS DISTINCT FROM
+          (o.name, o.type, o.current_balance, o.currency, o.account_number_hash, o.account_number_last4,
+           o.institution, o.status, o.notes);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
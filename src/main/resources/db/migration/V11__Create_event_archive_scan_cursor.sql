@@ -0,0 +1,10 @@
+-- Position of the event archival candidate scan, so a restarted node resumes the sweep instead of starting over
+-- last_global_index is the global index the next scan continues after; -1 starts from the beginning
+
+CREATE TABLE event_archive_scan_cursor (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    last_global_index BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO event_archive_scan_cursor (id, last_global_index) VALUES (1, -1);
@@ -0,0 +1,5 @@
+-- Accounts still missing their blind index, e.g. written before V3
+-- The application indexes them at startup; once it has, this index is empty and the startup check costs nothing
+
+CREATE INDEX idx_accounts_account_number_unindexed
+    ON accounts(id) WHERE account_number IS NOT NULL AND account_number_hash IS NULL;
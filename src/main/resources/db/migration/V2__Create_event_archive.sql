@@ -0,0 +1,17 @@
+-- Cold aggregate archive for the Axon event store
+-- Events of aggregates with no recent activity are moved here as compressed segments
+-- so the hot event table and its indexes stay small
+
+CREATE TABLE domain_events_archive (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_identifier VARCHAR(255) NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    first_sequence_number BIGINT NOT NULL,
+    last_sequence_number BIGINT NOT NULL,
+    event_count INTEGER NOT NULL,
+    events BYTEA NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX idx_domain_events_archive_aggregate_seq
+    ON domain_events_archive(aggregate_identifier, first_sequence_number);
@@ -0,0 +1,15 @@
+-- Blind index for encrypted account numbers
+-- account_number now holds a randomised AES-GCM ciphertext, so equality lookups go through
+-- an HMAC of the normalised number and suffix lookups through the last four digits
+
+ALTER TABLE accounts ALTER COLUMN account_number TYPE VARCHAR(255);
+
+ALTER TABLE accounts ADD COLUMN account_number_hash VARCHAR(44);
+ALTER TABLE accounts ADD COLUMN account_number_last4 VARCHAR(4);
+
+-- An index on the ciphertext can never serve a lookup
+DROP INDEX IF EXISTS idx_accounts_account_number;
+
+CREATE UNIQUE INDEX idx_accounts_account_number_hash
+    ON accounts(account_number_hash) WHERE account_number_hash IS NOT NULL;
+CREATE INDEX idx_accounts_account_number_last4 ON accounts(account_number_last4);
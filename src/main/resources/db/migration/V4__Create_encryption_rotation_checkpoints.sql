@@ -0,0 +1,12 @@
+-- Progress of the key rotation re-encryption job, one row per table
+-- last_id is the keyset position the job resumes from after a restart
+
+CREATE TABLE encryption_rotation_checkpoints (
+    table_name VARCHAR(100) PRIMARY KEY,
+    key_id INTEGER NOT NULL,
+    last_id UUID,
+    rows_scanned BIGINT NOT NULL DEFAULT 0,
+    rows_rewritten BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
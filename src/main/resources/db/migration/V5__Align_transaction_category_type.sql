@@ -0,0 +1,21 @@
+-- TransactionCategory values that V1 did not declare in the transaction_category type.
+-- Without them, rows in these categories cannot be stored.
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'CHILD_BENEFIT';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'DEPOSIT_SPECIAL_CHECK';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'HOME_INSURANCE';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'TIPP';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'CAR_PAYMENT';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'GASOLINE';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'VISA_AEROPLAN';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'VISA';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'CANADIAN_TIRE';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'COSTCO';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'HOME_DEPOT';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'NAIARA';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'CHILD_CARE';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'GYM';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'CELLULAR_INTERNET';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'AMAZON_NETFLIX';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'FURNITURE';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'SPECIAL_CHECK_INTEREST';
+ALTER TYPE transaction_category ADD VALUE IF NOT EXISTS 'OTHER';
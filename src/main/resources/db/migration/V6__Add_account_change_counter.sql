@@ -0,0 +1,28 @@
+-- Per-account change counter, so conditional GETs of an account's transactions can be answered from one
+-- indexed lookup. Statement-level triggers bump it once per statement and account, which keeps COPY loads cheap.
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS change_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_account_change_count() RETURNS trigger AS $$
+BEGIN
+    UPDATE accounts a
+    SET change_count = a.change_count + c.changes
+    FROM (SELECT account_id, COUNT(*) AS changes FROM changed_rows GROUP BY account_id) c
+    WHERE a.id = c.account_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transactions_change_count_insert
+    AFTER INSERT ON transactions
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_account_change_count();
+
+CREATE TRIGGER transactions_change_count_update
+    AFTER UPDATE ON transactions
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_account_change_count();
+
+CREATE TRIGGER transactions_change_count_delete
+    AFTER DELETE ON transactions
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_account_change_count();
@@ -0,0 +1,82 @@
+-- Change log behind the delta sync API. Triggers append a row per changed account or transaction with no
+-- sequence; SyncService then numbers committed rows in one serialized step, so a client that has seen sequence N
+-- can never later miss a change numbered below N.
+CREATE SEQUENCE sync_sequence;
+
+CREATE TABLE sync_changes (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    operation VARCHAR(8) NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sequence BIGINT
+);
+
+CREATE INDEX idx_sync_changes_sequence ON sync_changes(sequence) WHERE sequence IS NOT NULL;
+CREATE INDEX idx_sync_changes_pending ON sync_changes(id) WHERE sequence IS NULL;
+
+-- Highest sequence removed by retention; clients behind it must resync in full
+CREATE TABLE sync_horizon (
+    purged_through BIGINT NOT NULL
+);
+INSERT INTO sync_horizon (purged_through) VALUES (0);
+
+CREATE OR REPLACE FUNCTION log_transaction_changes() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_changes (entity_type, entity_id, account_id, operation)
+    SELECT 'TRANSACTION', id, account_id, CASE WHEN TG_OP = 'DELETE' THEN 'DELETE' ELSE 'UPSERT' END
+    FROM changed_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION log_account_changes() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_changes (entity_type, entity_id, account_id, operation)
+    SELECT 'ACCOUNT', id, id, CASE WHEN TG_OP = 'DELETE' THEN 'DELETE' ELSE 'UPSERT' END
+    FROM changed_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Account updates that only move change_count (V6) are not changes a client can see
+CREATE OR REPLACE FUNCTION log_account_updates() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_changes (entity_type, entity_id, account_id, operation)
+    SELECT 'ACCOUNT', n.id, n.id, 'UPSERT'
+    FROM changed_rows n JOIN previous_rows o ON o.id = n.id
+    WHERE n.version IS DISTINCT FROM o.version OR n.updated_at IS DISTINCT FROM o.updated_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transactions_sync_insert
+    AFTER INSERT ON transactions
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION log_transaction_changes();
+
+CREATE TRIGGER transactions_sync_update
+    AFTER UPDATE ON transactions
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION log_transaction_changes();
+
+CREATE TRIGGER transactions_sync_delete
+    AFTER DELETE ON transactions
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION log_transaction_changes();
+
+CREATE TRIGGER accounts_sync_insert
+    AFTER INSERT ON accounts
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION log_account_changes();
+
+CREATE TRIGGER accounts_sync_update
+    AFTER UPDATE ON accounts
+    REFERENCING OLD TABLE AS previous_rows NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION log_account_updates();
+
+CREATE TRIGGER accounts_sync_delete
+    AFTER DELETE ON accounts
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION log_account_changes();
@@ -0,0 +1,66 @@
+-- Statistics read model: account count and balance total per status, type and currency, kept current by
+-- triggers so the statistics endpoints read a few dozen rows instead of aggregating the accounts table. Each
+-- group is spread over 8 slots, chosen by account id, so concurrent balance updates rarely queue on one row.
+-- AccountStatisticsService periodically reconciles it against the accounts table.
+CREATE TABLE account_statistics (
+    status account_status NOT NULL,
+    type account_type NOT NULL,
+    currency currency NOT NULL,
+    slot SMALLINT NOT NULL,
+    account_count BIGINT NOT NULL DEFAULT 0,
+    balance_total DECIMAL(19,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (status, type, currency, slot)
+);
+
+CREATE OR REPLACE FUNCTION account_statistics_slot(account_id UUID) RETURNS SMALLINT AS $$
+    SELECT (get_byte(uuid_send(account_id), 15) % 8)::SMALLINT;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION add_account_statistics(p_status account_status, p_type account_type,
+                                                  p_currency currency, p_slot SMALLINT,
+                                                  p_count BIGINT, p_balance DECIMAL) RETURNS void AS $$
+BEGIN
+    INSERT INTO account_statistics (status, type, currency, slot, account_count, balance_total)
+    VALUES (p_status, p_type, p_currency, p_slot, p_count, p_balance)
+    ON CONFLICT (status, type, currency, slot) DO UPDATE
+        SET account_count = account_statistics.account_count + EXCLUDED.account_count,
+            balance_total = account_statistics.balance_total + EXCLUDED.balance_total;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION maintain_account_statistics() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.type = NEW.type AND OLD.currency = NEW.currency THEN
+        -- Balance change within one group: a single delta
+        PERFORM add_account_statistics(NEW.status, NEW.type, NEW.currency, account_statistics_slot(NEW.id),
+                                       0, NEW.current_balance - OLD.current_balance);
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM add_account_statistics(OLD.status, OLD.type, OLD.currency, account_statistics_slot(OLD.id),
+                                       -1, -OLD.current_balance);
+    END IF;
+    IF TG_OP IN ('UPDATE', 'INSERT') THEN
+        PERFORM add_account_statistics(NEW.status, NEW.type, NEW.currency, account_statistics_slot(NEW.id),
+                                       1, NEW.current_balance);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER accounts_statistics_insert_delete
+    AFTER INSERT OR DELETE ON accounts
+    FOR EACH ROW EXECUTE FUNCTION maintain_account_statistics();
+
+-- JPA writes every column on update; only changes that move a total touch the read model
+CREATE TRIGGER accounts_statistics_update
+    AFTER UPDATE ON accounts
+    FOR EACH ROW
+    WHEN (OLD.current_balance IS DISTINCT FROM NEW.current_balance OR OLD.status IS DISTINCT FROM NEW.status
+          OR OLD.type IS DISTINCT FROM NEW.type OR OLD.currency IS DISTINCT FROM NEW.currency)
+    EXECUTE FUNCTION maintain_account_statistics();
+
+INSERT INTO account_statistics (status, type, currency, slot, account_count, balance_total)
+SELECT status, type, currency, account_statistics_slot(id), COUNT(*), SUM(current_balance)
+FROM accounts
+GROUP BY status, type, currency, account_statistics_slot(id);
@@ -0,0 +1,25 @@
+-- V6 kept the change counter on accounts, so every transaction write updated the account row. That fired
+-- update_accounts_updated_at, which bumped the account's version and updated_at, and clients holding the account got
+-- OptimisticLockExceptions without anyone having changed it. The counter moves to its own table; accounts are no
+-- longer written when only their transactions change.
+CREATE TABLE account_change_counters (
+    account_id UUID PRIMARY KEY REFERENCES accounts(id) ON DELETE CASCADE,
+    change_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO account_change_counters (account_id, change_count)
+SELECT id, change_count FROM accounts WHERE change_count > 0;
+
+-- Accounts deleted by the same statement are skipped through the join, so the cascade never trips the foreign key
+CREATE OR REPLACE FUNCTION bump_account_change_count() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO account_change_counters AS counter (account_id, change_count)
+    SELECT c.account_id, c.changes
+    FROM (SELECT account_id, COUNT(*) AS changes FROM changed_rows GROUP BY account_id) c
+    JOIN accounts a ON a.id = c.account_id
+    ON CONFLICT (account_id) DO UPDATE SET change_count = counter.change_count + EXCLUDED.change_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE accounts DROP COLUMN change_count;
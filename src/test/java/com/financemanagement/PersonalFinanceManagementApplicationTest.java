@@ -0,0 +1,78 @@
+package com.financemanagement;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import redis.embedded.RedisServer;
+
+import javax.sql.DataSource;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the whole application against an embedded PostgreSQL and an embedded Redis, so the blocking and the
+ * reactive database stacks are both wired as in production
+ */
+class PersonalFinanceManagementApplicationTest {
+
+    @Test
+    void testContextLoadsWithBothTheJdbcAndTheR2dbcPool() throws Exception {
+        int redisPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                     PersonalFinanceManagementApplication.class)
+                     .properties(properties(postgres, redisPort))
+                     .run()) {
+
+            // Then
+            assertEquals(1, context.getBeansOfType(DataSource.class).size());
+            assertTrue(context.getBean(DataSource.class).isWrapperFor(HikariDataSource.class));
+            assertEquals(1, context.getBeansOfType(ConnectionFactory.class).size());
+
+            Integer migrations = context.getBean(JdbcTemplate.class).queryForObject(
+                    "SELECT count(*) FROM flyway_schema_history WHERE success", Integer.class);
+            assertTrue(migrations != null && migrations > 0);
+            Integer reactive = context.getBean(DatabaseClient.class).sql("SELECT 1")
+                    .map(row -> row.get(0, Integer.class))
+                    .one()
+                    .block(Duration.ofSeconds(10));
+            assertEquals(1, reactive);
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static Map<String, Object> properties(EmbeddedPostgres postgres, int redisPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("spring.r2dbc.url", "r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres");
+        properties.put("spring.r2dbc.username", "postgres");
+        properties.put("spring.r2dbc.password", "postgres");
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("axon.axonserver.enabled", false);
+        properties.put("security.encryption.blind-index-key", "test-blind-index-key-0123456789abc");
+        properties.put("security.encryption.blind-index-salt", "test-blind-index-salt");
+        properties.put("security.encryption.rotation.resume-on-startup", false);
+        properties.put("audit.file", "target/context-test/audit/audit.jsonl");
+        properties.put("audit.store.directory", "target/context-test/audit/segments");
+        return properties;
+    }
+}
@@ -0,0 +1,80 @@
+package com.financemanagement.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void testOfferFailsWhenFullAndDrainPreservesOrder() {
+        // Given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        boolean overflow = buffer.offer(99);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 3);
+
+        // Then
+        assertFalse(overflow);
+        assertEquals(List.of(0, 1, 2), drained);
+        assertEquals(1, buffer.size());
+        assertTrue(buffer.offer(4));
+    }
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer<>(5).capacity());
+        assertEquals(8192, new AuditRingBuffer<>(8192).capacity());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothingThatWasAccepted() throws Exception {
+        // Given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        Set<Integer> accepted = ConcurrentHashMap.newKeySet();
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.add(base + i);
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> consumed = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            consumed.addAll(batch);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(accepted, consumed);
+    }
+}
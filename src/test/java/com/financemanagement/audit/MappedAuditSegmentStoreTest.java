@@ -0,0 +1,104 @@
+package com.financemanagement.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedAuditSegmentStoreTest {
+
+    private static final Instant START = Instant.parse("2024-03-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private AuditProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.getStore().setDirectory(directory.toString());
+        properties.getStore().setSegmentSize(DataSize.ofKilobytes(4));
+        properties.getStore().setCheckpointInterval(DataSize.ofBytes(512));
+        properties.getStore().setRetention(Duration.ofDays(365_000));
+    }
+
+    @Test
+    void testQueryFiltersByPrincipalAndTimeAcrossSegments() throws Exception {
+        // Given
+        MappedAuditSegmentStore store = new MappedAuditSegmentStore(objectMapper, properties);
+        store.write(events(0, 60, "alice"));
+        store.write(events(60, 60, "bob"));
+
+        // When
+        AuditQuery.Result aliceResult = store.query(new AuditQuery(START, START.plusSeconds(3600), "alice", 1000));
+        AuditQuery.Result windowResult = store.query(
+                new AuditQuery(START.plusSeconds(100), START.plusSeconds(109), null, 1000));
+
+        // Then
+        assertEquals(60, aliceResult.events().size());
+        assertTrue(aliceResult.events().stream().allMatch(event -> "alice".equals(event.principal())));
+        assertTrue(aliceResult.segmentsSkipped() > 0, "segments holding only bob should be skipped");
+        assertEquals(10, windowResult.events().size());
+        assertEquals("/api/v1/transactions/100", windowResult.events().get(0).uri());
+        store.close();
+    }
+
+    @Test
+    void testSealedSegmentsAreCompressedAndQueryableAfterRestart() throws Exception {
+        // Given
+        MappedAuditSegmentStore store = new MappedAuditSegmentStore(objectMapper, properties);
+        store.write(events(0, 100, "carol"));
+        store.close();
+
+        // When
+        MappedAuditSegmentStore reopened = new MappedAuditSegmentStore(objectMapper, properties);
+        AuditQuery.Result result = reopened.query(new AuditQuery(START, START.plusSeconds(3600), "carol", 1000));
+
+        // Then
+        assertEquals(100, result.events().size());
+        assertEquals("12.50", result.events().get(99).requestBody());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".seg")));
+        }
+        reopened.close();
+    }
+
+    @Test
+    void testSegmentLeftOpenByCrashIsRecovered() throws Exception {
+        // Given
+        MappedAuditSegmentStore crashed = new MappedAuditSegmentStore(objectMapper, properties);
+        crashed.write(events(0, 5, "dave"));
+        // no close(): the active segment has no index on disk
+
+        // When
+        properties.getStore().setCompress(false);
+        MappedAuditSegmentStore recovered = new MappedAuditSegmentStore(objectMapper, properties);
+        AuditQuery.Result result = recovered.query(new AuditQuery(START, START.plusSeconds(3600), "dave", 1000));
+
+        // Then
+        assertEquals(5, result.events().size());
+        recovered.close();
+    }
+
+    private List<AuditEvent> events(int offsetSeconds, int count, String principal) {
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = offsetSeconds; i < offsetSeconds + count; i++) {
+            events.add(new AuditEvent("req-" + i, START.plusSeconds(i), "POST", "/api/v1/transactions/" + i,
+                    null, "10.0.0.1", principal, "JUnit", 201, 5, "12.50", null));
+        }
+        return events;
+    }
+}
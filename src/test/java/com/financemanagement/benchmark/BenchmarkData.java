@@ -0,0 +1,93 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.domain.Account;
+import com.financemanagement.domain.AccountStatus;
+import com.financemanagement.domain.AccountType;
+import com.financemanagement.domain.Currency;
+import com.financemanagement.domain.Transaction;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.domain.TransactionStatus;
+import com.financemanagement.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeded entities shaped like production data: a year of transactions on one account, most of them expenses spread
+ * over the common categories, with about a third carrying notes.
+ */
+final class BenchmarkData {
+
+    private static final String[] DESCRIPTIONS = {
+            "Mortgage payment", "Groceries - weekly shop", "Salary", "Hydro bill", "Costco run", "Netflix",
+            "Gas station", "Gym membership", "Daycare", "Home Depot - paint"};
+    private static final TransactionCategory[] EXPENSE_CATEGORIES = {
+            TransactionCategory.GROCERIES, TransactionCategory.MORTGAGE, TransactionCategory.UTILITIES,
+            TransactionCategory.GASOLINE, TransactionCategory.COSTCO, TransactionCategory.AMAZON_NETFLIX,
+            TransactionCategory.CHILD_CARE, TransactionCategory.GYM, TransactionCategory.ENTERTAINMENT,
+            TransactionCategory.HOME_DEPOT, TransactionCategory.CELLULAR_INTERNET, TransactionCategory.OTHER};
+
+    private BenchmarkData() {
+    }
+
+    static List<Transaction> transactions(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String accountId = new UUID(seed, seed).toString();
+        LocalDate today = LocalDate.of(2024, 6, 30);
+        LocalDateTime created = LocalDateTime.of(2024, 6, 30, 12, 0);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean income = random.nextInt(10) == 0;
+            TransactionCategory category = income
+                    ? TransactionCategory.SALARY
+                    : EXPENSE_CATEGORIES[random.nextInt(EXPENSE_CATEGORIES.length)];
+            BigDecimal amount = BigDecimal.valueOf(income ? 250_000 + random.nextInt(200_000) : random.nextInt(50_000),
+                    2);
+            LocalDate date = today.minusDays(random.nextInt(365));
+            transactions.add(Transaction.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()).toString())
+                    .description(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)])
+                    .amount(income ? amount : amount.negate())
+                    .type(income ? TransactionType.INCOME : TransactionType.EXPENSE)
+                    .category(category)
+                    .accountId(accountId)
+                    .transactionDate(date)
+                    .scheduledDate(date)
+                    .status(TransactionStatus.COMPLETED)
+                    .notes(random.nextInt(3) == 0 ? "Receipt #" + random.nextInt(10_000) + " kept" : null)
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .version(1L)
+                    .build());
+        }
+        return transactions;
+    }
+
+    static List<Account> accounts(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        AccountType[] types = AccountType.values();
+        LocalDateTime created = LocalDateTime.of(2024, 6, 30, 12, 0);
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            accounts.add(Account.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()).toString())
+                    .name("Account " + i)
+                    .type(types[random.nextInt(types.length)])
+                    .currentBalance(BigDecimal.valueOf(random.nextLong(10_000_000) - 2_000_000, 2))
+                    .currency(Currency.CAD)
+                    .accountNumberLast4(String.format("%04d", random.nextInt(10_000)))
+                    .institution("RBC")
+                    .status(AccountStatus.ACTIVE)
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .version(1L)
+                    .build());
+        }
+        return accounts;
+    }
+}
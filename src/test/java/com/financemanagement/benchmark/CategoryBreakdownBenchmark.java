@@ -0,0 +1,68 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.domain.Transaction;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.repository.TransactionRepository;
+import com.financemanagement.service.PerformanceOptimizedTransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory part of {@link PerformanceOptimizedTransactionService#getCategoryBreakdown}: grouping a year of
+ * an account's transactions by category and summing the amounts. The repository is a stub returning the rows, so
+ * only the stream aggregation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryBreakdownBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2023, 7, 1);
+    private static final LocalDate END = LocalDate.of(2024, 6, 30);
+
+    @Param({"1000", "10000"})
+    public int transactionCount;
+
+    private PerformanceOptimizedTransactionService service;
+    private String accountId;
+
+    @Setup
+    public void setUp() {
+        List<Transaction> transactions = BenchmarkData.transactions(transactionCount, 42);
+        accountId = transactions.get(0).getAccountId();
+        TransactionRepository repository = (TransactionRepository) Proxy.newProxyInstance(
+                TransactionRepository.class.getClassLoader(),
+                new Class<?>[]{TransactionRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByAccountIdAndTransactionDateBetweenOrderByTransactionDateDesc")) {
+                        return transactions;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        service = new PerformanceOptimizedTransactionService(repository, null, null, null, null);
+    }
+
+    @Benchmark
+    public Map<TransactionCategory, BigDecimal> categoryBreakdown() {
+        return service.getCategoryBreakdown(accountId, START, END);
+    }
+}
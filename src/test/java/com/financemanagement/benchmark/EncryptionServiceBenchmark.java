@@ -0,0 +1,77 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.security.EncryptionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-field {@link EncryptionService} calls made when saving and reading accounts and transactions: note and
+ * account number encryption, and the blind index computed for every account number lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionServiceBenchmark {
+
+    private static final String ACCOUNT_NUMBER = "0042-1234567890";
+    private static final String NOTES = "Paid with credit card ending 4471, receipt kept in the blue folder";
+
+    private EncryptionService encryptionService;
+    private String encryptedAccountNumber;
+    private String encryptedNotes;
+
+    @Setup
+    public void setUp() {
+        encryptionService = new EncryptionService();
+        ReflectionTestUtils.setField(encryptionService, "encryptionKey",
+                "benchmark-encryption-key-that-is-long-enough-0123456789");
+        ReflectionTestUtils.setField(encryptionService, "encryptionSalt", "benchmark-salt-0123456789");
+        ReflectionTestUtils.setField(encryptionService, "encryptionKeyId", 1);
+        ReflectionTestUtils.setField(encryptionService, "blindIndexKey", "benchmark-blind-index-key-0123456789ab");
+        ReflectionTestUtils.setField(encryptionService, "blindIndexSalt", "benchmark-blind-index-salt");
+        ReflectionTestUtils.setField(encryptionService, "legacyReadEnabled", false);
+        ReflectionTestUtils.invokeMethod(encryptionService, "initializeEncryptor");
+
+        encryptedAccountNumber = encryptionService.encryptAccountNumber(ACCOUNT_NUMBER);
+        encryptedNotes = encryptionService.encryptNotes(NOTES);
+    }
+
+    @Benchmark
+    public String encryptAccountNumber() {
+        return encryptionService.encryptAccountNumber(ACCOUNT_NUMBER);
+    }
+
+    @Benchmark
+    public String decryptAccountNumber() {
+        return encryptionService.decryptAccountNumber(encryptedAccountNumber);
+    }
+
+    @Benchmark
+    public String encryptNotes() {
+        return encryptionService.encryptNotes(NOTES);
+    }
+
+    @Benchmark
+    public String decryptNotes() {
+        return encryptionService.decryptNotes(encryptedNotes);
+    }
+
+    @Benchmark
+    public String accountNumberIndex() {
+        return encryptionService.accountNumberIndex(ACCOUNT_NUMBER);
+    }
+}
@@ -0,0 +1,107 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.security.FieldEncryptionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.codec.Hex;
+import org.springframework.security.crypto.encrypt.AesBytesEncryptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decrypting a page of notes and account numbers: the previous per-field AesBytesEncryptor + Base64 path against
+ * the AES-GCM engine, per field and in bulk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldEncryptionBenchmark {
+
+    private static final String SECRET = "benchmark-encryption-key-that-is-long-enough-0123456789";
+    private static final String SALT = "benchmark-salt-0123456789";
+
+    @Param({"1000"})
+    public int pageSize;
+
+    private AesBytesEncryptor legacyEncryptor;
+    private FieldEncryptionEngine engine;
+    private List<String> legacyPage;
+    private List<String> gcmPage;
+    private List<String> plainPage;
+
+    @Setup
+    public void setUp() {
+        legacyEncryptor = new AesBytesEncryptor(SECRET, new String(Hex.encode(SALT.getBytes(StandardCharsets.UTF_8))));
+        engine = new FieldEncryptionEngine(1, Map.of(1, FieldEncryptionEngine.deriveKey(SECRET, SALT)));
+
+        SplittableRandom random = new SplittableRandom(42);
+        plainPage = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            plainPage.add(i % 2 == 0
+                    ? String.valueOf(1_000_000_000L + random.nextLong(9_000_000_000L))
+                    : "Card ending " + random.nextInt(10_000) + " used for groceries at store #" + random.nextInt(500));
+        }
+
+        legacyPage = new ArrayList<>(pageSize);
+        for (String value : plainPage) {
+            legacyPage.add(Base64.getEncoder().encodeToString(
+                    legacyEncryptor.encrypt(value.getBytes(StandardCharsets.UTF_8))));
+        }
+        gcmPage = engine.encryptAll(plainPage);
+    }
+
+    @Benchmark
+    public List<String> legacyDecryptPage() {
+        List<String> result = new ArrayList<>(pageSize);
+        for (String value : legacyPage) {
+            result.add(new String(legacyEncryptor.decrypt(Base64.getDecoder().decode(value)), StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> gcmDecryptPerField() {
+        List<String> result = new ArrayList<>(pageSize);
+        for (String value : gcmPage) {
+            result.add(engine.decrypt(value));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> gcmDecryptAll() {
+        return engine.decryptAll(gcmPage);
+    }
+
+    @Benchmark
+    public List<String> legacyEncryptPage() {
+        List<String> result = new ArrayList<>(pageSize);
+        for (String value : plainPage) {
+            result.add(Base64.getEncoder().encodeToString(legacyEncryptor.encrypt(value.getBytes(StandardCharsets.UTF_8))));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> gcmEncryptAll() {
+        return engine.encryptAll(plainPage);
+    }
+}
@@ -0,0 +1,105 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.security.FieldValidationEngine;
+import com.financemanagement.security.InputValidationService;
+import com.financemanagement.security.ValidationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a bulk-import payload: the encode-and-regex {@link InputValidationService} against the single-pass
+ * {@link FieldValidationEngine}, field by field and through its batch API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldValidationBenchmark {
+
+    private static final String[] DESCRIPTIONS = {
+            "Mortgage payment", "Groceries - weekly shop", "Salary (March)", "Hydro bill, Q1", "Coffee"};
+    private static final String[] NOTES = {
+            "Paid from joint account", "Split with roommate 50/50", "Receipt #4471 kept", "Tom & Jerry's diner"};
+
+    @Param({"1000"})
+    public int payloadSize;
+
+    private InputValidationService inputValidationService;
+    private FieldValidationEngine fieldValidationEngine;
+    private List<TransactionDTO> payload;
+    private List<String> amounts;
+
+    @Setup
+    public void setUp() {
+        inputValidationService = new InputValidationService();
+        fieldValidationEngine = new FieldValidationEngine();
+
+        SplittableRandom random = new SplittableRandom(42);
+        payload = new ArrayList<>(payloadSize);
+        amounts = new ArrayList<>(payloadSize);
+        for (int i = 0; i < payloadSize; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-500_000, 500_000), 2);
+            amounts.add(amount.toPlainString());
+            payload.add(TransactionDTO.builder()
+                    .description(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)])
+                    .notes(random.nextInt(4) == 0 ? NOTES[random.nextInt(NOTES.length)] : null)
+                    .amount(amount)
+                    .transactionType("EXPENSE")
+                    .category("GROCERIES")
+                    .accountId(UUID.randomUUID().toString())
+                    .transactionDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .scheduledDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void inputValidationService(Blackhole blackhole) {
+        for (int i = 0; i < payload.size(); i++) {
+            TransactionDTO transaction = payload.get(i);
+            blackhole.consume(inputValidationService.sanitizeDescription(transaction.getDescription()));
+            blackhole.consume(inputValidationService.sanitizeNotes(transaction.getNotes()));
+            inputValidationService.validateAmount(amounts.get(i));
+            inputValidationService.validateUUID(transaction.getAccountId());
+            inputValidationService.validateTransactionType(transaction.getTransactionType());
+            inputValidationService.validateTransactionCategory(transaction.getCategory());
+        }
+    }
+
+    @Benchmark
+    public void engineFieldByField(Blackhole blackhole) {
+        for (int i = 0; i < payload.size(); i++) {
+            TransactionDTO transaction = payload.get(i);
+            blackhole.consume(fieldValidationEngine.sanitizeDescription(transaction.getDescription()));
+            blackhole.consume(fieldValidationEngine.sanitizeNotes(transaction.getNotes()));
+            fieldValidationEngine.validateAmount(amounts.get(i));
+            fieldValidationEngine.validateUUID(transaction.getAccountId());
+        }
+    }
+
+    @Benchmark
+    public List<ValidationError> engineBatch() {
+        return fieldValidationEngine.validateTransactions(payload);
+    }
+}
@@ -0,0 +1,103 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.config.FinanceTimers;
+import com.financemanagement.config.InstrumentedCacheManager;
+import com.financemanagement.config.MethodMetricsInterceptor;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the finance timer instrumentation. The budget is 200 ns per instrumented call on top of the
+ * un-instrumented path: compare {@code proxiedMethod} with {@code timedMethod} and {@code cacheGet} with
+ * {@code timedCacheGet}. Runs against a Prometheus registry, with its percentile histograms, as in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+
+    private SampleService direct;
+    private SampleService proxied;
+    private SampleService timed;
+    private Cache cache;
+    private Cache timedCache;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        FinanceTimers financeTimers = new FinanceTimers(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), false);
+
+        direct = new SampleService();
+        proxied = proxy(new SampleService(), null);
+        timed = proxy(new SampleService(), new MethodMetricsInterceptor(() -> financeTimers));
+
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("accounts");
+        cache = cacheManager.getCache("accounts");
+        timedCache = new InstrumentedCacheManager(cacheManager, financeTimers).getCache("accounts");
+        for (int i = 0; i < 1024; i++) {
+            cache.put(i, "account-" + i);
+        }
+    }
+
+    private static SampleService proxy(SampleService target, MethodMetricsInterceptor interceptor) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        if (interceptor != null) {
+            factory.addAdvice(interceptor);
+        }
+        return (SampleService) factory.getProxy();
+    }
+
+    @Benchmark
+    public long directMethod() {
+        return direct.compute(++counter);
+    }
+
+    @Benchmark
+    public long proxiedMethod() {
+        return proxied.compute(++counter);
+    }
+
+    @Benchmark
+    public long timedMethod() {
+        return timed.compute(++counter);
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper cacheGet() {
+        return cache.get((int) (++counter & 2047));
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper timedCacheGet() {
+        return timedCache.get((int) (++counter & 2047));
+    }
+
+    /**
+     * Stands in for a service method; half of the cache keys above miss
+     */
+    public static class SampleService {
+
+        public long compute(long value) {
+            return Long.rotateLeft(value * 0x9E3779B97F4A7C15L, 17);
+        }
+    }
+}
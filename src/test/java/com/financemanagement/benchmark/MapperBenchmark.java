@@ -0,0 +1,86 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.domain.Account;
+import com.financemanagement.domain.Transaction;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.mapper.AccountMapper;
+import com.financemanagement.mapper.AccountNumberMapper;
+import com.financemanagement.mapper.TransactionMapper;
+import com.financemanagement.security.EncryptionService;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a page of entities to DTOs with the generated MapStruct mappers, as every list endpoint does, in full
+ * and in the compact form used for {@code view=compact} and for {@code fields} without derived properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private TransactionMapper transactionMapper;
+    private AccountMapper accountMapper;
+    private List<Transaction> transactions;
+    private List<Account> accounts;
+
+    @Setup
+    public void setUp() {
+        transactionMapper = Mappers.getMapper(TransactionMapper.class);
+        accountMapper = Mappers.getMapper(AccountMapper.class);
+        // The benchmark accounts only carry the last 4 digits, so nothing is decrypted
+        ReflectionTestUtils.setField(accountMapper, "accountNumberMapper",
+                new AccountNumberMapper(new EncryptionService()));
+        transactions = BenchmarkData.transactions(pageSize, 42);
+        accounts = BenchmarkData.accounts(pageSize, 42);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> transactionPageToDTO() {
+        List<TransactionDTO> page = new ArrayList<>(pageSize);
+        for (Transaction transaction : transactions) {
+            page.add(transactionMapper.toDTO(transaction));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<TransactionDTO> transactionPageToCompactDTO() {
+        List<TransactionDTO> page = new ArrayList<>(pageSize);
+        for (Transaction transaction : transactions) {
+            page.add(transactionMapper.toCompactDTO(transaction));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<AccountDTO> accountPageToDTO() {
+        List<AccountDTO> page = new ArrayList<>(pageSize);
+        for (Account account : accounts) {
+            page.add(accountMapper.toDTO(account));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,63 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.domain.RecurrenceType;
+import com.financemanagement.domain.RecurringTransaction;
+import com.financemanagement.domain.RecurringTransactionStatus;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.domain.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecurringTransaction#getNextOccurrence()} walks from the start date one period at a time, so its cost
+ * grows with the age of the schedule: a daily schedule started three years ago takes about a thousand steps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecurrenceBenchmark {
+
+    @Param({"DAILY", "WEEKLY", "MONTHLY"})
+    public RecurrenceType recurrenceType;
+
+    @Param({"1", "3"})
+    public int yearsSinceStart;
+
+    private RecurringTransaction recurringTransaction;
+
+    @Setup
+    public void setUp() {
+        recurringTransaction = RecurringTransaction.builder()
+                .description("Mortgage payment")
+                .amount(new BigDecimal("-2150.00"))
+                .type(TransactionType.EXPENSE)
+                .category(TransactionCategory.MORTGAGE)
+                .accountId("8a6e0804-2bd0-4672-b79d-d97027f9071a")
+                .recurrenceType(recurrenceType)
+                .startDate(LocalDate.now().minusYears(yearsSinceStart).minusDays(3))
+                .interval(1)
+                .status(RecurringTransactionStatus.ACTIVE)
+                .build();
+    }
+
+    @Benchmark
+    public LocalDate nextOccurrence() {
+        return recurringTransaction.getNextOccurrence();
+    }
+}
@@ -0,0 +1,98 @@
+package com.financemanagement.benchmark;
+
+import com.financemanagement.config.RedisCacheConfig;
+import com.financemanagement.domain.Transaction;
+import com.financemanagement.domain.TransactionCategory;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.mapper.TransactionMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing and deserializing cache values with the serializer from {@link RedisCacheConfig}: a single
+ * transaction, a page of 20, and a category breakdown as cached in {@code statistics}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisSerializationBenchmark {
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private TransactionDTO transaction;
+    private List<TransactionDTO> page;
+    private Map<TransactionCategory, BigDecimal> breakdown;
+    private byte[] transactionBytes;
+    private byte[] pageBytes;
+    private byte[] breakdownBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = RedisCacheConfig.valueSerializer();
+        TransactionMapper mapper = Mappers.getMapper(TransactionMapper.class);
+        List<Transaction> transactions = BenchmarkData.transactions(1000, 42);
+
+        page = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            page.add(mapper.toDTO(transactions.get(i)));
+        }
+        transaction = page.get(0);
+        breakdown = new EnumMap<>(TransactionCategory.class);
+        for (Transaction t : transactions) {
+            breakdown.merge(t.getCategory(), t.getAmount(), BigDecimal::add);
+        }
+
+        transactionBytes = serializer.serialize(transaction);
+        pageBytes = serializer.serialize(page);
+        breakdownBytes = serializer.serialize(breakdown);
+    }
+
+    @Benchmark
+    public byte[] serializeTransaction() {
+        return serializer.serialize(transaction);
+    }
+
+    @Benchmark
+    public Object deserializeTransaction() {
+        return serializer.deserialize(transactionBytes);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserializePage() {
+        return serializer.deserialize(pageBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeBreakdown() {
+        return serializer.serialize(breakdown);
+    }
+
+    @Benchmark
+    public Object deserializeBreakdown() {
+        return serializer.deserialize(breakdownBytes);
+    }
+}
@@ -0,0 +1,108 @@
+package com.financemanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A burst of blocking tasks shaped like a request: a Redis or HTTP wait outside the database, then a shorter query
+ * holding one of 20 database permits (the Hikari pool size). {@code PLATFORM} is the default {@code taskExecutor}
+ * pool (10 core, 50 max, queue 100, caller-runs); {@code VIRTUAL} is the executor {@code AsyncConfig} builds with
+ * {@code spring.threads.virtual.enabled=true}. The {@code VIRTUAL} runs need a Java 21 JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadExecutorBenchmark {
+
+    private static final int DATABASE_PERMITS = 20;
+
+    public enum ExecutorMode { PLATFORM, VIRTUAL }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutorMode mode;
+
+    @Param({"200", "1000"})
+    public int tasks;
+
+    @Param({"5"})
+    public int ioMillis;
+
+    @Param({"2"})
+    public int queryMillis;
+
+    private TaskExecutor executor;
+    private ThreadPoolTaskExecutor pool;
+    private Semaphore databasePermits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        databasePermits = new Semaphore(DATABASE_PERMITS, true);
+        if (mode == ExecutorMode.VIRTUAL) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("FinanceAsync-");
+            virtual.setVirtualThreads(true);
+            executor = virtual;
+        } else {
+            pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(10);
+            pool.setMaxPoolSize(50);
+            pool.setQueueCapacity(100);
+            pool.setThreadNamePrefix("FinanceAsync-");
+            pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.initialize();
+            executor = pool;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(ioMillis);
+                    databasePermits.acquire();
+                    try {
+                        Thread.sleep(queryMillis);
+                    } finally {
+                        databasePermits.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return done.getCount();
+    }
+}
@@ -0,0 +1,116 @@
+package com.financemanagement.config;
+
+import com.financemanagement.audit.AuditEvent;
+import com.financemanagement.audit.AuditLogWriter;
+import com.financemanagement.audit.AuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuditLoggingFilterTest {
+
+    private AuditLogWriter auditLogWriter;
+    private AuditProperties properties;
+    private AuditLoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        auditLogWriter = mock(AuditLogWriter.class);
+        properties = new AuditProperties();
+        properties.getBody().setSampleRate(1.0);
+        properties.getBody().setResponseEnabled(true);
+        properties.getBody().setMaxBytes(8);
+        filter = new AuditLoggingFilter(auditLogWriter, properties,
+                new FinanceTimers(new SimpleMeterRegistry(), false));
+    }
+
+    @Test
+    void testBodiesAreCappedAndResponseIsWrittenThrough() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/transactions");
+        request.setContentType("application/json");
+        request.setContent("{\"amount\":\"12.50\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain(new EchoServlet("application/json")));
+
+        // Then
+        AuditEvent event = publishedEvent();
+        assertEquals("{\"amount", event.requestBody());
+        assertEquals("{\"id\":\"4", event.responseBody());
+        assertEquals("{\"id\":\"42\",\"items\":[1,2,3]}", response.getContentAsString());
+        assertEquals(201, event.status());
+    }
+
+    @Test
+    void testStreamingResponsesAreNotCaptured() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/transactions/feed");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain(new EchoServlet("text/event-stream")));
+
+        // Then
+        AuditEvent event = publishedEvent();
+        assertNull(event.requestBody());
+        assertNull(event.responseBody());
+        assertEquals("{\"id\":\"42\",\"items\":[1,2,3]}", response.getContentAsString());
+    }
+
+    @Test
+    void testUnsampledRequestsSkipBodyCapture() throws Exception {
+        // Given
+        properties.getBody().setSampleRate(0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/transactions");
+        request.setContentType("application/json");
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain(new EchoServlet("application/json")));
+
+        // Then
+        AuditEvent event = publishedEvent();
+        assertEquals("POST", event.method());
+        assertNull(event.requestBody());
+        assertNull(event.responseBody());
+    }
+
+    private AuditEvent publishedEvent() {
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLogWriter).publish(captor.capture());
+        return captor.getValue();
+    }
+
+    private static class EchoServlet extends HttpServlet {
+
+        private final String contentType;
+
+        private EchoServlet(String contentType) {
+            this.contentType = contentType;
+        }
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            request.getInputStream().readAllBytes();
+            response.setStatus(201);
+            response.setContentType(contentType);
+            response.getWriter().write("{\"id\":\"42\",\"items\":[1,2,3]}");
+        }
+    }
+}
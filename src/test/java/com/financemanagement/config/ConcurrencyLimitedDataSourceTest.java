@@ -0,0 +1,94 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50),
+                new FinanceTimers(meterRegistry, false));
+    }
+
+    @Test
+    void timesOutWhenAllPermitsAreInUse() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When / Then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(2)).getConnection();
+        Timer timeouts = meterRegistry.find("finance.database.permit").tag("outcome", "timeout").timer();
+        assertNotNull(timeouts);
+        assertEquals(1, timeouts.count());
+    }
+
+    @Test
+    void closingReleasesThePermitOnce() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // When
+        first.close();
+        first.close();
+
+        // Then
+        verify(connection, times(2)).close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void releasesThePermitWhenTheTargetFails() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        // Then
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void delegatesOtherCallsToTheTargetConnection() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // When
+        Connection limited = dataSource.getConnection();
+
+        // Then
+        assertTrue(limited.getAutoCommit());
+        assertEquals(1, dataSource.getInUse());
+    }
+}
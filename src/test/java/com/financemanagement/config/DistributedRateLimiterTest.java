@@ -0,0 +1,157 @@
+package com.financemanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributedRateLimiterTest {
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getDistributed().setPrefetchTokens(5);
+        properties.getDistributed().setLeaseTtl(Duration.ofMinutes(1));
+        properties.getDistributed().setTimeout(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        tokenStore = new InMemoryTokenStore();
+    }
+
+    @Test
+    void testPrefetchedTokensAreServedLocally() {
+        // Given
+        DistributedRateLimiter limiter = limiter(tokenStore);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryConsume("principal:alice", 100, 100, 1).allowed());
+        }
+
+        // Then
+        assertEquals(2, tokenStore.calls.get());
+        assertEquals(90, tokenStore.tokens.get("principal:alice"));
+    }
+
+    @Test
+    void testReplicasShareOneBucket() {
+        // Given
+        DistributedRateLimiter replicaA = limiter(tokenStore);
+        DistributedRateLimiter replicaB = limiter(tokenStore);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (replicaA.tryConsume("ip:10.0.0.1", 10, 10, 1).allowed()) {
+                allowed++;
+            }
+            if (replicaB.tryConsume("ip:10.0.0.1", 10, 10, 1).allowed()) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertEquals(10, allowed);
+    }
+
+    @Test
+    void testConcurrentLeaseRefillsAreCombined() {
+        // Given: a second request for the key refills its lease while the first is still waiting on the store
+        AtomicReference<DistributedRateLimiter> limiter = new AtomicReference<>();
+        AtomicInteger calls = new AtomicInteger();
+        DistributedTokenStore racingStore = (key, capacity, refill, requested, minimum) -> {
+            if (calls.incrementAndGet() == 1) {
+                assertTrue(limiter.get().tryConsume(key, 100, 100, 1).allowed());
+            }
+            return new DistributedTokenStore.Grant(requested, capacity);
+        };
+        limiter.set(limiter(racingStore));
+
+        // When
+        assertTrue(limiter.get().tryConsume("principal:alice", 100, 100, 1).allowed());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.get().tryConsume("principal:alice", 100, 100, 1).allowed());
+        }
+
+        // Then: both leases of 4 leftover tokens were kept
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testDenialsAreServedLocallyUntilRetryAfter() {
+        // Given
+        DistributedRateLimiter limiter = limiter(tokenStore);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryConsume("ip:10.0.0.2", 10, 10, 1);
+        }
+        int callsWhenExhausted = tokenStore.calls.get();
+
+        // When
+        RateLimiter.Decision first = limiter.tryConsume("ip:10.0.0.2", 10, 10, 1);
+        RateLimiter.Decision second = limiter.tryConsume("ip:10.0.0.2", 10, 10, 1);
+
+        // Then
+        assertFalse(first.allowed());
+        assertFalse(second.allowed());
+        assertTrue(second.nanosToWaitForRefill() > 0);
+        assertEquals(callsWhenExhausted + 1, tokenStore.calls.get());
+    }
+
+    @Test
+    void testStoreTimeoutFallsBackToLocalLimits() {
+        // Given: the Redis client gave up after its command timeout
+        AtomicInteger calls = new AtomicInteger();
+        DistributedTokenStore slowStore = (key, capacity, refill, requested, minimum) -> {
+            calls.incrementAndGet();
+            throw new QueryTimeoutException("Redis command timed out");
+        };
+        DistributedRateLimiter limiter = limiter(slowStore);
+
+        // When
+        RateLimiter.Decision first = limiter.tryConsume("principal:bob", 2, 2, 1);
+        RateLimiter.Decision second = limiter.tryConsume("principal:bob", 2, 2, 1);
+        RateLimiter.Decision third = limiter.tryConsume("principal:bob", 2, 2, 1);
+
+        // Then
+        assertTrue(first.allowed());
+        assertTrue(second.allowed());
+        assertFalse(third.allowed());
+        assertEquals(1, calls.get(), "the store is skipped during the failure cooldown");
+        assertEquals(3.0, meterRegistry.counter("finance.rate.limit.store.fallbacks").count());
+    }
+
+    private DistributedRateLimiter limiter(DistributedTokenStore store) {
+        return new DistributedRateLimiter(store,
+                new LocalRateLimiter(new RateLimitBucketStore(properties, meterRegistry)),
+                properties, meterRegistry);
+    }
+
+    /**
+     * Shared bucket without refill, standing in for Redis
+     */
+    private static class InMemoryTokenStore implements DistributedTokenStore {
+
+        private final Map<String, Long> tokens = new HashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public synchronized Grant acquire(String key, long capacity, long refillPerMinute, long requested, long minimum) {
+            calls.incrementAndGet();
+            long available = tokens.getOrDefault(key, capacity);
+            long granted = available >= minimum ? Math.min(requested, available) : 0;
+            tokens.put(key, available - granted);
+            return new Grant(granted, available - granted);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.financemanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs512-signatures-0123456789abcdef";
+
+    private UserDetailsService userDetailsService;
+    private UserDetailsCache userDetailsCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation ->
+                User.withUsername(invocation.getArgument(0)).password("n/a").roles("USER").build());
+        userDetailsCache = new UserDetailsCache(userDetailsService, 100, Duration.ofMinutes(5));
+        filter = new JwtAuthenticationFilter(userDetailsCache, SECRET, 100, "tenant_id");
+        ReflectionTestUtils.setField(filter, "jwtExpiration", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testRepeatRequestsReuseVerifiedTokenAndUserDetails() throws Exception {
+        // Given
+        String token = filter.generateToken("alice");
+
+        // When
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        // Then
+        assertEquals("alice", first.getName());
+        assertEquals("alice", second.getName());
+        verify(userDetailsService, times(1)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() throws Exception {
+        // Given
+        String token = filter.generateToken("alice");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When
+        Authentication authentication = authenticate(tampered);
+
+        // Then
+        assertNull(authentication);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testUserDetailsChangeEvictsCachedUser() throws Exception {
+        // Given
+        String token = filter.generateToken("bob");
+        authenticate(token);
+
+        // When
+        userDetailsCache.onUserDetailsChanged(new UserDetailsCache.UserDetailsChangedEvent("bob"));
+        authenticate(token);
+
+        // Then
+        verify(userDetailsService, times(2)).loadUserByUsername("bob");
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
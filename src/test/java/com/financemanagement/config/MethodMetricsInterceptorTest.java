@@ -0,0 +1,134 @@
+package com.financemanagement.config;
+
+import com.financemanagement.security.EncryptionService;
+import com.financemanagement.service.AccountService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        FinanceTimers financeTimers = new FinanceTimers(meterRegistry, false);
+        ProxyFactory factory = new ProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new MethodMetricsInterceptor(() -> financeTimers));
+        service = (SampleService) factory.getProxy();
+    }
+
+    @Test
+    void recordsSuccessfulCallWithMethodAndOutcomeTags() {
+        // When
+        service.work();
+        service.work();
+
+        // Then
+        Timer timer = meterRegistry.find("finance.service")
+                .tags("method", "SampleService.work", "outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void recordsFailedCallAsError() {
+        // When
+        assertThrows(IllegalStateException.class, service::fail);
+
+        // Then
+        Timer timer = meterRegistry.find("finance.service")
+                .tags("method", "SampleService.fail", "outcome", "error")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void reportMethodsRecordReportGeneration() {
+        // When
+        service.getMonthlySummary();
+
+        // Then
+        assertNotNull(meterRegistry.find("finance.report.generation")
+                .tags("method", "SampleService.getMonthlySummary")
+                .timer());
+    }
+
+    @Test
+    void asyncCallIsRecordedWhenTheStageCompletes() {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<String> result = service.later(pending);
+
+        // Then
+        Timer timer = meterRegistry.find("finance.service").tags("method", "SampleService.later").timer();
+        assertNotNull(timer);
+        assertEquals(0, timer.count());
+        pending.completeExceptionally(new IllegalStateException("boom"));
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.find("finance.service")
+                .tags("method", "SampleService.later", "outcome", "error")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void reactiveCallIsRecordedWhenThePublisherTerminates() {
+        // Given
+        Flux<Integer> result = service.stream(3);
+        Timer timer = meterRegistry.find("finance.service").tags("method", "SampleService.stream").timer();
+        assertNotNull(timer);
+        assertEquals(0, timer.count());
+
+        // When
+        assertEquals(3, result.count().block());
+
+        // Then
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void instrumentsApplicationServicesOnly() {
+        assertTrue(MethodMetricsInterceptor.isInstrumented(AccountService.class));
+        assertTrue(MethodMetricsInterceptor.isInstrumented(EncryptionService.class));
+        assertFalse(MethodMetricsInterceptor.isInstrumented(SampleService.class));
+        assertFalse(MethodMetricsInterceptor.isInstrumented(String.class));
+    }
+
+    public static class SampleService {
+
+        public String work() {
+            return "done";
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        public String getMonthlySummary() {
+            return "summary";
+        }
+
+        public CompletableFuture<String> later(CompletableFuture<String> pending) {
+            return pending;
+        }
+
+        public Flux<Integer> stream(int count) {
+            return Flux.range(0, count);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.financemanagement.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RateLimitingFilterTest {
+
+    private static final String JWT_SECRET = "test-secret-key-that-is-long-enough-for-hs512-signatures-0123456789abcdef";
+
+    private RateLimitProperties properties;
+    private RateLimitBucketStore bucketStore;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(2);
+        properties.setBurstCapacity(2);
+        properties.setPrincipalRequestsPerMinute(5);
+        properties.setPrincipalBurstCapacity(5);
+        properties.setRouteCosts(Map.of("/api/v1/**/statistics", 5));
+        meterRegistry = new SimpleMeterRegistry();
+        bucketStore = new RateLimitBucketStore(properties, meterRegistry);
+        filter = new RateLimitingFilter(properties, new LocalRateLimiter(bucketStore), meterRegistry,
+                new FinanceTimers(meterRegistry, false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testAnonymousClientsAreLimitedByRemoteAddress() throws Exception {
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "1.2.3.4"));
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "5.6.7.8"));
+
+        // Spoofed X-Forwarded-For values must not yield fresh buckets
+        assertEquals(429, perform("/api/v1/accounts", "10.0.0.1", "9.9.9.9"));
+        assertEquals(1.0, meterRegistry.counter("finance.rate.limit.rejected", "key", "ip").count());
+    }
+
+    @Test
+    void testForwardedClientAddressIsTheEntryTheTrustedProxyAppended() throws Exception {
+        properties.setTrustForwardedHeaders(true);
+
+        // Clients can prepend anything to X-Forwarded-For, but not what the proxy appends
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "1.1.1.1, 203.0.113.7"));
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "2.2.2.2, 203.0.113.7"));
+        assertEquals(429, perform("/api/v1/accounts", "10.0.0.1", "3.3.3.3, 203.0.113.7"));
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "203.0.113.8"));
+
+        // Behind two proxies the client is the second entry from the right
+        properties.setTrustedProxyCount(2);
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "4.4.4.4, 198.51.100.1, 10.0.0.2"));
+        assertEquals(200, perform("/api/v1/accounts", "10.0.0.1", "5.5.5.5, 198.51.100.1, 10.0.0.3"));
+        assertEquals(429, perform("/api/v1/accounts", "10.0.0.1", "198.51.100.1, 10.0.0.2"));
+    }
+
+    @Test
+    void testRouteCostsAboveTheBucketCapacityAreRejected() {
+        properties.setRouteCosts(Map.of("/api/v1/**/statistics", 2));
+        assertDoesNotThrow(() -> RateLimitConfig.validateRouteCosts(properties));
+
+        properties.setRouteCosts(Map.of("/api/v1/**/statistics", 3));
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> RateLimitConfig.validateRouteCosts(properties));
+        assertTrue(error.getMessage().contains("/api/v1/**/statistics"));
+    }
+
+    @Test
+    void testAuthenticatedClientsAreLimitedByPrincipal() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "alice", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform("/api/v1/accounts", "10.0.0." + i, null));
+        }
+        assertEquals(429, perform("/api/v1/accounts", "10.0.0.99", null));
+    }
+
+    @Test
+    void testExpensiveRoutesConsumeMoreTokens() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "bob", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+
+        assertEquals(200, perform("/api/v1/accounts/statistics", "10.0.0.1", null));
+        assertEquals(429, perform("/api/v1/accounts", "10.0.0.1", null));
+    }
+
+    @Test
+    void testTenantKeyingUsesTheTenantClaimOfTheAppsOwnJwtFilter() throws Exception {
+        // Given
+        properties.setKeyStrategy(RateLimitProperties.KeyStrategy.TENANT);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation ->
+                User.withUsername(invocation.getArgument(0)).password("n/a").roles("USER").build());
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(
+                new UserDetailsCache(userDetailsService, 100, Duration.ofMinutes(5)), JWT_SECRET, 100, "tenant_id");
+
+        // When: two users of one tenant share its bucket
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, performAuthenticated(jwtFilter, token(i % 2 == 0 ? "alice" : "bob", "acme")));
+        }
+
+        // Then
+        assertEquals(429, performAuthenticated(jwtFilter, token("carol", "acme")));
+        assertEquals(200, performAuthenticated(jwtFilter, token("dave", "globex")));
+        assertEquals(1.0, meterRegistry.counter("finance.rate.limit.rejected", "key", "tenant").count());
+    }
+
+    @Test
+    void testStoreSizeIsBounded() {
+        properties.setMaxBuckets(10);
+        RateLimitBucketStore boundedStore = new RateLimitBucketStore(properties, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 1_000; i++) {
+            boundedStore.resolve("ip:" + i, 1, 1);
+        }
+        boundedStore.cleanUp();
+
+        assertTrue(boundedStore.size() <= 10);
+    }
+
+    private int performAuthenticated(JwtAuthenticationFilter jwtFilter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, (req, res) -> filter.doFilter(req, res, new MockFilterChain()));
+        return response.getStatus();
+    }
+
+    private static String token(String username, String tenant) {
+        return Jwts.builder()
+                .subject(username)
+                .claim("tenant_id", tenant)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private int perform(String path, String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,68 @@
+package com.financemanagement.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Lua script against an embedded Redis server, through the store's own dedicated connection
+ */
+class RedisTokenStoreTest {
+
+    private static RedisServer redis;
+    private static RedisTokenStore tokenStore;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+
+        RedisProperties properties = new RedisProperties();
+        properties.setHost("localhost");
+        properties.setPort(port);
+        tokenStore = RedisTokenStore.connect(properties, Duration.ofSeconds(2), "rate-limit-test:");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        tokenStore.destroy();
+        redis.stop();
+    }
+
+    @Test
+    void testGrantsUpToRequestedAndDeniesBelowMinimum() {
+        // When
+        DistributedTokenStore.Grant first = tokenStore.acquire("alice", 10, 10, 8, 1);
+        DistributedTokenStore.Grant second = tokenStore.acquire("alice", 10, 10, 8, 1);
+        DistributedTokenStore.Grant third = tokenStore.acquire("alice", 10, 10, 5, 5);
+
+        // Then
+        assertEquals(8, first.granted());
+        assertEquals(2, first.remaining());
+        assertEquals(2, second.granted());
+        assertEquals(0, second.remaining());
+        assertEquals(0, third.granted());
+    }
+
+    @Test
+    void testBucketsAreIsolatedByKey() {
+        // When
+        tokenStore.acquire("bob", 5, 5, 5, 5);
+        DistributedTokenStore.Grant other = tokenStore.acquire("carol", 5, 5, 5, 5);
+
+        // Then
+        assertEquals(5, other.granted());
+    }
+}
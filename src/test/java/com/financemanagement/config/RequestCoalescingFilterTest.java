@@ -0,0 +1,92 @@
+package com.financemanagement.config;
+
+import com.financemanagement.web.CoalesceRequests;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescingFilterTest {
+
+    private static final String TOTAL_BALANCE = "/api/v1/accounts/total-balance";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescingFilter filter;
+    private AtomicInteger executions;
+    private int status;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestCoalescingFilter(true, Duration.ofMinutes(1), Duration.ofSeconds(5), 100, meterRegistry);
+        filter.routes(Map.of(PathPatternParser.defaultInstance.parse(TOTAL_BALANCE),
+                CoalesceRequests.Scope.AUTHORITIES));
+        executions = new AtomicInteger();
+        status = 200;
+    }
+
+    @Test
+    void identicalRequestsWithinTheReuseWindowShareOneExecution() throws Exception {
+        // When
+        MockHttpServletResponse first = get(TOTAL_BALANCE, "application/json");
+        MockHttpServletResponse second = get(TOTAL_BALANCE, "application/json");
+
+        // Then
+        assertEquals(1, executions.get());
+        assertEquals("1234.56", first.getContentAsString());
+        assertEquals("1234.56", second.getContentAsString());
+        assertEquals("application/json", second.getContentType());
+        assertEquals(1.0, meterRegistry.get("finance.http.coalesced").tag("role", "reused").counter().count());
+    }
+
+    @Test
+    void differentRepresentationsAndUnannotatedRoutesRunSeparately() throws Exception {
+        // When
+        get(TOTAL_BALANCE, "application/json");
+        get(TOTAL_BALANCE, "application/cbor");
+        get("/api/v1/accounts/main", "application/json");
+        get("/api/v1/accounts/main", "application/json");
+
+        // Then
+        assertEquals(4, executions.get());
+    }
+
+    @Test
+    void errorsAreNotShared() throws Exception {
+        // Given
+        status = 500;
+
+        // When
+        get(TOTAL_BALANCE, "application/json");
+        status = 200;
+        MockHttpServletResponse retry = get(TOTAL_BALANCE, "application/json");
+
+        // Then
+        assertEquals(2, executions.get());
+        assertEquals(200, retry.getStatus());
+    }
+
+    private MockHttpServletResponse get(String path, String accept) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Accept", accept);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType(accept);
+            res.getWriter().write("1234.56");
+        };
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+}
@@ -0,0 +1,105 @@
+package com.financemanagement.domain;
+
+import com.financemanagement.security.EncryptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountNumberIndexListenerTest {
+
+    private EncryptionService encryptionService;
+    private AccountNumberIndexListener listener;
+
+    @BeforeEach
+    void setUp() {
+        encryptionService = new EncryptionService();
+        ReflectionTestUtils.setField(encryptionService, "encryptionKey", "test-encryption-key-0123456789abcdef");
+        ReflectionTestUtils.setField(encryptionService, "encryptionSalt", "test-salt-0123456789");
+        ReflectionTestUtils.setField(encryptionService, "encryptionKeyId", 1);
+        ReflectionTestUtils.setField(encryptionService, "blindIndexKey", "test-blind-index-key-0123456789abc");
+        ReflectionTestUtils.setField(encryptionService, "blindIndexSalt", "test-blind-index-salt");
+        ReflectionTestUtils.setField(encryptionService, "legacyReadEnabled", false);
+        ReflectionTestUtils.invokeMethod(encryptionService, "initializeEncryptor");
+        listener = new AccountNumberIndexListener(encryptionService);
+    }
+
+    @Test
+    void testPlainAccountNumberIsIndexedAndEncrypted() {
+        // Given
+        Account account = Account.builder().accountNumber("1234-5678-9012").build();
+
+        // When
+        listener.indexAccountNumber(account);
+
+        // Then
+        assertTrue(encryptionService.isEncrypted(account.getAccountNumber()));
+        assertEquals("123456789012", encryptionService.decrypt(account.getAccountNumber()));
+        assertEquals(encryptionService.accountNumberIndex("123456789012"), account.getAccountNumberHash());
+        assertEquals("9012", account.getAccountNumberLast4());
+        assertEquals("****9012", account.getMaskedAccountNumber());
+    }
+
+    @Test
+    void testIndexIsDeterministicAcrossFormatting() {
+        // Given
+        Account first = Account.builder().accountNumber("1234 5678 9012").build();
+        Account second = Account.builder().accountNumber("123456789012").build();
+
+        // When
+        listener.indexAccountNumber(first);
+        listener.indexAccountNumber(second);
+
+        // Then
+        assertEquals(first.getAccountNumberHash(), second.getAccountNumberHash());
+        assertNotEquals(first.getAccountNumber(), second.getAccountNumber());
+    }
+
+    @Test
+    void testAlreadyEncryptedNumberIsLeftUntouched() {
+        // Given
+        Account account = Account.builder().accountNumber("123456789012").build();
+        listener.indexAccountNumber(account);
+        String encrypted = account.getAccountNumber();
+        String hash = account.getAccountNumberHash();
+
+        // When
+        listener.indexAccountNumber(account);
+
+        // Then
+        assertEquals(encrypted, account.getAccountNumber());
+        assertEquals(hash, account.getAccountNumberHash());
+    }
+
+    @Test
+    void testEncryptedNumberWithoutIndexIsIndexedFromItsPlainText() {
+        // Given
+        String encrypted = encryptionService.encryptAccountNumber("1234-5678-9012");
+        Account account = Account.builder().accountNumber(encrypted).accountNumberHash("stale").build();
+
+        // When
+        listener.indexAccountNumber(account);
+
+        // Then
+        assertEquals(encrypted, account.getAccountNumber());
+        assertEquals(encryptionService.accountNumberIndex("123456789012"), account.getAccountNumberHash());
+        assertEquals("9012", account.getAccountNumberLast4());
+    }
+
+    @Test
+    void testBlankNumberClearsIndex() {
+        // Given
+        Account account = Account.builder().accountNumber("123456789012").build();
+        listener.indexAccountNumber(account);
+        account.setAccountNumber("  ");
+
+        // When
+        listener.indexAccountNumber(account);
+
+        // Then
+        assertNull(account.getAccountNumber());
+        assertNull(account.getAccountNumberHash());
+        assertNull(account.getAccountNumberLast4());
+    }
+}
@@ -0,0 +1,82 @@
+package com.financemanagement.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.financemanagement.config.WebConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        WebConfig.fieldSelectionCustomizer().customize(builder);
+        objectMapper = builder.build();
+    }
+
+    @Test
+    void fieldsKeepOnlyTheNamedProperties() throws Exception {
+        // Given
+        FieldSelection selection = FieldSelection.of("id, amount", null);
+
+        // When
+        JsonNode json = write(transaction(), selection);
+
+        // Then
+        assertEquals(2, json.size());
+        assertEquals("tx-1", json.get("id").asText());
+        assertFalse(selection.includesAny(TransactionDTO.DERIVED_FIELDS));
+    }
+
+    @Test
+    void compactViewDropsDerivedFields() throws Exception {
+        // Given
+        FieldSelection selection = FieldSelection.of(null, "compact");
+
+        // When
+        JsonNode json = write(transaction(), selection);
+
+        // Then
+        assertTrue(json.has("description"));
+        assertFalse(json.has("income"));
+        assertFalse(json.has("absoluteAmount"));
+        assertFalse(selection.includesAny(TransactionDTO.DERIVED_FIELDS));
+    }
+
+    @Test
+    void noParametersSerializeEverything() throws Exception {
+        // When
+        JsonNode json = new ObjectMapper().readTree(objectMapper.writeValueAsString(transaction()));
+
+        // Then
+        assertSame(FieldSelection.ALL, FieldSelection.of("", "full"));
+        assertTrue(json.has("income"));
+        assertTrue(json.has("absoluteAmount"));
+    }
+
+    private JsonNode write(TransactionDTO dto, FieldSelection selection) throws Exception {
+        String body = objectMapper
+                .writer(new SimpleFilterProvider().addFilter(FieldSelection.FILTER_ID, selection.toPropertyFilter()))
+                .writeValueAsString(dto);
+        return new ObjectMapper().readTree(body);
+    }
+
+    private TransactionDTO transaction() {
+        return TransactionDTO.builder()
+                .id("tx-1")
+                .description("Salary")
+                .amount(new BigDecimal("1000.00"))
+                .absoluteAmount(new BigDecimal("1000.00"))
+                .isIncome(true)
+                .build();
+    }
+}
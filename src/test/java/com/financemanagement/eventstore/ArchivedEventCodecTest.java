@@ -0,0 +1,54 @@
+package com.financemanagement.eventstore;
+
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchivedEventCodecTest {
+
+    @Test
+    void testRoundTripPreservesEntries() {
+        // Given
+        Instant timestamp = Instant.parse("2021-03-01T10:15:30.123Z");
+        List<GenericDomainEventEntry<byte[]>> entries = List.of(
+                entry(0, timestamp, "1.0"),
+                entry(1, timestamp.plusSeconds(60), null));
+
+        // When
+        byte[] archived = ArchivedEventCodec.encode(entries);
+        List<GenericDomainEventEntry<byte[]>> decoded = ArchivedEventCodec.decode("tx-1", archived);
+
+        // Then
+        assertEquals(2, decoded.size());
+        for (int i = 0; i < entries.size(); i++) {
+            GenericDomainEventEntry<byte[]> expected = entries.get(i);
+            GenericDomainEventEntry<byte[]> actual = decoded.get(i);
+            assertEquals("tx-1", actual.getAggregateIdentifier());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getSequenceNumber(), actual.getSequenceNumber());
+            assertEquals(expected.getEventIdentifier(), actual.getEventIdentifier());
+            assertEquals(expected.getTimestamp(), actual.getTimestamp());
+            assertEquals(expected.getPayload().getType(), actual.getPayload().getType());
+            assertArrayEquals(expected.getPayload().getData(), actual.getPayload().getData());
+            assertArrayEquals(expected.getMetaData().getData(), actual.getMetaData().getData());
+        }
+    }
+
+    @Test
+    void testDecodeRejectsCorruptData() {
+        assertThrows(RuntimeException.class,
+                () -> ArchivedEventCodec.decode("tx-1", "not-gzip".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private GenericDomainEventEntry<byte[]> entry(long sequenceNumber, Instant timestamp, String revision) {
+        return new GenericDomainEventEntry<>("TransactionAggregate", "tx-1", sequenceNumber, "event-" + sequenceNumber,
+                timestamp, "com.financemanagement.domain.events.TransactionCreatedEvent", revision,
+                ("{\"amount\":" + sequenceNumber + "}").getBytes(StandardCharsets.UTF_8),
+                "{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
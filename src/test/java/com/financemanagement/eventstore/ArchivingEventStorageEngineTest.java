@@ -0,0 +1,124 @@
+package com.financemanagement.eventstore;
+
+import com.financemanagement.domain.events.AccountBalanceChangedEvent;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.eventstore.DomainEventStream;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivingEventStorageEngineTest {
+
+    private static final String AGGREGATE = "acc-1";
+
+    @Mock
+    private EventArchiveRepository archiveRepository;
+
+    private final Serializer serializer = JacksonSerializer.defaultSerializer();
+    private InMemoryEventStorageEngine hot;
+    private ArchivingEventStorageEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        hot = new InMemoryEventStorageEngine();
+        engine = new ArchivingEventStorageEngine(hot, archiveRepository, serializer, NoOpEventUpcaster.INSTANCE);
+
+        // Events 0-2 were archived, 3-4 are still in the hot table
+        List<GenericDomainEventEntry<byte[]>> archived = LongStream.rangeClosed(0, 2).mapToObj(this::entry).toList();
+        hot.appendEvents(List.of(message(3), message(4)));
+        lenient().when(archiveRepository.findByAggregateIdentifierOrderByFirstSequenceNumberAsc(AGGREGATE))
+                .thenReturn(List.of(ArchivedEventSegment.builder()
+                        .aggregateIdentifier(AGGREGATE)
+                        .aggregateType("AccountAggregate")
+                        .firstSequenceNumber(0L)
+                        .lastSequenceNumber(2L)
+                        .eventCount(3)
+                        .events(ArchivedEventCodec.encode(archived))
+                        .build()));
+    }
+
+    @Test
+    void replayFromBeforeTheCutStitchesArchiveAndHotEvents() {
+        // When
+        List<DomainEventMessage<?>> events = read(engine.readEvents(AGGREGATE, 1));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L), events.stream().map(DomainEventMessage::getSequenceNumber).toList());
+        for (DomainEventMessage<?> event : events) {
+            AccountBalanceChangedEvent payload = (AccountBalanceChangedEvent) event.getPayload();
+            assertEquals(BigDecimal.valueOf(event.getSequenceNumber()), payload.getCurrentBalance());
+        }
+    }
+
+    @Test
+    void loadFromAfterTheCutOnlyReadsTheHotTable() {
+        // When
+        List<DomainEventMessage<?>> events = read(engine.readEvents(AGGREGATE, 3));
+
+        // Then
+        assertEquals(List.of(3L, 4L), events.stream().map(DomainEventMessage::getSequenceNumber).toList());
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    void fullReplayAndLastSequenceNumberSpanBothStores() {
+        // Given
+        when(archiveRepository.findLastSequenceNumber("acc-2")).thenReturn(Optional.of(2L));
+
+        // When
+        List<DomainEventMessage<?>> events = read(engine.readEvents(AGGREGATE, 0));
+
+        // Then
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L),
+                events.stream().map(DomainEventMessage::getSequenceNumber).toList());
+        assertEquals(Optional.of(4L), engine.lastSequenceNumberFor(AGGREGATE));
+        assertEquals(Optional.of(2L), engine.lastSequenceNumberFor("acc-2"));
+    }
+
+    private static List<DomainEventMessage<?>> read(DomainEventStream stream) {
+        List<DomainEventMessage<?>> events = new ArrayList<>();
+        stream.forEachRemaining(events::add);
+        return events;
+    }
+
+    private static AccountBalanceChangedEvent payload(long sequenceNumber) {
+        return AccountBalanceChangedEvent.builder()
+                .accountId(AGGREGATE)
+                .currentBalance(BigDecimal.valueOf(sequenceNumber))
+                .currency("CAD")
+                .build();
+    }
+
+    private static GenericDomainEventMessage<AccountBalanceChangedEvent> message(long sequenceNumber) {
+        return new GenericDomainEventMessage<>("AccountAggregate", AGGREGATE, sequenceNumber, payload(sequenceNumber));
+    }
+
+    private GenericDomainEventEntry<byte[]> entry(long sequenceNumber) {
+        SerializedObject<byte[]> payload = serializer.serialize(payload(sequenceNumber), byte[].class);
+        return new GenericDomainEventEntry<>("AccountAggregate", AGGREGATE, sequenceNumber, "event-" + sequenceNumber,
+                Instant.parse("2021-03-01T10:15:30Z").plusSeconds(sequenceNumber),
+                payload.getType().getName(), payload.getType().getRevision(), payload.getData(),
+                serializer.serialize(MetaData.emptyInstance(), byte[].class).getData());
+    }
+}
@@ -0,0 +1,19 @@
+package com.financemanagement.perf;
+
+import static io.gatling.javaapi.core.CoreDsl.constantConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.rampConcurrentUsers;
+
+/**
+ * A fixed number of concurrent sessions ({@code perf.users}, default 20): measures throughput at a given
+ * concurrency, the way a connection-pooled client sees the service
+ */
+public class ClosedModelSimulation extends FinancePerfSimulation {
+
+    private static final int USERS = Integer.getInteger("perf.users", 20);
+
+    {
+        run(session.injectClosed(
+                rampConcurrentUsers(1).to(USERS).during(RAMP),
+                constantConcurrentUsers(USERS).during(DURATION)));
+    }
+}
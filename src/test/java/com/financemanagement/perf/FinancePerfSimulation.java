@@ -0,0 +1,87 @@
+package com.financemanagement.perf;
+
+import io.gatling.javaapi.core.Choice;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.randomSwitch;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * A user session across the main endpoints, run against a {@link PerfStack} booted when the simulation is created.
+ * Subclasses choose the injection model; {@link PerfBaseline} supplies the pass/fail assertions.
+ * <p>
+ * {@code perf.duration} sets the steady-state length in seconds (default 120) and {@code perf.ramp} the ramp-up
+ * (default 30).
+ */
+public abstract class FinancePerfSimulation extends Simulation {
+
+    protected static final Duration RAMP = Duration.ofSeconds(Long.getLong("perf.ramp", 30L));
+    protected static final Duration DURATION = Duration.ofSeconds(Long.getLong("perf.duration", 120L));
+
+    private final PerfStack stack = PerfStack.start();
+
+    // The last year of the generated data
+    private final String period = "startDate=" + stack.lastDate().minusYears(1).plusDays(1)
+            + "&endDate=" + stack.lastDate();
+
+    private final HttpProtocolBuilder protocol = http
+            .baseUrl(stack.baseUrl())
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .authorizationHeader("Bearer " + stack.token())
+            .shareConnections();
+
+    protected final ScenarioBuilder session = scenario("finance session")
+            .feed(accounts())
+            .exec(http("get account").get("/api/v1/accounts/#{accountId}").check(status().is(200)))
+            .exec(http("list transactions").get("/api/v1/transactions/account/#{accountId}?page=0&size=20")
+                    .check(status().is(200)))
+            .exec(http("date range").get("/api/v1/transactions/account/#{accountId}/date-range?" + period)
+                    .check(status().is(200)))
+            .exec(http("expenses by category")
+                    .get("/api/v1/transactions/account/#{accountId}/expenses-by-category?" + period)
+                    .check(status().is(200)))
+            .exec(http("monthly summary")
+                    .get("/api/v1/transactions/account/#{accountId}/monthly-summary?" + period)
+                    .check(status().is(200)))
+            .exec(http("statistics").get("/api/v1/transactions/account/#{accountId}/statistics?" + period)
+                    .check(status().is(200)))
+            .exec(randomSwitch().on(Choice.withWeight(10.0, exec(
+                    http("create transaction").post("/api/v1/transactions")
+                            .body(StringBody("""
+                                    {"description": "Perf purchase", "amount": -42.50,
+                                     "transactionType": "EXPENSE", "category": "GROCERIES",
+                                     "accountId": "#{accountId}", "transactionDate": "2024-06-30",
+                                     "scheduledDate": "2024-06-30"}
+                                    """))
+                            .check(status().is(201))))));
+
+    protected void run(PopulationBuilder population) {
+        setUp(population)
+                .protocols(protocol)
+                .assertions(PerfBaseline.assertions(getClass()));
+    }
+
+    private Iterator<Map<String, Object>> accounts() {
+        return Stream.iterate(0, i -> i + 1)
+                .map(i -> Map.<String, Object>of("accountId", stack.accountIds().get(i % stack.accountIds().size())))
+                .iterator();
+    }
+
+    @Override
+    public void after() {
+        stack.close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.financemanagement.perf;
+
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+
+/**
+ * Sessions arriving at a fixed rate ({@code perf.rate} per second, default 10) whether or not earlier ones have
+ * finished: measures latency under a given load, including queueing once the service falls behind
+ */
+public class OpenModelSimulation extends FinancePerfSimulation {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("perf.rate", "10"));
+
+    {
+        run(session.injectOpen(
+                rampUsersPerSec(1).to(RATE).during(RAMP),
+                constantUsersPerSec(RATE).during(DURATION)));
+    }
+}
@@ -0,0 +1,149 @@
+package com.financemanagement.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.gatling.javaapi.core.Assertion;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.global;
+
+/**
+ * Stored per-simulation baselines in {@code src/test/resources/perf/baseline/<simulation>.json}: p50, p95 and p99
+ * per request and overall, plus overall throughput.
+ * <p>
+ * A simulation fails when a percentile exceeds its baseline by more than {@code latencyTolerance}, when throughput
+ * falls below its baseline by more than {@code throughputTolerance}, or when more than 1% of requests fail. A
+ * simulation without a baseline fails to start, so a missing file can never pass unnoticed; only a run with
+ * {@code -Dperf.record-baseline=true} skips the comparison and checks the error rate alone. {@link #main} then records
+ * a baseline from the latest Gatling run of each simulation; it relies on Gatling's default percentiles (50, 75, 95,
+ * 99).
+ */
+@Slf4j
+public final class PerfBaseline {
+
+    static final String GLOBAL = "global";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double DEFAULT_LATENCY_TOLERANCE = 0.20;
+    private static final double DEFAULT_THROUGHPUT_TOLERANCE = 0.15;
+
+    record Metrics(double p50, double p95, double p99, double requestsPerSecond) {
+    }
+
+    record Baseline(double latencyTolerance, double throughputTolerance, Map<String, Metrics> requests) {
+    }
+
+    private PerfBaseline() {
+    }
+
+    static String simulationId(Class<?> simulation) {
+        return simulation.getSimpleName().toLowerCase(Locale.ROOT);
+    }
+
+    static List<Assertion> assertions(Class<?> simulation) {
+        List<Assertion> assertions = new ArrayList<>();
+        assertions.add(global().failedRequests().percent().lt(1.0));
+
+        if (Boolean.getBoolean("perf.record-baseline")) {
+            log.info("Recording run for {}; only the error rate is checked", simulationId(simulation));
+            return assertions;
+        }
+        Baseline baseline = load(simulationId(simulation));
+        if (baseline == null) {
+            throw new IllegalStateException("No baseline for " + simulationId(simulation) + " in "
+                    + "src/test/resources/perf/baseline. Run the simulations with -Dperf.record-baseline=true, then "
+                    + "record and commit it with mvn -Pperf test-compile exec:java@record-baseline");
+        }
+
+        double latencyLimit = 1 + baseline.latencyTolerance();
+        baseline.requests().forEach((name, metrics) -> {
+            var responseTime = GLOBAL.equals(name) ? global().responseTime() : details(name).responseTime();
+            assertions.add(responseTime.percentile(50.0).lte(limit(metrics.p50(), latencyLimit)));
+            assertions.add(responseTime.percentile(95.0).lte(limit(metrics.p95(), latencyLimit)));
+            assertions.add(responseTime.percentile(99.0).lte(limit(metrics.p99(), latencyLimit)));
+        });
+        Metrics overall = baseline.requests().get(GLOBAL);
+        if (overall != null) {
+            assertions.add(global().requestsPerSec()
+                    .gte(overall.requestsPerSecond() * (1 - baseline.throughputTolerance())));
+        }
+        return assertions;
+    }
+
+    private static int limit(double baselineMillis, double factor) {
+        // Sub-millisecond baselines would otherwise fail on any jitter
+        return (int) Math.ceil(Math.max(baselineMillis, 1) * factor);
+    }
+
+    private static Baseline load(String simulationId) {
+        try (InputStream in = PerfBaseline.class.getResourceAsStream("/perf/baseline/" + simulationId + ".json")) {
+            return in != null ? MAPPER.readValue(in, Baseline.class) : null;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable baseline for " + simulationId, e);
+        }
+    }
+
+    /**
+     * Record baselines from the latest run of each simulation
+     *
+     * @param args the Gatling results directory and the baseline directory
+     */
+    public static void main(String[] args) throws IOException {
+        Path resultsDirectory = Path.of(args[0]);
+        Path baselineDirectory = Path.of(args[1]);
+        Files.createDirectories(baselineDirectory);
+
+        Map<String, Path> latestRuns = new LinkedHashMap<>();
+        try (Stream<Path> runs = Files.list(resultsDirectory)) {
+            runs.filter(run -> Files.exists(run.resolve("js/stats.json")))
+                    .sorted(Comparator.comparing(Path::getFileName))
+                    .forEach(run -> {
+                        String name = run.getFileName().toString();
+                        latestRuns.put(name.substring(0, name.lastIndexOf('-')), run);
+                    });
+        }
+
+        for (Map.Entry<String, Path> run : latestRuns.entrySet()) {
+            Baseline baseline = fromStats(MAPPER.readTree(run.getValue().resolve("js/stats.json").toFile()));
+            Path file = baselineDirectory.resolve(run.getKey() + ".json");
+            MAPPER.writeValue(file.toFile(), baseline);
+            log.info("Recorded baseline {} from {}", file, run.getValue().getFileName());
+        }
+    }
+
+    private static Baseline fromStats(JsonNode root) {
+        Map<String, Metrics> requests = new LinkedHashMap<>();
+        requests.put(GLOBAL, metrics(root.path("stats")));
+        Iterator<JsonNode> contents = root.path("contents").elements();
+        while (contents.hasNext()) {
+            JsonNode request = contents.next();
+            if ("REQUEST".equals(request.path("type").asText())) {
+                requests.put(request.path("name").asText(), metrics(request.path("stats")));
+            }
+        }
+        return new Baseline(DEFAULT_LATENCY_TOLERANCE, DEFAULT_THROUGHPUT_TOLERANCE, requests);
+    }
+
+    private static Metrics metrics(JsonNode stats) {
+        return new Metrics(
+                stats.path("percentiles1").path("ok").asDouble(),
+                stats.path("percentiles3").path("ok").asDouble(),
+                stats.path("percentiles4").path("ok").asDouble(),
+                stats.path("meanNumberOfRequestsPerSecond").path("total").asDouble());
+    }
+}
@@ -0,0 +1,131 @@
+package com.financemanagement.perf;
+
+import com.financemanagement.PersonalFinanceManagementApplication;
+import com.financemanagement.config.JwtAuthenticationFilter;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The application booted in-process against an embedded PostgreSQL and an embedded Redis, both real servers on
+ * free local ports, and loaded by {@link SyntheticDataGenerator}. Volumes come from system properties:
+ * {@code perf.accounts} (default 20), {@code perf.transactions-per-account} (default 2000) and {@code perf.seed}.
+ */
+@Slf4j
+final class PerfStack implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final RedisServer redis;
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+    private final String token;
+    private final SyntheticDataGenerator generator;
+    private final List<String> accountIds;
+
+    private PerfStack(EmbeddedPostgres postgres, RedisServer redis, ConfigurableApplicationContext context,
+                      SyntheticDataGenerator generator) {
+        this.postgres = postgres;
+        this.redis = redis;
+        this.context = context;
+        this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.token = context.getBean(JwtAuthenticationFilter.class).generateToken(PerfUserConfig.USERNAME);
+        this.generator = generator;
+        this.accountIds = IntStream.range(0, generator.getOptions().getAccounts())
+                .mapToObj(generator::accountId)
+                .toList();
+    }
+
+    static PerfStack start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            int redisPort = freePort();
+            RedisServer redis = new RedisServer(redisPort);
+            redis.start();
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                    PersonalFinanceManagementApplication.class, PerfUserConfig.class)
+                    .properties(properties(postgres.getJdbcUrl("postgres", "postgres"), postgres.getPort(), redisPort))
+                    .run();
+
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.Options.builder()
+                    .accounts(Integer.getInteger("perf.accounts", 20))
+                    .transactionsPerAccount(Integer.getInteger("perf.transactions-per-account", 2000))
+                    .seed(Long.getLong("perf.seed", 42L))
+                    .build());
+            generator.copyInto(context.getBean(DataSource.class));
+            return new PerfStack(postgres, redis, context, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the performance stack", e);
+        }
+    }
+
+    private static Map<String, Object> properties(String jdbcUrl, int postgresPort, int redisPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("spring.r2dbc.url", "r2dbc:postgresql://localhost:" + postgresPort + "/postgres");
+        properties.put("spring.r2dbc.username", "postgres");
+        properties.put("spring.r2dbc.password", "postgres");
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("spring.redis.port", redisPort);
+        properties.put("axon.axonserver.enabled", false);
+        properties.put("security.encryption.rotation.resume-on-startup", false);
+        // One principal drives all the load, so its rate limit must not be what the run measures
+        properties.put("security.rate-limit.principal-requests-per-minute", Integer.MAX_VALUE / 2);
+        properties.put("security.rate-limit.principal-burst-capacity", Integer.MAX_VALUE / 2);
+        properties.put("audit.file", "target/perf/audit/audit.jsonl");
+        properties.put("audit.store.directory", "target/perf/audit/segments");
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    String token() {
+        return token;
+    }
+
+    List<String> accountIds() {
+        return accountIds;
+    }
+
+    LocalDate lastDate() {
+        return generator.getOptions().getLastDate();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        try {
+            redis.stop();
+            postgres.close();
+        } catch (IOException e) {
+            log.warn("Could not stop the performance stack cleanly: {}", e.getMessage());
+        }
+    }
+}
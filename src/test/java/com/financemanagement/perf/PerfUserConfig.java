@@ -0,0 +1,25 @@
+package com.financemanagement.perf;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * The user the simulations authenticate as; JWTs for it are minted by {@link PerfStack}
+ */
+@TestConfiguration
+public class PerfUserConfig {
+
+    static final String USERNAME = "perf-user";
+
+    @Bean
+    public UserDetailsService perfUserDetailsService(PasswordEncoder passwordEncoder) {
+        return new InMemoryUserDetailsManager(User.withUsername(USERNAME)
+                .password(passwordEncoder.encode("perf-password"))
+                .roles("USER")
+                .build());
+    }
+}
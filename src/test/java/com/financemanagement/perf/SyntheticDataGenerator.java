@@ -0,0 +1,783 @@
+package com.financemanagement.perf;
+
+import com.financemanagement.domain.AccountType;
+import com.financemanagement.domain.Currency;
+import com.financemanagement.domain.RecurrenceType;
+import com.financemanagement.domain.TransactionCategory;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.ds.PGSimpleDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates large synthetic datasets: accounts across {@link AccountType} and {@link Currency}, recurring
+ * transaction templates, and transactions made of the templates' occurrences plus discretionary spending with a
+ * realistic category mix, December and summer peaks and busier weekends.
+ * <p>
+ * Output is CSV files or a direct {@code COPY} into PostgreSQL. Accounts are generated in fixed-size shards on a
+ * thread pool. Every account draws from its own random stream, derived from the seed and the account's index, so
+ * the output is the same for a given seed and thread count does not matter. Rows are encoded straight into byte
+ * buffers, without per-row strings or {@code BigDecimal}s, so generation keeps up with the disk or the database.
+ * <pre>
+ * mvn -Pperf test-compile exec:java@generate-data -Dexec.args="--accounts=1000000 --transactions-per-account=100
+ *     --csv=target/datagen"
+ * mvn -Pperf test-compile exec:java@generate-data -Dexec.args="--accounts=1000000 --transactions-per-account=100
+ *     --jdbc-url=jdbc:postgresql://localhost:5432/personal_finance --user=postgres --password=postgres"
+ * </pre>
+ */
+@Slf4j
+public final class SyntheticDataGenerator {
+
+    static final int ACCOUNTS_PER_SHARD = 2_000;
+
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+    private static final byte[] NULL = new byte[0];
+
+    @Value
+    @Builder
+    public static class Options {
+        @Builder.Default
+        int accounts = 1_000;
+        @Builder.Default
+        int transactionsPerAccount = 1_000;
+        @Builder.Default
+        int templatesPerAccount = 4;
+        @Builder.Default
+        long seed = 42L;
+        @Builder.Default
+        int threads = Runtime.getRuntime().availableProcessors();
+        @Builder.Default
+        LocalDate firstDate = LocalDate.of(2022, 7, 1);
+        @Builder.Default
+        LocalDate lastDate = LocalDate.of(2024, 6, 30);
+    }
+
+    public record Summary(long accounts, long templates, long transactions, Duration elapsed) {
+
+        public double rowsPerSecond() {
+            return (accounts + templates + transactions) / Math.max(elapsed.toMillis() / 1000.0, 0.001);
+        }
+    }
+
+    enum Table {
+        ACCOUNTS("accounts", "id,name,type,current_balance,currency,institution,status"),
+        RECURRING_TRANSACTIONS("recurring_transactions",
+                "id,description,amount,type,category,account_id,recurrence_type,start_date,end_date,day_of_month,"
+                        + "day_of_week,\"interval\",status"),
+        TRANSACTIONS("transactions",
+                "id,description,amount,type,category,account_id,transaction_date,scheduled_date,status,notes");
+
+        private final String tableName;
+        private final String columns;
+
+        Table(String tableName, String columns) {
+            this.tableName = tableName;
+            this.columns = columns;
+        }
+    }
+
+    private final Options options;
+    private final int days;
+    private final byte[][] dates;
+    private final int[] seasonalWeights;
+
+    public SyntheticDataGenerator(Options options) {
+        if (options.getLastDate().isBefore(options.getFirstDate())) {
+            throw new IllegalArgumentException("lastDate is before firstDate");
+        }
+        this.options = options;
+        this.days = (int) (options.getLastDate().toEpochDay() - options.getFirstDate().toEpochDay()) + 1;
+        this.dates = new byte[days][];
+        this.seasonalWeights = new int[days];
+        int cumulative = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDate date = options.getFirstDate().plusDays(day);
+            dates[day] = ascii(date.toString());
+            cumulative += seasonality(date);
+            seasonalWeights[day] = cumulative;
+        }
+    }
+
+    public Options getOptions() {
+        return options;
+    }
+
+    /**
+     * Id of the account with the given index, the same in every run with the same seed
+     */
+    public String accountId(int index) {
+        long accountSeed = mix(options.getSeed(), index);
+        return new UUID(uuidHigh(mix(accountSeed, 1)), uuidLow(mix(accountSeed, 2))).toString();
+    }
+
+    /**
+     * Write one CSV file per table and shard into the directory, each with a header line
+     */
+    public Summary writeCsv(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return generate((table, shard) -> {
+            OutputStream out = Files.newOutputStream(
+                    directory.resolve(String.format("%s-%05d.csv", table.tableName, shard)));
+            out.write(ascii(table.columns.replace("\"", "") + "\n"));
+            return new RowSink() {
+                @Override
+                public void write(byte[] buffer, int length) throws IOException {
+                    out.write(buffer, 0, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    out.close();
+                }
+            };
+        });
+    }
+
+    /**
+     * Load the rows with {@code COPY ... FROM STDIN}, one connection per shard. Accounts are loaded before
+     * templates and transactions so their foreign keys hold.
+     */
+    public Summary copyInto(DataSource dataSource) throws IOException {
+        Summary summary = generate((table, shard) -> {
+            try {
+                Connection connection = dataSource.getConnection();
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn("COPY " + table.tableName + " (" + table.columns + ") FROM STDIN (FORMAT csv)");
+                return new RowSink() {
+                    @Override
+                    public void write(byte[] buffer, int length) throws IOException {
+                        try {
+                            copyIn.writeToCopy(buffer, 0, length);
+                        } catch (SQLException e) {
+                            throw new IOException(e);
+                        }
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        try (connection) {
+                            copyIn.endCopy();
+                            if (!connection.getAutoCommit()) {
+                                connection.commit();
+                            }
+                        } catch (SQLException e) {
+                            throw new IOException(e);
+                        }
+                    }
+                };
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        });
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (Table table : Table.values()) {
+                statement.execute("ANALYZE " + table.tableName);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return summary;
+    }
+
+    private Summary generate(SinkFactory sinks) throws IOException {
+        long start = System.nanoTime();
+        AtomicLong templates = new AtomicLong();
+        AtomicLong transactions = new AtomicLong();
+        int shards = (options.getAccounts() + ACCOUNTS_PER_SHARD - 1) / ACCOUNTS_PER_SHARD;
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, options.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "FinanceDataGenerator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // Table by table, so that with COPY every account exists before rows referencing it are loaded
+            for (Table table : Table.values()) {
+                List<Future<?>> futures = new ArrayList<>(shards);
+                for (int shard = 0; shard < shards; shard++) {
+                    int from = shard * ACCOUNTS_PER_SHARD;
+                    int to = Math.min(options.getAccounts(), from + ACCOUNTS_PER_SHARD);
+                    int shardIndex = shard;
+                    futures.add(pool.submit(() -> {
+                        try (RowSink sink = sinks.open(table, shardIndex)) {
+                            RowBuffer rows = new RowBuffer(sink);
+                            for (int account = from; account < to; account++) {
+                                switch (table) {
+                                    case ACCOUNTS -> writeAccount(rows, account);
+                                    case RECURRING_TRANSACTIONS -> templates.addAndGet(writeTemplates(rows, account));
+                                    case TRANSACTIONS -> transactions.addAndGet(writeTransactions(rows, account));
+                                }
+                                rows.flushIfFull();
+                            }
+                            rows.flush();
+                        }
+                        return null;
+                    }));
+                }
+                await(futures);
+                log.info("Generated {} for {} accounts", table.tableName, options.getAccounts());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Summary summary = new Summary(options.getAccounts(), templates.get(), transactions.get(),
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("Generated {} accounts, {} templates and {} transactions in {} ({} rows/s)", summary.accounts(),
+                summary.templates(), summary.transactions(), summary.elapsed(), (long) summary.rowsPerSecond());
+        return summary;
+    }
+
+    private static void await(List<Future<?>> futures) throws IOException {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating data", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    // Accounts
+
+    private static final AccountType[] ACCOUNT_TYPES = AccountType.values();
+    private static final int[] ACCOUNT_TYPE_WEIGHTS = cumulative(AccountType.class, Map.of(
+            AccountType.MAIN, 30, AccountType.CREDIT_CARD, 25, AccountType.SAVINGS, 20,
+            AccountType.SPECIAL_CHECK, 10, AccountType.INVESTMENT, 10, AccountType.LOAN, 5));
+    private static final byte[][] ACCOUNT_NAMES = Arrays.stream(ACCOUNT_TYPES)
+            .map(type -> ascii(type.getDisplayName()))
+            .toArray(byte[][]::new);
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int[] CURRENCY_WEIGHTS = cumulative(Currency.class, Map.of(
+            Currency.CAD, 80, Currency.USD, 15, Currency.EUR, 3, Currency.GBP, 2));
+    private static final byte[][] INSTITUTIONS = asciiAll(
+            "Royal Bank of Canada", "TD Canada Trust", "Scotiabank", "BMO", "CIBC", "Desjardins", "Tangerine");
+
+    private record AccountProfile(long highId, long lowId, AccountType type, double spendingScale) {
+    }
+
+    private AccountProfile profile(int index) {
+        long accountSeed = mix(options.getSeed(), index);
+        SplittableRandom random = new SplittableRandom(mix(accountSeed, 3));
+        AccountType type = ACCOUNT_TYPES[pick(ACCOUNT_TYPE_WEIGHTS, random)];
+        return new AccountProfile(uuidHigh(mix(accountSeed, 1)), uuidLow(mix(accountSeed, 2)), type,
+                0.6 + random.nextDouble() * 1.2);
+    }
+
+    private void writeAccount(RowBuffer rows, int index) {
+        AccountProfile profile = profile(index);
+        SplittableRandom random = new SplittableRandom(mix(mix(options.getSeed(), index), 4));
+        long balance = switch (profile.type()) {
+            case CREDIT_CARD, LOAN -> -random.nextLong(2_500_000);
+            case SAVINGS, INVESTMENT -> random.nextLong(10_000_000);
+            default -> random.nextLong(1_000_000) - 100_000;
+        };
+
+        rows.uuid(profile.highId(), profile.lowId()).comma()
+                .ascii('"').ascii(ACCOUNT_NAMES[profile.type().ordinal()]).ascii(' ').number(index).ascii('"').comma()
+                .ascii(profile.type().name()).comma()
+                .cents(balance).comma()
+                .ascii(CURRENCIES[pick(CURRENCY_WEIGHTS, random)].name()).comma()
+                .quoted(INSTITUTIONS[random.nextInt(INSTITUTIONS.length)]).comma()
+                .ascii("ACTIVE").newline();
+    }
+
+    // Recurring templates
+
+    private record TemplateSpec(TransactionCategory category, boolean income, RecurrenceType recurrence,
+                                long minCents, long maxCents, boolean variable, byte[] description) {
+    }
+
+    private static final TemplateSpec SALARY = new TemplateSpec(TransactionCategory.SALARY, true,
+            RecurrenceType.BI_WEEKLY, 150_000, 450_000, false, ascii("Payroll deposit"));
+    private static final TemplateSpec[] EXPENSE_TEMPLATES = {
+            new TemplateSpec(TransactionCategory.MORTGAGE, false, RecurrenceType.MONTHLY, 120_000, 350_000, false,
+                    ascii("Mortgage payment")),
+            new TemplateSpec(TransactionCategory.UTILITIES, false, RecurrenceType.MONTHLY, 8_000, 30_000, true,
+                    ascii("Hydro bill")),
+            new TemplateSpec(TransactionCategory.CELLULAR_INTERNET, false, RecurrenceType.MONTHLY, 9_000, 20_000,
+                    false, ascii("Phone and internet")),
+            new TemplateSpec(TransactionCategory.AMAZON_NETFLIX, false, RecurrenceType.MONTHLY, 1_500, 4_000, false,
+                    ascii("Streaming subscriptions")),
+            new TemplateSpec(TransactionCategory.GYM, false, RecurrenceType.MONTHLY, 3_000, 9_000, false,
+                    ascii("Gym membership")),
+            new TemplateSpec(TransactionCategory.CHILD_CARE, false, RecurrenceType.MONTHLY, 20_000, 120_000, false,
+                    ascii("Daycare")),
+            new TemplateSpec(TransactionCategory.CAR_PAYMENT, false, RecurrenceType.MONTHLY, 30_000, 90_000, false,
+                    ascii("Car loan payment")),
+            new TemplateSpec(TransactionCategory.HOME_INSURANCE, false, RecurrenceType.YEARLY, 80_000, 250_000, false,
+                    ascii("Home insurance renewal")),
+            new TemplateSpec(TransactionCategory.TIPP, false, RecurrenceType.MONTHLY, 10_000, 50_000, false,
+                    ascii("TIPP installment")),
+            new TemplateSpec(TransactionCategory.GASOLINE, false, RecurrenceType.WEEKLY, 4_000, 9_000, true,
+                    ascii("Fuel fill-up"))};
+
+    private record Template(long highId, long lowId, TemplateSpec spec, long cents, LocalDate startDate,
+                            LocalDate endDate, boolean active) {
+    }
+
+    private List<Template> templates(int index, AccountProfile profile) {
+        SplittableRandom random = new SplittableRandom(mix(mix(options.getSeed(), index), 5));
+        int count = Math.min(options.getTemplatesPerAccount(), EXPENSE_TEMPLATES.length + 1);
+        List<TemplateSpec> specs = new ArrayList<>(count);
+        if (profile.type() == AccountType.MAIN && count > 0) {
+            specs.add(SALARY);
+        }
+        int[] order = shuffledIndexes(EXPENSE_TEMPLATES.length, random);
+        for (int i = 0; specs.size() < count; i++) {
+            specs.add(EXPENSE_TEMPLATES[order[i]]);
+        }
+
+        List<Template> templates = new ArrayList<>(specs.size());
+        for (TemplateSpec spec : specs) {
+            long cents = spec.minCents() + random.nextLong(spec.maxCents() - spec.minCents() + 1);
+            LocalDate start = options.getFirstDate().minusDays(random.nextInt(365));
+            boolean ended = random.nextInt(20) == 0;
+            LocalDate end = ended ? options.getFirstDate().plusDays(random.nextInt(days)) : null;
+            templates.add(new Template(uuidHigh(random.nextLong()), uuidLow(random.nextLong()), spec,
+                    spec.income() ? cents : -cents, start, end, random.nextInt(25) != 0));
+        }
+        return templates;
+    }
+
+    private int writeTemplates(RowBuffer rows, int index) {
+        AccountProfile profile = profile(index);
+        List<Template> templates = templates(index, profile);
+        for (Template template : templates) {
+            TemplateSpec spec = template.spec();
+            rows.uuid(template.highId(), template.lowId()).comma()
+                    .quoted(spec.description()).comma()
+                    .cents(template.cents()).comma()
+                    .ascii(spec.income() ? "INCOME" : "EXPENSE").comma()
+                    .ascii(spec.category().name()).comma()
+                    .uuid(profile.highId(), profile.lowId()).comma()
+                    .ascii(spec.recurrence().name()).comma()
+                    .ascii(ascii(template.startDate().toString())).comma()
+                    .ascii(template.endDate() != null ? ascii(template.endDate().toString()) : NULL).comma();
+            if (spec.recurrence() == RecurrenceType.MONTHLY) {
+                rows.number(template.startDate().getDayOfMonth());
+            }
+            rows.comma();
+            if (spec.recurrence() == RecurrenceType.WEEKLY || spec.recurrence() == RecurrenceType.BI_WEEKLY) {
+                rows.number(template.startDate().getDayOfWeek().getValue());
+            }
+            rows.comma().number(1).comma()
+                    .ascii(template.active() ? "ACTIVE" : "INACTIVE").newline();
+        }
+        return templates.size();
+    }
+
+    // Transactions
+
+    private record Discretionary(TransactionCategory category, boolean income, int weight, long minCents,
+                                 long maxCents, byte[][] descriptions) {
+    }
+
+    private static final Discretionary[] DISCRETIONARY = {
+            new Discretionary(TransactionCategory.GROCERIES, false, 26, 1_500, 30_000,
+                    asciiAll("Feira - weekly shop", "Supermarket", "Farmers market", "Bakery")),
+            new Discretionary(TransactionCategory.COSTCO, false, 8, 5_000, 60_000, asciiAll("Costco run")),
+            new Discretionary(TransactionCategory.ENTERTAINMENT, false, 12, 1_000, 25_000,
+                    asciiAll("Restaurant", "Cinema", "Concert tickets", "Coffee shop")),
+            new Discretionary(TransactionCategory.HOME_DEPOT, false, 4, 2_000, 80_000,
+                    asciiAll("Home Depot - paint", "Home Depot - tools", "Garden supplies")),
+            new Discretionary(TransactionCategory.CANADIAN_TIRE, false, 4, 1_500, 40_000,
+                    asciiAll("Canadian Tire", "Car maintenance")),
+            new Discretionary(TransactionCategory.VISA, false, 10, 1_000, 50_000,
+                    asciiAll("Online purchase", "Pharmacy", "Clothing store")),
+            new Discretionary(TransactionCategory.VISA_AEROPLAN, false, 3, 20_000, 200_000,
+                    asciiAll("Flight booking", "Hotel stay")),
+            new Discretionary(TransactionCategory.FURNITURE, false, 1, 20_000, 300_000,
+                    asciiAll("Furniture store")),
+            new Discretionary(TransactionCategory.NAIARA, false, 3, 1_000, 20_000, asciiAll("Naiara card purchase")),
+            new Discretionary(TransactionCategory.GASOLINE, false, 8, 3_000, 9_000, asciiAll("Gas station")),
+            new Discretionary(TransactionCategory.OTHER, false, 6, 500, 20_000,
+                    asciiAll("Miscellaneous", "Gift", "Parking")),
+            new Discretionary(TransactionCategory.OTHER_INCOME, true, 2, 2_000, 100_000,
+                    asciiAll("Refund", "E-transfer received")),
+            new Discretionary(TransactionCategory.CHILD_BENEFIT, true, 1, 30_000, 80_000,
+                    asciiAll("Canada Child Benefit"))};
+    private static final int[] DISCRETIONARY_WEIGHTS;
+
+    static {
+        DISCRETIONARY_WEIGHTS = new int[DISCRETIONARY.length];
+        int cumulative = 0;
+        for (int i = 0; i < DISCRETIONARY.length; i++) {
+            cumulative += DISCRETIONARY[i].weight();
+            DISCRETIONARY_WEIGHTS[i] = cumulative;
+        }
+    }
+
+    private long writeTransactions(RowBuffer rows, int index) {
+        AccountProfile profile = profile(index);
+        SplittableRandom random = new SplittableRandom(mix(mix(options.getSeed(), index), 6));
+        int budget = options.getTransactionsPerAccount();
+        int written = 0;
+
+        for (Template template : templates(index, profile)) {
+            if (!template.active()) {
+                continue;
+            }
+            TemplateSpec spec = template.spec();
+            LocalDate last = template.endDate() != null && template.endDate().isBefore(options.getLastDate())
+                    ? template.endDate()
+                    : options.getLastDate();
+            LocalDate date = template.startDate();
+            int occurrence = 0;
+            while (!date.isAfter(last) && written < budget) {
+                if (!date.isBefore(options.getFirstDate())) {
+                    long cents = template.cents();
+                    if (spec.variable()) {
+                        cents = cents * (80 + random.nextInt(41)) / 100;
+                    }
+                    writeTransaction(rows, random, profile, spec.description(), cents, spec.income(),
+                            spec.category(), dayIndex(date));
+                    written++;
+                }
+                occurrence++;
+                date = next(template.startDate(), spec.recurrence(), occurrence);
+            }
+        }
+
+        while (written < budget) {
+            Discretionary kind = DISCRETIONARY[pick(DISCRETIONARY_WEIGHTS, random)];
+            double skew = random.nextDouble();
+            long cents = kind.minCents() + (long) ((kind.maxCents() - kind.minCents()) * skew * skew);
+            if (!kind.income()) {
+                cents = -Math.max(1, (long) (cents * profile.spendingScale()));
+            }
+            writeTransaction(rows, random, profile, kind.descriptions()[random.nextInt(kind.descriptions().length)],
+                    cents, kind.income(), kind.category(), seasonalDay(random));
+            written++;
+        }
+        return written;
+    }
+
+    private void writeTransaction(RowBuffer rows, SplittableRandom random, AccountProfile profile, byte[] description,
+                                  long cents, boolean income, TransactionCategory category, int day) {
+        String status = day >= days - 3 ? "PENDING" : random.nextInt(200) == 0 ? "CANCELLED" : "COMPLETED";
+        rows.uuid(uuidHigh(random.nextLong()), uuidLow(random.nextLong())).comma()
+                .quoted(description).comma()
+                .cents(cents).comma()
+                .ascii(income ? "INCOME" : "EXPENSE").comma()
+                .ascii(category.name()).comma()
+                .uuid(profile.highId(), profile.lowId()).comma()
+                .ascii(dates[day]).comma()
+                .ascii(dates[day]).comma()
+                .ascii(status).comma();
+        if (random.nextInt(10) == 0) {
+            rows.ascii("Receipt #").number(random.nextInt(100_000));
+        }
+        rows.newline();
+    }
+
+    private int dayIndex(LocalDate date) {
+        return (int) (date.toEpochDay() - options.getFirstDate().toEpochDay());
+    }
+
+    private int seasonalDay(SplittableRandom random) {
+        int target = random.nextInt(seasonalWeights[days - 1]);
+        int day = Arrays.binarySearch(seasonalWeights, target + 1);
+        return day >= 0 ? day : -day - 1;
+    }
+
+    private static LocalDate next(LocalDate start, RecurrenceType recurrence, int occurrence) {
+        // Computed from the start date so month-end schedules do not drift
+        return switch (recurrence) {
+            case DAILY -> start.plusDays(occurrence);
+            case WEEKLY -> start.plusWeeks(occurrence);
+            case BI_WEEKLY -> start.plusWeeks(2L * occurrence);
+            case MONTHLY -> start.plusMonths(occurrence);
+            case YEARLY -> start.plusYears(occurrence);
+        };
+    }
+
+    /**
+     * Relative spending on a day, in hundredths: December and summer peaks, a January lull, busier weekends
+     */
+    private static int seasonality(LocalDate date) {
+        int month = switch (date.getMonth()) {
+            case DECEMBER -> 145;
+            case NOVEMBER -> 115;
+            case JULY, AUGUST -> 115;
+            case JANUARY, FEBRUARY -> 85;
+            default -> 100;
+        };
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        int weekday = dayOfWeek == DayOfWeek.SATURDAY ? 140 : dayOfWeek == DayOfWeek.SUNDAY ? 115 : 90;
+        if (date.getMonth() == Month.DECEMBER && date.getDayOfMonth() > 26) {
+            month = 90;
+        }
+        return month * weekday / 100;
+    }
+
+    // Helpers
+
+    private interface RowSink extends Closeable {
+        void write(byte[] buffer, int length) throws IOException;
+    }
+
+    private interface SinkFactory {
+        RowSink open(Table table, int shard) throws IOException;
+    }
+
+    /**
+     * CSV row encoder writing ASCII straight into a reusable buffer
+     */
+    private static final class RowBuffer {
+
+        private static final byte[] HEX = SyntheticDataGenerator.ascii("0123456789abcdef");
+
+        private final RowSink sink;
+        private byte[] buffer = new byte[FLUSH_THRESHOLD + 4096];
+        private int length;
+
+        private RowBuffer(RowSink sink) {
+            this.sink = sink;
+        }
+
+        private void ensure(int bytes) {
+            if (length + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes));
+            }
+        }
+
+        RowBuffer ascii(byte[] value) {
+            ensure(value.length);
+            System.arraycopy(value, 0, buffer, length, value.length);
+            length += value.length;
+            return this;
+        }
+
+        RowBuffer ascii(String value) {
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer[length++] = (byte) value.charAt(i);
+            }
+            return this;
+        }
+
+        RowBuffer ascii(char value) {
+            ensure(1);
+            buffer[length++] = (byte) value;
+            return this;
+        }
+
+        RowBuffer quoted(byte[] value) {
+            // Descriptions are generated without quotes, so quoting never needs escaping
+            return ascii('"').ascii(value).ascii('"');
+        }
+
+        RowBuffer comma() {
+            return ascii(',');
+        }
+
+        RowBuffer newline() {
+            return ascii('\n');
+        }
+
+        RowBuffer number(long value) {
+            ensure(20);
+            if (value < 0) {
+                buffer[length++] = '-';
+                value = -value;
+            }
+            int start = length;
+            do {
+                buffer[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                byte swap = buffer[i];
+                buffer[i] = buffer[j];
+                buffer[j] = swap;
+            }
+            return this;
+        }
+
+        RowBuffer cents(long cents) {
+            if (cents < 0) {
+                ascii('-');
+                cents = -cents;
+            }
+            number(cents / 100).ascii('.');
+            long fraction = cents % 100;
+            return ascii((char) ('0' + fraction / 10)).ascii((char) ('0' + fraction % 10));
+        }
+
+        RowBuffer uuid(long high, long low) {
+            ensure(36);
+            hex(high >>> 32, 8);
+            buffer[length++] = '-';
+            hex(high >>> 16, 4);
+            buffer[length++] = '-';
+            hex(high, 4);
+            buffer[length++] = '-';
+            hex(low >>> 48, 4);
+            buffer[length++] = '-';
+            hex(low, 12);
+            return this;
+        }
+
+        private void hex(long value, int digits) {
+            for (int i = digits - 1; i >= 0; i--) {
+                buffer[length + i] = HEX[(int) (value & 0xF)];
+                value >>>= 4;
+            }
+            length += digits;
+        }
+
+        void flushIfFull() throws IOException {
+            if (length >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            if (length > 0) {
+                sink.write(buffer, length);
+                length = 0;
+            }
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer over a seed and a stream index
+     */
+    static long mix(long seed, long stream) {
+        long z = seed + (stream + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long uuidHigh(long bits) {
+        return (bits & ~0xF000L) | 0x4000L;
+    }
+
+    private static long uuidLow(long bits) {
+        return (bits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
+    private static int pick(int[] cumulativeWeights, SplittableRandom random) {
+        int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, target + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static <E extends Enum<E>> int[] cumulative(Class<E> type, Map<E, Integer> weights) {
+        E[] constants = type.getEnumConstants();
+        int[] cumulative = new int[constants.length];
+        int total = 0;
+        for (int i = 0; i < constants.length; i++) {
+            total += weights.getOrDefault(constants[i], 0);
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    private static int[] shuffledIndexes(int size, SplittableRandom random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] asciiAll(String... values) {
+        byte[][] bytes = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = ascii(values[i]);
+        }
+        return bytes;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            arguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Options.OptionsBuilder builder = Options.builder();
+        if (arguments.containsKey("accounts")) {
+            builder.accounts(Integer.parseInt(arguments.get("accounts")));
+        }
+        if (arguments.containsKey("transactions-per-account")) {
+            builder.transactionsPerAccount(Integer.parseInt(arguments.get("transactions-per-account")));
+        }
+        if (arguments.containsKey("templates-per-account")) {
+            builder.templatesPerAccount(Integer.parseInt(arguments.get("templates-per-account")));
+        }
+        if (arguments.containsKey("seed")) {
+            builder.seed(Long.parseLong(arguments.get("seed")));
+        }
+        if (arguments.containsKey("threads")) {
+            builder.threads(Integer.parseInt(arguments.get("threads")));
+        }
+        if (arguments.containsKey("first-date")) {
+            builder.firstDate(LocalDate.parse(arguments.get("first-date")));
+        }
+        if (arguments.containsKey("last-date")) {
+            builder.lastDate(LocalDate.parse(arguments.get("last-date")));
+        }
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(builder.build());
+
+        if (arguments.containsKey("jdbc-url")) {
+            PGSimpleDataSource dataSource = new PGSimpleDataSource();
+            dataSource.setURL(arguments.get("jdbc-url"));
+            dataSource.setUser(arguments.getOrDefault("user", "postgres"));
+            dataSource.setPassword(arguments.getOrDefault("password", "postgres"));
+            generator.copyInto(dataSource);
+        } else {
+            generator.writeCsv(Path.of(arguments.getOrDefault("csv", "target/datagen")));
+        }
+    }
+}
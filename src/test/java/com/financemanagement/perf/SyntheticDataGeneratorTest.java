@@ -0,0 +1,93 @@
+package com.financemanagement.perf;
+
+import com.financemanagement.domain.TransactionCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDataGeneratorTest {
+
+    private static SyntheticDataGenerator.Options.OptionsBuilder options() {
+        return SyntheticDataGenerator.Options.builder()
+                .accounts(SyntheticDataGenerator.ACCOUNTS_PER_SHARD + 50)
+                .transactionsPerAccount(40)
+                .templatesPerAccount(3)
+                .seed(7);
+    }
+
+    @Test
+    void outputDoesNotDependOnThreadCount(@TempDir Path directory) throws IOException {
+        // Given
+        Path singleThreaded = directory.resolve("one");
+        Path multiThreaded = directory.resolve("four");
+
+        // When
+        new SyntheticDataGenerator(options().threads(1).build()).writeCsv(singleThreaded);
+        new SyntheticDataGenerator(options().threads(4).build()).writeCsv(multiThreaded);
+
+        // Then
+        List<Path> files = list(singleThreaded);
+        assertEquals(6, files.size());
+        assertEquals(files.stream().map(Path::getFileName).toList(),
+                list(multiThreaded).stream().map(Path::getFileName).toList());
+        for (Path file : files) {
+            assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(multiThreaded.resolve(file.getFileName())));
+        }
+    }
+
+    @Test
+    void generatesTheRequestedVolumesWithValidValues(@TempDir Path directory) throws IOException {
+        // Given
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options().accounts(100).build());
+
+        // When
+        SyntheticDataGenerator.Summary summary = generator.writeCsv(directory);
+
+        // Then
+        assertEquals(100, summary.accounts());
+        assertEquals(4_000, summary.transactions());
+        List<String> transactions = Files.readAllLines(directory.resolve("transactions-00000.csv"));
+        assertEquals(4_001, transactions.size());
+        LocalDate first = generator.getOptions().getFirstDate();
+        LocalDate last = generator.getOptions().getLastDate();
+        for (String row : transactions.subList(1, transactions.size())) {
+            String[] columns = row.split(",", -1);
+            assertEquals(10, columns.length, row);
+            UUID.fromString(columns[0]);
+            TransactionCategory.valueOf(columns[4]);
+            LocalDate date = LocalDate.parse(columns[6]);
+            assertFalse(date.isBefore(first) || date.isAfter(last), row);
+            assertEquals(columns[3].equals("INCOME"), !columns[2].startsWith("-"), row);
+        }
+    }
+
+    @Test
+    void accountIdsMatchTheGeneratedAccounts(@TempDir Path directory) throws IOException {
+        // Given
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options().accounts(10).build());
+
+        // When
+        generator.writeCsv(directory);
+
+        // Then
+        List<String> accounts = Files.readAllLines(directory.resolve("accounts-00000.csv"));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(accounts.get(i + 1).startsWith(generator.accountId(i) + ","));
+        }
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.financemanagement.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on an embedded PostgreSQL and checks what the change-tracking triggers write when
+ * accounts and transactions change
+ */
+class ChangeTrackingTriggersTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    private UUID accountId;
+
+    @BeforeAll
+    static void migrate() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    }
+
+    @AfterAll
+    static void stop() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        accountId = jdbcTemplate.queryForObject(
+                "INSERT INTO accounts (name, type, current_balance, currency, status) " +
+                        "VALUES ('Trigger Test', 'MAIN', 100.00, 'CAD', 'ACTIVE') RETURNING id", UUID.class);
+    }
+
+    @Test
+    void testTransactionInsertCountsTheChangeWithoutTouchingTheAccount() {
+        // Given
+        Long version = accountVersion();
+
+        // When
+        insertTransaction();
+        insertTransaction();
+
+        // Then
+        assertEquals(version, accountVersion());
+        assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT change_count FROM account_change_counters WHERE account_id = ?", Long.class, accountId));
+    }
+
+    @Test
+    void testTransactionUpdateAndDeleteAreCounted() {
+        // Given
+        UUID transactionId = insertTransaction();
+
+        // When
+        jdbcTemplate.update("UPDATE transactions SET description = 'Renamed' WHERE id = ?", transactionId);
+        jdbcTemplate.update("DELETE FROM transactions WHERE id = ?", transactionId);
+
+        // Then
+        assertEquals(3L, jdbcTemplate.queryForObject(
+                "SELECT change_count FROM account_change_counters WHERE account_id = ?", Long.class, accountId));
+    }
+
+    @Test
+    void testDeletingAnAccountCascadesThroughTheCounter() {
+        // Given
+        insertTransaction();
+
+        // When
+        jdbcTemplate.update("DELETE FROM accounts WHERE id = ?", accountId);
+
+        // Then
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_change_counters WHERE account_id = ?", Integer.class, accountId));
+    }
+
+    @Test
+    void testTransactionInsertLogsNoAccountChange() {
+        // When
+        insertTransaction();
+
+        // Then: the only account entry is the insert of the account itself
+        assertEquals(1, syncChanges("TRANSACTION"));
+        assertEquals(1, syncChanges("ACCOUNT"));
+    }
+
+    @Test
+    void testOnlyVisibleAccountUpdatesAreLogged() {
+        // When: re-encryption rewrites the ciphertext but not the number behind it
+        jdbcTemplate.update("UPDATE accounts SET account_number = 'rewritten' WHERE id = ?", accountId);
+        jdbcTemplate.update("UPDATE accounts SET current_balance = 75.00 WHERE id = ?", accountId);
+
+        // Then: the insert and the balance change
+        assertEquals(2, syncChanges("ACCOUNT"));
+    }
+
+    private int syncChanges(String entityType) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sync_changes WHERE account_id = ? AND entity_type = ?", Integer.class,
+                accountId, entityType);
+    }
+
+    private Long accountVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM accounts WHERE id = ?", Long.class, accountId);
+    }
+
+    private UUID insertTransaction() {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO transactions (description, amount, type, category, account_id, transaction_date) " +
+                        "VALUES ('Groceries', 25.00, 'EXPENSE', 'GROCERIES', ?, CURRENT_DATE) RETURNING id",
+                UUID.class, accountId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.financemanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncryptionServiceTest {
+
+    private static final String KEY = "legacy-encryption-key-0123456789abcdef";
+
+    /**
+     * Written by the encryptor of the pre-GCM EncryptionService under {@link #KEY}: Base64 of IV | AES-CBC ciphertext
+     */
+    private static final String LEGACY_NOTES = "EBceJSwzOkFIT1ZdZGtyebfThd+3r0XOxXHTerQelCk=";
+    private static final String LEGACY_ACCOUNT_NUMBER = "EBceJSwzOkFIT1ZdZGtyeTGo+FyZKLhXFn+iOhWWGsA=";
+
+    @Test
+    void testLegacyCiphertextsDecryptWhenLegacyReadIsEnabled() {
+        // Given
+        EncryptionService encryptionService = encryptionService(true);
+
+        // When / Then
+        assertEquals("card pin 1234", encryptionService.decrypt(LEGACY_NOTES));
+        assertEquals("123456789012", encryptionService.decryptAccountNumber(LEGACY_ACCOUNT_NUMBER));
+        assertTrue(encryptionService.isLegacyCiphertext(LEGACY_NOTES));
+        assertTrue(encryptionService.needsReEncryption(LEGACY_NOTES));
+    }
+
+    @Test
+    void testValuesWithoutThePrefixArePlainTextByDefault() {
+        // Given
+        EncryptionService encryptionService = encryptionService(false);
+
+        // When / Then
+        assertEquals(LEGACY_NOTES, encryptionService.decrypt(LEGACY_NOTES));
+        assertEquals("123456789012", encryptionService.decryptAccountNumber("123456789012"));
+        assertFalse(encryptionService.isLegacyCiphertext(LEGACY_NOTES));
+        assertFalse(encryptionService.needsReEncryption(LEGACY_NOTES));
+    }
+
+    @Test
+    void testNotesAreOnlyDecryptedWithTheGcmPrefix() {
+        // Given
+        EncryptionService encryptionService = encryptionService(true);
+        String encrypted = encryptionService.encryptNotes("credit card ending 4471");
+
+        // When / Then
+        assertTrue(encryptionService.isEncrypted(encrypted));
+        assertEquals("credit card ending 4471", encryptionService.decryptNotes(encrypted));
+        assertEquals("lunch with team", encryptionService.decryptNotes("lunch with team"));
+        assertEquals(LEGACY_NOTES, encryptionService.decryptNotes(LEGACY_NOTES));
+        assertFalse(encryptionService.isLegacyCiphertext("lunch with team"));
+        assertFalse(encryptionService.isLegacyCiphertext("Zm9vYmFy"));
+        assertFalse(encryptionService.needsReEncryption(encrypted));
+    }
+
+    @Test
+    void testBlindIndexDoesNotChangeWhenTheEncryptionKeyRotates() {
+        // Given
+        EncryptionService before = encryptionService(false);
+        EncryptionService after = encryptionService(false);
+        ReflectionTestUtils.setField(after, "encryptionKey", "rotated-encryption-key-0123456789abcdef");
+        ReflectionTestUtils.setField(after, "encryptionSalt", "rotated-salt-0123456789");
+        ReflectionTestUtils.setField(after, "encryptionKeyId", 2);
+        ReflectionTestUtils.invokeMethod(after, "initializeEncryptor");
+
+        // When / Then
+        assertEquals(before.accountNumberIndex("1234-5678-9012"), after.accountNumberIndex("1234-5678-9012"));
+    }
+
+    @Test
+    void testMissingBlindIndexSaltFailsStartup() {
+        // Given
+        EncryptionService service = new EncryptionService();
+        ReflectionTestUtils.setField(service, "encryptionKey", KEY);
+        ReflectionTestUtils.setField(service, "encryptionSalt", "test-salt-0123456789");
+        ReflectionTestUtils.setField(service, "encryptionKeyId", 1);
+        ReflectionTestUtils.setField(service, "blindIndexKey", "test-blind-index-key-0123456789abc");
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> ReflectionTestUtils.invokeMethod(service, "initializeEncryptor"));
+    }
+
+    private static EncryptionService encryptionService(boolean legacyRead) {
+        EncryptionService service = new EncryptionService();
+        ReflectionTestUtils.setField(service, "encryptionKey", KEY);
+        ReflectionTestUtils.setField(service, "encryptionSalt", "test-salt-0123456789");
+        ReflectionTestUtils.setField(service, "encryptionKeyId", 1);
+        ReflectionTestUtils.setField(service, "blindIndexKey", "test-blind-index-key-0123456789abc");
+        ReflectionTestUtils.setField(service, "blindIndexSalt", "test-blind-index-salt");
+        ReflectionTestUtils.setField(service, "legacyReadEnabled", legacyRead);
+        ReflectionTestUtils.invokeMethod(service, "initializeEncryptor");
+        return service;
+    }
+}
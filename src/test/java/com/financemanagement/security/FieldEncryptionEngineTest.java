@@ -0,0 +1,82 @@
+package com.financemanagement.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldEncryptionEngineTest {
+
+    private SecretKey firstKey;
+    private SecretKey secondKey;
+    private FieldEncryptionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        firstKey = FieldEncryptionEngine.deriveKey("first-test-key-0123456789abcdef0123", "first-salt-012345");
+        secondKey = FieldEncryptionEngine.deriveKey("second-test-key-0123456789abcdef012", "second-salt-01234");
+        engine = new FieldEncryptionEngine(1, Map.of(1, firstKey));
+    }
+
+    @Test
+    void testRoundTripWithHeaderAndFreshIv() {
+        // When
+        String first = engine.encrypt("4111111111111111");
+        String second = engine.encrypt("4111111111111111");
+
+        // Then
+        assertTrue(first.startsWith(FieldEncryptionEngine.PREFIX));
+        assertNotEquals(first, second);
+        assertEquals(1, FieldEncryptionEngine.keyIdOf(first));
+        assertEquals("4111111111111111", engine.decrypt(first));
+        assertEquals("4111111111111111", engine.decrypt(second));
+    }
+
+    @Test
+    void testTamperedCiphertextIsRejected() {
+        // Given
+        String encrypted = engine.encrypt("secret note");
+        int position = encrypted.length() - 6;
+        char replacement = encrypted.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = encrypted.substring(0, position) + replacement + encrypted.substring(position + 1);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> engine.decrypt(tampered));
+    }
+
+    @Test
+    void testBulkApisPreserveOrderNullsAndPlainValues() {
+        // Given
+        List<String> plain = Arrays.asList("a", null, "ünïcödé", "");
+        List<String> encrypted = engine.encryptAll(plain);
+
+        // When
+        List<String> mixed = Arrays.asList(encrypted.get(0), null, "not encrypted", encrypted.get(2));
+        List<String> decrypted = engine.decryptAll(mixed);
+
+        // Then
+        assertNull(encrypted.get(1));
+        assertEquals(Arrays.asList("a", null, "not encrypted", "ünïcödé"), decrypted);
+        assertEquals("", engine.decrypt(encrypted.get(3)));
+    }
+
+    @Test
+    void testValuesUnderPreviousKeyStayReadableAfterRotation() {
+        // Given
+        String underFirstKey = engine.encrypt("1234567890");
+        FieldEncryptionEngine rotated = new FieldEncryptionEngine(2, Map.of(1, firstKey, 2, secondKey));
+
+        // When
+        String underSecondKey = rotated.encrypt("1234567890");
+
+        // Then
+        assertEquals("1234567890", rotated.decrypt(underFirstKey));
+        assertEquals(2, FieldEncryptionEngine.keyIdOf(underSecondKey));
+        assertThrows(IllegalStateException.class, () -> engine.decrypt(underSecondKey));
+    }
+}
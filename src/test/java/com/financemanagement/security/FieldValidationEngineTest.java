@@ -0,0 +1,115 @@
+package com.financemanagement.security;
+
+import com.financemanagement.dto.TransactionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldValidationEngineTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+            "Mortgage Payment", "  padded  ", "Hydro, Q1 (paid)", "tab\there", "Tom & Jerry", "<script>", "Café",
+            "", "   ", null, "a".repeat(100), "a".repeat(101), "a".repeat(255), "a".repeat(256), "vt\u000Bchar");
+
+    private static final List<String> AMOUNTS = Arrays.asList(
+            "123.45", "-123.45", "0.00", " 7 ", "999999.99", "-999999.99", "1000000", "999999.995", "123.456",
+            "abc", "12.", ".5", "-", "1.5", "00012.30", "", null, "99999999999999999999");
+
+    private InputValidationService inputValidationService;
+    private FieldValidationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        inputValidationService = new InputValidationService();
+        engine = new FieldValidationEngine();
+    }
+
+    @Test
+    void testNameFieldsMatchInputValidationService() {
+        for (String name : NAMES) {
+            assertSameOutcome(name, inputValidationService::sanitizeDescription, engine::sanitizeDescription);
+            assertSameOutcome(name, inputValidationService::sanitizeAccountName, engine::sanitizeAccountName);
+            assertSameOutcome(name, inputValidationService::sanitizeInstitution, engine::sanitizeInstitution);
+            assertSameOutcome(name, inputValidationService::sanitizeNotes, engine::sanitizeNotes);
+        }
+    }
+
+    @Test
+    void testAmountsMatchInputValidationService() {
+        for (String amount : AMOUNTS) {
+            assertSameOutcome(amount,
+                    value -> {
+                        inputValidationService.validateAmount(value);
+                        return "valid";
+                    },
+                    value -> {
+                        engine.validateAmount(value);
+                        return "valid";
+                    });
+        }
+    }
+
+    @Test
+    void testCleanInputIsReturnedWithoutCopying() {
+        // Given
+        String description = "Groceries - weekly shop";
+
+        // When / Then
+        assertSame(description, engine.sanitizeDescription(description));
+        assertSame(description, engine.sanitizeNotes(description));
+    }
+
+    @Test
+    void testBatchReportsEveryErrorAndSanitizesInPlace() {
+        // Given
+        TransactionDTO valid = transaction("  Rent  ", new BigDecimal("1500.00"), "EXPENSE");
+        TransactionDTO invalid = transaction("Tom & Jerry", new BigDecimal("1500.001"), "NOPE");
+        invalid.setAccountId("not-a-uuid");
+
+        // When
+        List<ValidationError> errors = engine.validateTransactions(List.of(valid, invalid));
+
+        // Then
+        assertEquals("Rent", valid.getDescription());
+        assertEquals(List.of("description", "amount", "transactionType", "accountId"),
+                errors.stream().map(ValidationError::field).toList());
+        assertTrue(errors.stream().allMatch(error -> error.row() == 1));
+        assertEquals("Invalid transaction type: NOPE", errors.get(2).message());
+    }
+
+    private static TransactionDTO transaction(String description, BigDecimal amount, String type) {
+        return TransactionDTO.builder()
+                .description(description)
+                .amount(amount)
+                .transactionType(type)
+                .category("GROCERIES")
+                .accountId("123e4567-e89b-12d3-a456-426614174000")
+                .transactionDate(LocalDate.of(2024, 1, 15))
+                .scheduledDate(LocalDate.of(2024, 1, 15))
+                .build();
+    }
+
+    private static void assertSameOutcome(String input, Function<String, String> expected,
+                                          Function<String, String> actual) {
+        String expectedResult;
+        try {
+            expectedResult = expected.apply(input);
+        } catch (IllegalArgumentException e) {
+            expectedResult = "error: " + e.getMessage();
+        }
+        String actualResult;
+        try {
+            actualResult = actual.apply(input);
+        } catch (IllegalArgumentException e) {
+            actualResult = "error: " + e.getMessage();
+        }
+        assertEquals(expectedResult, actualResult, "Outcome differs for input <" + input + ">");
+    }
+}
@@ -0,0 +1,104 @@
+package com.financemanagement.service;
+
+import com.financemanagement.repository.AccountStatisticsRepository;
+import com.financemanagement.repository.AccountStatisticsRepository.BalanceTotalRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountStatisticsServiceTest {
+
+    @Mock
+    private AccountStatisticsRepository accountStatisticsRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountStatisticsService accountStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountStatisticsService = new AccountStatisticsService(accountStatisticsRepository, transactionTemplate,
+                meterRegistry);
+    }
+
+    @Test
+    void foldsTypeAndCurrencyTotalsFromOneRead() {
+        // Given
+        when(accountStatisticsRepository.findBalanceTotals("ACTIVE")).thenReturn(List.of(
+                row("MAIN", "CAD", 2, "1500.00"),
+                row("MAIN", "USD", 1, "200.00"),
+                row("SAVINGS", "CAD", 1, "10000.00")));
+
+        // When
+        AccountStatisticsService.AccountStatistics statistics = accountStatisticsService.getAccountStatistics();
+
+        // Then
+        assertEquals(new BigDecimal("11700.00"), statistics.getTotalBalance());
+        assertEquals(4, statistics.getTotalAccounts());
+        assertEquals(List.of(
+                new AccountStatisticsService.BalanceTotal("MAIN", 3, new BigDecimal("1700.00")),
+                new AccountStatisticsService.BalanceTotal("SAVINGS", 1, new BigDecimal("10000.00"))),
+                statistics.getBalanceByType());
+        assertEquals(List.of(
+                new AccountStatisticsService.BalanceTotal("CAD", 3, new BigDecimal("11500.00")),
+                new AccountStatisticsService.BalanceTotal("USD", 1, new BigDecimal("200.00"))),
+                statistics.getBalanceByCurrency());
+        verify(accountStatisticsRepository, times(1)).findBalanceTotals(any());
+    }
+
+    @Test
+    void countsTheGroupsTheReconciliationCorrected() {
+        // Given
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(accountStatisticsRepository.correctDrift()).thenReturn(0, 2);
+
+        // When
+        accountStatisticsService.reconcile();
+        accountStatisticsService.reconcile();
+
+        // Then
+        verify(accountStatisticsRepository, times(2)).correctDrift();
+        assertEquals(2.0, meterRegistry.get("finance.account-statistics.drift").counter().count());
+    }
+
+    private static BalanceTotalRow row(String type, String currency, long accounts, String balance) {
+        return new BalanceTotalRow() {
+            @Override
+            public String getType() {
+                return type;
+            }
+
+            @Override
+            public String getCurrency() {
+                return currency;
+            }
+
+            @Override
+            public long getAccounts() {
+                return accounts;
+            }
+
+            @Override
+            public BigDecimal getBalance() {
+                return new BigDecimal(balance);
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.financemanagement.service;
+
+import com.financemanagement.config.FinanceTimers;
+import com.financemanagement.domain.Account;
+import com.financemanagement.dto.AccountDTO;
+import com.financemanagement.mapper.AccountMapper;
+import com.financemanagement.mapper.TransactionMapper;
+import com.financemanagement.repository.AccountRepository;
+import com.financemanagement.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchLookupServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    private BatchLookupService batchLookupService;
+
+    @BeforeEach
+    void setUp() {
+        batchLookupService = new BatchLookupService(redisTemplate, accountRepository, transactionRepository,
+                accountMapper, transactionMapper, new FinanceTimers(new SimpleMeterRegistry(), false));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void loadsOnlyCacheMissesWithOneQuery() {
+        // Given
+        AccountDTO cached = AccountDTO.builder().id("acc-1").build();
+        when(valueOperations.multiGet(List.of("accounts::acc-1", "accounts::acc-2", "accounts::acc-3")))
+                .thenReturn(Arrays.asList(cached, null, null));
+        Account loaded = Account.builder().id("acc-2").build();
+        when(accountRepository.findAllById(List.of("acc-2", "acc-3"))).thenReturn(List.of(loaded));
+        when(accountMapper.toDTO(loaded)).thenReturn(AccountDTO.builder().id("acc-2").build());
+
+        // When
+        Map<String, AccountDTO> accounts = batchLookupService.getAccountsByIds(List.of("acc-1", "acc-2", "acc-3"));
+
+        // Then
+        assertEquals(List.of("acc-1", "acc-2"), List.copyOf(accounts.keySet()));
+        assertSame(cached, accounts.get("acc-1"));
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void fallsBackToTheDatabaseWhenRedisIsDown() {
+        // Given
+        when(valueOperations.multiGet(any())).thenThrow(new RedisConnectionFailureException("down"));
+        Account loaded = Account.builder().id("acc-1").build();
+        when(accountRepository.findAllById(List.of("acc-1"))).thenReturn(List.of(loaded));
+        when(accountMapper.toDTO(loaded)).thenReturn(AccountDTO.builder().id("acc-1").build());
+
+        // When
+        Map<String, AccountDTO> accounts = batchLookupService.getAccountsByIds(List.of("acc-1", "acc-1"));
+
+        // Then
+        assertEquals(1, accounts.size());
+        verify(accountRepository).findAllById(List.of("acc-1"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.Currency;
+import com.financemanagement.repository.AccountStatisticsRepository;
+import com.financemanagement.repository.AccountStatisticsRepository.BalanceTotalRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsolidationServiceTest {
+
+    @Mock
+    private AccountStatisticsRepository accountStatisticsRepository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @InjectMocks
+    private ConsolidationService consolidationService;
+
+    @BeforeEach
+    void setUp() {
+        // Served newest first, as the dollar-price service does
+        when(exchangeRateService.getRates()).thenReturn(ExchangeRateService.toTable(List.of(
+                new ExchangeRateService.PricePoint(new BigDecimal("1.3600"), Instant.parse("2024-03-02T00:00:00Z")),
+                new ExchangeRateService.PricePoint(new BigDecimal("1.3500"), Instant.parse("2024-03-01T00:00:00Z")))));
+        when(accountStatisticsRepository.findBalanceTotals("ACTIVE")).thenReturn(List.of(
+                row("MAIN", "CAD", 2, "1000.00"),
+                row("SAVINGS", "USD", 1, "500.00"),
+                row("MAIN", "USD", 1, "100.00"),
+                row("SAVINGS", "EUR", 1, "200.00")));
+    }
+
+    @Test
+    void convertsAtTheRateInEffectOnTheDate() {
+        // When
+        ConsolidationService.NetWorth netWorth = consolidationService.getNetWorth(Currency.CAD, LocalDate.of(2024, 3, 1));
+
+        // Then
+        assertEquals(new BigDecimal("1810.00"), netWorth.getTotal());
+        assertEquals(4, netWorth.getAccounts());
+        assertEquals(List.of(
+                new AccountStatisticsService.BalanceTotal("MAIN", 3, new BigDecimal("1135.00")),
+                new AccountStatisticsService.BalanceTotal("SAVINGS", 1, new BigDecimal("675.00"))),
+                netWorth.getByType());
+        assertEquals(List.of(Currency.EUR), netWorth.getUnconverted());
+        verify(accountStatisticsRepository, times(1)).findBalanceTotals("ACTIVE");
+    }
+
+    @Test
+    void convertsIntoOtherBaseCurrenciesThroughThePivot() {
+        // When
+        ConsolidationService.NetWorth netWorth = consolidationService.getNetWorth(Currency.USD, LocalDate.of(2024, 6, 30));
+
+        // Then: 1000 CAD at 1.36 CAD per USD, plus 600 USD
+        assertEquals(new BigDecimal("1335.29"), netWorth.getTotal());
+        ConsolidationService.CurrencyTotal usd = netWorth.getByCurrency().get(1);
+        assertEquals(Currency.USD, usd.getCurrency());
+        assertEquals(BigDecimal.ONE, usd.getRate());
+        assertEquals(new BigDecimal("600.00"), usd.getConverted());
+    }
+
+    @Test
+    void leavesCurrenciesOutBeforeTheirFirstRate() {
+        // When
+        ConsolidationService.NetWorth netWorth = consolidationService.getNetWorth(Currency.CAD, LocalDate.of(2024, 2, 29));
+
+        // Then
+        assertEquals(new BigDecimal("1000.00"), netWorth.getTotal());
+        assertEquals(List.of(Currency.USD, Currency.EUR), netWorth.getUnconverted());
+        assertNull(netWorth.getByCurrency().get(1).getConverted());
+        assertEquals(new BigDecimal("600.00"), netWorth.getByCurrency().get(1).getBalance());
+    }
+
+    private static BalanceTotalRow row(String type, String currency, long accounts, String balance) {
+        return new BalanceTotalRow() {
+            @Override
+            public String getType() {
+                return type;
+            }
+
+            @Override
+            public String getCurrency() {
+                return currency;
+            }
+
+            @Override
+            public long getAccounts() {
+                return accounts;
+            }
+
+            @Override
+            public BigDecimal getBalance() {
+                return new BigDecimal(balance);
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.financemanagement.service;
+
+import com.financemanagement.security.EncryptionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class KeyRotationServiceTest {
+
+    private static final String OLD_KEY = "old-encryption-key-0123456789abcdef";
+    private static final String NEW_KEY = "new-encryption-key-0123456789abcdef";
+
+    private EncryptionService oldEncryption;
+    private EncryptionService newEncryption;
+    private KeyRotationService keyRotationService;
+
+    @BeforeEach
+    void setUp() {
+        oldEncryption = encryptionService(OLD_KEY, 1, null);
+        newEncryption = encryptionService(NEW_KEY, 2, OLD_KEY);
+        keyRotationService = new KeyRotationService(mock(JdbcTemplate.class), mock(TransactionTemplate.class),
+                newEncryption, mock(DataSource.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testNotesUnderPreviousKeyAreRewrittenAndPlainNotesKept() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        String oldCiphertext = oldEncryption.encrypt("card pin 1234");
+        String current = newEncryption.encrypt("already rotated");
+        List<KeyRotationService.StoredValue> rows = List.of(
+                new KeyRotationService.StoredValue(id, oldCiphertext, null),
+                new KeyRotationService.StoredValue(UUID.randomUUID().toString(), current, null),
+                new KeyRotationService.StoredValue(UUID.randomUUID().toString(), "lunch with team", null));
+
+        // When
+        List<Object[]> updates = keyRotationService.reEncryptNotes(rows);
+
+        // Then
+        assertEquals(1, updates.size());
+        String rewritten = (String) updates.get(0)[0];
+        assertFalse(newEncryption.needsReEncryption(rewritten));
+        assertEquals("card pin 1234", newEncryption.decrypt(rewritten));
+        assertEquals(UUID.fromString(id), updates.get(0)[1]);
+        assertEquals(oldCiphertext, updates.get(0)[2]);
+    }
+
+    @Test
+    void testAccountNumbersAreRewrittenAndIndexed() {
+        // Given
+        String oldCiphertext = oldEncryption.encrypt("123456789012");
+        String current = newEncryption.encrypt("555566667777");
+        List<KeyRotationService.StoredValue> rows = List.of(
+                new KeyRotationService.StoredValue(UUID.randomUUID().toString(), oldCiphertext, "stale"),
+                new KeyRotationService.StoredValue(UUID.randomUUID().toString(), "9876-5432-1098", null),
+                new KeyRotationService.StoredValue(UUID.randomUUID().toString(), current,
+                        newEncryption.accountNumberIndex("555566667777")),
+                new KeyRotationService.StoredValue(UUID.randomUUID().toString(), current, null));
+
+        // When
+        List<Object[]> updates = keyRotationService.reEncryptAccountNumbers(rows);
+
+        // Then
+        assertEquals(3, updates.size());
+        assertEquals("123456789012", newEncryption.decrypt((String) updates.get(0)[0]));
+        assertEquals(newEncryption.accountNumberIndex("123456789012"), updates.get(0)[1]);
+        assertEquals("9012", updates.get(0)[2]);
+
+        assertEquals("987654321098", newEncryption.decrypt((String) updates.get(1)[0]));
+        assertEquals("1098", updates.get(1)[2]);
+
+        // A current ciphertext without an index keeps its value and only gains the index
+        assertEquals(current, updates.get(2)[0]);
+        assertEquals(newEncryption.accountNumberIndex("555566667777"), updates.get(2)[1]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStartupBackfillIndexesAccountsWrittenBeforeTheBlindIndex() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        KeyRotationService service = new KeyRotationService(jdbcTemplate, transactionTemplate, newEncryption,
+                mock(DataSource.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "indexBackfillOnStartup", true);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+
+        String firstId = UUID.randomUUID().toString();
+        String secondId = UUID.randomUUID().toString();
+        String thirdId = UUID.randomUUID().toString();
+        when(jdbcTemplate.query(eq(KeyRotationService.UNINDEXED_ACCOUNTS_SQL), any(RowMapper.class), any(), any()))
+                .thenReturn(List.of(
+                        new KeyRotationService.StoredValue(firstId, "1234 5678 9012", null),
+                        new KeyRotationService.StoredValue(secondId, newEncryption.encrypt("555566667777"), null)))
+                .thenReturn(List.of(new KeyRotationService.StoredValue(thirdId, "444455556666", null)))
+                .thenReturn(List.of());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(jdbcTemplate.batchUpdate(eq(KeyRotationService.ACCOUNTS.updateSql()), anyList()))
+                .thenAnswer(invocation -> {
+                    int[] counts = new int[invocation.<List<Object[]>>getArgument(1).size()];
+                    Arrays.fill(counts, 1);
+                    return counts;
+                });
+
+        // When
+        long indexed = service.backfillAccountNumberIndex();
+
+        // Then
+        assertEquals(3, indexed);
+        verify(jdbcTemplate).query(eq(KeyRotationService.UNINDEXED_ACCOUNTS_SQL), any(RowMapper.class),
+                eq(UUID.fromString(secondId)), eq(2));
+        verify(jdbcTemplate).batchUpdate(eq(KeyRotationService.ACCOUNTS.updateSql()),
+                argThat((List<Object[]> updates) -> updates.size() == 1
+                        && updates.get(0)[1].equals(newEncryption.accountNumberIndex("444455556666"))
+                        && "6666".equals(updates.get(0)[2])));
+    }
+
+    @Test
+    void testStartupBackfillCanBeSwitchedOff() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        KeyRotationService service = new KeyRotationService(jdbcTemplate, mock(TransactionTemplate.class),
+                newEncryption, mock(DataSource.class), new SimpleMeterRegistry());
+
+        // When
+        long indexed = service.backfillAccountNumberIndex();
+
+        // Then
+        assertEquals(0, indexed);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static EncryptionService encryptionService(String key, int keyId, String previousKey) {
+        EncryptionService service = new EncryptionService();
+        ReflectionTestUtils.setField(service, "encryptionKey", key);
+        ReflectionTestUtils.setField(service, "encryptionSalt", "test-salt-0123456789");
+        ReflectionTestUtils.setField(service, "encryptionKeyId", keyId);
+        ReflectionTestUtils.setField(service, "blindIndexKey", "test-blind-index-key-0123456789abc");
+        ReflectionTestUtils.setField(service, "blindIndexSalt", "test-blind-index-salt");
+        ReflectionTestUtils.setField(service, "legacyReadEnabled", false);
+        if (previousKey != null) {
+            ReflectionTestUtils.setField(service, "previousEncryptionKey", previousKey);
+            ReflectionTestUtils.setField(service, "previousEncryptionSalt", "test-salt-0123456789");
+            ReflectionTestUtils.setField(service, "previousEncryptionKeyId", 1);
+        }
+        ReflectionTestUtils.invokeMethod(service, "initializeEncryptor");
+        return service;
+    }
+}
@@ -0,0 +1,180 @@
+package com.financemanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financemanagement.domain.events.AccountBalanceChangedEvent;
+import com.financemanagement.domain.events.TransactionStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LiveFeedBrokerTest {
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private LiveFeedBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broker = new LiveFeedBroker(new ObjectMapper().findAndRegisterModules(), pendingDrains::add, meterRegistry,
+                (LiveFeedRelay) null, 2, 3, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void publishesOnlyToSubscribersOfTheAccount() {
+        // Given
+        broker.subscribe("account-1");
+        broker.subscribe("account-2");
+
+        // When
+        broker.balanceChanged(balanceEvent("account-1"));
+
+        // Then
+        assertEquals(1, pendingDrains.size());
+    }
+
+    @Test
+    void publishesChangesOnlyOnceTheTransactionCommits() {
+        // Given
+        broker.subscribe("account-1");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            broker.balanceChanged(balanceEvent("account-1"));
+
+            // Then
+            assertTrue(pendingDrains.isEmpty());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, pendingDrains.size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void neverPublishesChangesThatAreRolledBack() {
+        // Given
+        broker.subscribe("account-1");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            broker.balanceChanged(balanceEvent("account-1"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertTrue(pendingDrains.isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void queuesOneDrainPerSubscriberWhileItIsPending() {
+        // Given
+        broker.subscribe("account-1");
+
+        // When
+        broker.balanceChanged(balanceEvent("account-1"));
+        broker.statusChanged(TransactionStatusChangedEvent.builder().transactionId("tx-1").accountId("account-1")
+                .status("COMPLETED").build());
+
+        // Then
+        assertEquals(1, pendingDrains.size());
+    }
+
+    @Test
+    void dropsSubscriberWhoseBufferIsFull() {
+        // Given
+        broker.subscribe("account-1");
+
+        // When
+        broker.balanceChanged(balanceEvent("account-1"));
+        broker.balanceChanged(balanceEvent("account-1"));
+        broker.balanceChanged(balanceEvent("account-1"));
+
+        // Then
+        assertEquals(0, broker.getSubscriberCount());
+        assertEquals(1, meterRegistry.find("finance.feed.dropped").tag("reason", "slow").counter().count());
+    }
+
+    @Test
+    void rejectsSubscribersAboveTheLimit() {
+        // Given
+        broker.subscribe("account-1");
+        broker.subscribe("account-1");
+        broker.subscribe("account-2");
+
+        // When / Then
+        assertTrue(broker.subscribe("account-3").isEmpty());
+        assertEquals(3, broker.getSubscriberCount());
+    }
+
+    @Test
+    void relaysEventsThroughRedisAndDeliversWhatTheChannelBrings() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        LiveFeedRelay relay = new LiveFeedRelay(redisTemplate, objectMapper, meterRegistry, "finance:feed");
+        LiveFeedBroker publishing = new LiveFeedBroker(objectMapper, pendingDrains::add, meterRegistry, relay,
+                2, 3, Duration.ofMinutes(1));
+        LiveFeedBroker receiving = new LiveFeedBroker(objectMapper, pendingDrains::add, meterRegistry, relay,
+                2, 3, Duration.ofMinutes(1));
+        receiving.subscribe("account-1");
+
+        // When: the node without subscribers handles the event
+        publishing.balanceChanged(balanceEvent("account-1"));
+
+        // Then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("finance:feed"), message.capture());
+        assertTrue(pendingDrains.isEmpty());
+
+        relay.listener(receiving).onMessage(new DefaultMessage("finance:feed".getBytes(StandardCharsets.UTF_8),
+                message.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        assertEquals(1, pendingDrains.size());
+    }
+
+    @Test
+    void deliversLocallyWhenTheRelayFails() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new RedisConnectionFailureException("down"));
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        LiveFeedBroker relaying = new LiveFeedBroker(objectMapper, pendingDrains::add, meterRegistry,
+                new LiveFeedRelay(redisTemplate, objectMapper, meterRegistry, "finance:feed"),
+                2, 3, Duration.ofMinutes(1));
+        relaying.subscribe("account-1");
+
+        // When
+        relaying.balanceChanged(balanceEvent("account-1"));
+
+        // Then
+        assertEquals(1, pendingDrains.size());
+        assertEquals(1, meterRegistry.find("finance.feed.relay.failures").counter().count());
+    }
+
+    private static AccountBalanceChangedEvent balanceEvent(String accountId) {
+        return AccountBalanceChangedEvent.builder()
+                .accountId(accountId)
+                .previousBalance(new BigDecimal("100.00"))
+                .currentBalance(new BigDecimal("75.00"))
+                .currency("CAD")
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.financemanagement.service;
+
+import com.financemanagement.domain.SyncChange;
+import com.financemanagement.domain.Transaction;
+import com.financemanagement.dto.SyncResponse;
+import com.financemanagement.dto.TransactionDTO;
+import com.financemanagement.mapper.AccountMapper;
+import com.financemanagement.mapper.TransactionMapper;
+import com.financemanagement.repository.AccountRepository;
+import com.financemanagement.repository.SyncChangeRepository;
+import com.financemanagement.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    @Test
+    void asksForFullResyncWithoutWatermark() {
+        // Given
+        when(syncChangeRepository.findPurgedThrough()).thenReturn(0L);
+        when(syncChangeRepository.findLatestSequence()).thenReturn(120L);
+
+        // When
+        SyncResponse response = syncService.getChangesSince(0, 100);
+
+        // Then
+        assertTrue(response.isResyncRequired());
+        assertEquals(120L, response.getWatermark());
+        verify(syncChangeRepository, never()).findChangesSince(anyLong(), any());
+    }
+
+    @Test
+    void asksForFullResyncWhenTheWatermarkWasPurged() {
+        // Given
+        when(syncChangeRepository.findPurgedThrough()).thenReturn(500L);
+        when(syncChangeRepository.findLatestSequence()).thenReturn(900L);
+
+        // When
+        SyncResponse response = syncService.getChangesSince(499, 100);
+
+        // Then
+        assertTrue(response.isResyncRequired());
+    }
+
+    @Test
+    void returnsLatestStateOncePerEntityAndTombstonesForDeletes() {
+        // Given
+        when(syncChangeRepository.findPurgedThrough()).thenReturn(0L);
+        when(syncChangeRepository.findChangesSince(eq(10L), any())).thenReturn(List.of(
+                change(11, SyncChange.TRANSACTION, "tx-1", "UPSERT"),
+                change(12, SyncChange.TRANSACTION, "tx-1", "UPSERT"),
+                change(13, SyncChange.TRANSACTION, "tx-2", "UPSERT"),
+                change(14, SyncChange.TRANSACTION, "tx-2", SyncChange.DELETE)));
+        Transaction transaction = Transaction.builder().id("tx-1").build();
+        when(transactionRepository.findAllById(List.of("tx-1"))).thenReturn(List.of(transaction));
+        when(transactionMapper.toDTO(transaction)).thenReturn(TransactionDTO.builder().id("tx-1").build());
+
+        // When
+        SyncResponse response = syncService.getChangesSince(10, 4);
+
+        // Then
+        assertEquals(14L, response.getWatermark());
+        assertTrue(response.isHasMore());
+        assertEquals(1, response.getTransactions().size());
+        assertEquals("tx-2", response.getDeleted().get(0).getId());
+        assertTrue(response.getAccounts().isEmpty());
+    }
+
+    @Test
+    void keepsTheWatermarkWhenNothingChanged() {
+        // Given
+        when(syncChangeRepository.findPurgedThrough()).thenReturn(0L);
+        when(syncChangeRepository.findChangesSince(eq(42L), any())).thenReturn(List.of());
+
+        // When
+        SyncResponse response = syncService.getChangesSince(42, 100);
+
+        // Then
+        assertEquals(42L, response.getWatermark());
+        assertFalse(response.isHasMore());
+    }
+
+    private static SyncChange change(long sequence, String type, String id, String operation) {
+        return SyncChange.builder()
+                .id(sequence)
+                .sequence(sequence)
+                .entityType(type)
+                .entityId(id)
+                .accountId("acc-1")
+                .operation(operation)
+                .build();
+    }
+}
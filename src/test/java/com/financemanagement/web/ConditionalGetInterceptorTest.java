@@ -0,0 +1,147 @@
+package com.financemanagement.web;
+
+import com.financemanagement.domain.Currency;
+import com.financemanagement.service.AccountService;
+import com.financemanagement.service.ExchangeRateService;
+import com.financemanagement.service.ExchangeRateTable;
+import com.financemanagement.service.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ConditionalGetInterceptor(accountService, transactionService, exchangeRateService,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void answersNotModifiedWhenTheAccountVersionMatches() {
+        // Given
+        when(accountService.getAccountVersion("acc-1")).thenReturn(Optional.of(7L));
+        MockHttpServletRequest request = request("/api/v1/accounts/{accountId}", Map.of("accountId", "acc-1"));
+        request.addHeader("If-None-Match", "W/\"a-acc-1-7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+        verify(accountService, never()).getAccountById(any());
+    }
+
+    @Test
+    void setsTheETagAndProceedsWhenTheVersionChanged() {
+        // Given
+        when(accountService.getTransactionsChangeCount("acc-1")).thenReturn(Optional.of(42L));
+        MockHttpServletRequest request = request("/api/v1/transactions/account/{accountId}/date-range",
+                Map.of("accountId", "acc-1"));
+        request.addHeader("If-None-Match", "W/\"at-acc-1-41\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertTrue(proceed);
+        assertEquals("W/\"at-acc-1-42\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void proceedsWithoutETagWhenTheResourceDoesNotExist() {
+        // Given
+        when(transactionService.getTransactionVersion("tx-1")).thenReturn(Optional.empty());
+        MockHttpServletRequest request = request("/api/v1/transactions/{transactionId}",
+                Map.of("transactionId", "tx-1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertTrue(proceed);
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void tagsTheAccountListItself() {
+        // Given
+        when(accountService.getAccountsVersion()).thenReturn("3-12-2024-03-01T10:15:30");
+        MockHttpServletRequest request = request("/api/v1/accounts", Map.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertTrue(proceed);
+        assertEquals("W/\"as-all-3-12-2024-03-01T10:15:30\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void netWorthChangesWithTheExchangeRates() {
+        // Given
+        when(accountService.getAccountsVersion()).thenReturn("3-12-2024-03-01T10:15:30");
+        when(exchangeRateService.getRates()).thenReturn(ExchangeRateTable.builder()
+                .add(Currency.USD, Instant.ofEpochMilli(1000), new BigDecimal("1.35"))
+                .build());
+        MockHttpServletRequest request = request("/api/v1/accounts/net-worth", Map.of());
+        request.addHeader("If-None-Match", "W/\"as-all-3-12-2024-03-01T10:15:30\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertTrue(proceed);
+        assertEquals("W/\"nw-1000-3-12-2024-03-01T10:15:30\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void ignoresWrites() {
+        // Given
+        MockHttpServletRequest request = request("/api/v1/accounts/{accountId}", Map.of("accountId", "acc-1"));
+        request.setMethod("PUT");
+
+        // When / Then
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        verifyNoInteractions(accountService);
+    }
+
+    private static MockHttpServletRequest request(String pattern, Map<String, String> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package com.financemanagement.web;
+
+import com.financemanagement.api.v1.Decimal;
+import com.financemanagement.api.v1.Transaction;
+import com.financemanagement.dto.TransactionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtobufDtoHttpMessageConverterTest {
+
+    private final ProtobufDtoHttpMessageConverter converter = new ProtobufDtoHttpMessageConverter();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void writesListsAsLengthDelimitedMessages() throws Exception {
+        // Given
+        List<TransactionDTO> transactions = List.of(
+                transaction("tx-1", "-42.50", LocalDate.of(2024, 3, 1)),
+                transaction("tx-2", "1000.00", LocalDate.of(2024, 3, 2)));
+        Type type = ResolvableType.forClassWithGenerics(List.class, TransactionDTO.class).getType();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(transactions, type, ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, output);
+
+        // Then
+        ByteArrayInputStream input = new ByteArrayInputStream(output.getBodyAsBytes());
+        Transaction first = Transaction.parseDelimitedFrom(input);
+        Transaction second = Transaction.parseDelimitedFrom(input);
+        assertNull(Transaction.parseDelimitedFrom(input));
+        assertEquals("tx-1", first.getId());
+        assertEquals(new BigDecimal("-42.50"), decimal(first.getAmount()));
+        assertEquals(LocalDate.of(2024, 3, 1).toEpochDay(), first.getTransactionDate());
+        assertFalse(first.getIncome());
+        assertEquals("tx-2", second.getId());
+        assertEquals(new BigDecimal("1000.00"), decimal(second.getAmount()));
+        assertTrue(second.getIncome());
+    }
+
+    @Test
+    void writesASingleDtoAsOneBareMessage() throws Exception {
+        // Given
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(transaction("tx-1", "12.00", LocalDate.of(2024, 5, 1)), TransactionDTO.class,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, output);
+
+        // Then
+        Transaction parsed = Transaction.parseFrom(output.getBodyAsBytes());
+        assertEquals("Payment tx-1", parsed.getDescription());
+        assertEquals("INCOME", parsed.getTransactionType());
+    }
+
+    @Test
+    void appliesTheRequestedFieldSelection() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("fields", "id,amount");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(transaction("tx-1", "5.00", LocalDate.of(2024, 3, 1)), TransactionDTO.class,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, output);
+
+        // Then
+        Transaction parsed = Transaction.parseFrom(output.getBodyAsBytes());
+        assertEquals("tx-1", parsed.getId());
+        assertEquals(new BigDecimal("5.00"), decimal(parsed.getAmount()));
+        assertEquals("", parsed.getDescription());
+        assertEquals(0, parsed.getTransactionDate());
+        assertFalse(parsed.getIncome());
+    }
+
+    @Test
+    void compactViewLeavesOutDerivedFields() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("view", "compact");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(transaction("tx-1", "5.00", LocalDate.of(2024, 3, 1)), TransactionDTO.class,
+                ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, output);
+
+        // Then
+        Transaction parsed = Transaction.parseFrom(output.getBodyAsBytes());
+        assertEquals("Payment tx-1", parsed.getDescription());
+        assertEquals(LocalDate.of(2024, 3, 1).toEpochDay(), parsed.getTransactionDate());
+        assertFalse(parsed.getIncome());
+    }
+
+    @Test
+    void writesPageTotalsAsHeaders() throws Exception {
+        // Given
+        PageImpl<TransactionDTO> page = new PageImpl<>(
+                List.of(transaction("tx-1", "1.00", LocalDate.of(2024, 1, 1))), PageRequest.of(0, 1), 5);
+        Type type = ResolvableType.forClassWithGenerics(PageImpl.class, TransactionDTO.class).getType();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(page, type, ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF, output);
+
+        // Then
+        assertEquals("5", output.getHeaders().getFirst("X-Total-Count"));
+        assertEquals("5", output.getHeaders().getFirst("X-Total-Pages"));
+    }
+
+    @Test
+    void onlyWritesDtosAndCollectionsOfThem() {
+        // Given
+        Type summaries = ResolvableType.forClassWithGenerics(List.class, Object[].class).getType();
+        Type batch = ResolvableType.forClassWithGenerics(Map.class, String.class, TransactionDTO.class).getType();
+
+        // Then
+        assertFalse(converter.canWrite(summaries, List.class, ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(batch, Map.class, ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canRead(TransactionDTO.class, ProtobufDtoHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    private static BigDecimal decimal(Decimal decimal) {
+        return BigDecimal.valueOf(decimal.getUnscaled(), decimal.getScale());
+    }
+
+    private static TransactionDTO transaction(String id, String amount, LocalDate date) {
+        return TransactionDTO.builder()
+                .id(id)
+                .description("Payment " + id)
+                .amount(new BigDecimal(amount))
+                .transactionType(amount.startsWith("-") ? "EXPENSE" : "INCOME")
+                .transactionDate(date)
+                .isIncome(!amount.startsWith("-"))
+                .build();
+    }
+}